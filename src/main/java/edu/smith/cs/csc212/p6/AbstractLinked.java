@@ -0,0 +1,47 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * The fields {@linkplain Linked} needs, ready to extend:
+ *
+ * <pre>
+ * class Session extends AbstractLinked&lt;Session&gt; { ... }
+ * IntrusiveList&lt;Session&gt; sessions = new IntrusiveList&lt;&gt;();
+ * </pre>
+ *
+ * @param <T> - the class extending this.
+ */
+public abstract class AbstractLinked<T extends AbstractLinked<T>> implements Linked<T> {
+	private T before;
+	private T after;
+	private IntrusiveList<T> list;
+
+	@Override
+	public T getBefore() {
+		return before;
+	}
+
+	@Override
+	public void setBefore(T before) {
+		this.before = before;
+	}
+
+	@Override
+	public T getAfter() {
+		return after;
+	}
+
+	@Override
+	public void setAfter(T after) {
+		this.after = after;
+	}
+
+	@Override
+	public IntrusiveList<T> getList() {
+		return list;
+	}
+
+	@Override
+	public void setList(IntrusiveList<T> list) {
+		this.list = list;
+	}
+}
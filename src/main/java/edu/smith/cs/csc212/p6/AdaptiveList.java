@@ -0,0 +1,440 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list that picks its own data structure by watching how it is used.
+ *
+ * It starts as a {@linkplain GrowableList}. Every operation bumps a cheap
+ * counter for the part of the list it touched (front, middle, back, or a
+ * read). Once per window of operations it looks at the mix:
+ * <ul>
+ * <li>lots of middle adds/removes: switch to a {@linkplain TieredVector},</li>
+ * <li>otherwise, lots of front adds/removes: switch to a
+ * {@linkplain RingBufferList},</li>
+ * <li>otherwise (back and reads only): go back to a GrowableList.</li>
+ * </ul>
+ * Switching copies every item, so a window is never shorter than the list:
+ * the O(n) copy is paid for by at least n operations, O(1) each amortized.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class AdaptiveList<T> implements P6List<T> {
+	/**
+	 * The data structures we can switch between.
+	 */
+	public enum Representation {
+		ARRAY, RING, TIERED
+	}
+
+	/**
+	 * Never decide on fewer operations than this.
+	 */
+	public static int MIN_WINDOW = 64;
+	/**
+	 * Switch if more than 1/SHARE of the edits in a window hit that part.
+	 */
+	static final int SHARE = 4;
+
+	private P6List<T> list;
+	private Representation representation;
+	private long migrations;
+	private BiConsumer<Representation, Representation> listener;
+
+	private int frontEdits;
+	private int middleEdits;
+	private int backEdits;
+	private int operations;
+
+	public AdaptiveList() {
+		this.list = new GrowableList<>();
+		this.representation = Representation.ARRAY;
+	}
+
+	/**
+	 * @return which data structure holds the items right now.
+	 */
+	public Representation getRepresentation() {
+		return representation;
+	}
+
+	/**
+	 * @return how many times the list has switched data structure.
+	 */
+	public long getMigrationCount() {
+		return migrations;
+	}
+
+	/**
+	 * @param listener called with (from, to) after every switch, or null.
+	 */
+	public void setMigrationListener(BiConsumer<Representation, Representation> listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Count one operation and, at the end of a window, maybe switch.
+	 */
+	private void tick() {
+		operations++;
+		if (operations < Math.max(MIN_WINDOW, list.size())) {
+			return;
+		}
+		int edits = frontEdits + middleEdits + backEdits;
+		Representation wanted;
+		if (edits == 0) {
+			// only reads, which are O(1) everywhere: stay put.
+			wanted = representation;
+		} else if (middleEdits * SHARE > edits) {
+			wanted = Representation.TIERED;
+		} else if (frontEdits * SHARE > edits) {
+			wanted = Representation.RING;
+		} else {
+			wanted = Representation.ARRAY;
+		}
+		frontEdits = 0;
+		middleEdits = 0;
+		backEdits = 0;
+		operations = 0;
+		if (wanted != representation) {
+			migrate(wanted);
+		}
+	}
+
+	/**
+	 * Copy every item into a fresh list of the wanted kind.
+	 * Complexity: O(n)
+	 */
+	private void migrate(Representation wanted) {
+		P6List<T> next;
+		switch (wanted) {
+		case RING:
+			next = new RingBufferList<>();
+			break;
+		case TIERED:
+			next = new TieredVector<>();
+			break;
+		default:
+			next = new GrowableList<>();
+			break;
+		}
+		for (int i = 0; i < list.size(); i++) {
+			next.addBack(list.getIndex(i));
+		}
+		Representation old = representation;
+		list = next;
+		representation = wanted;
+		migrations++;
+		if (listener != null) {
+			listener.accept(old, wanted);
+		}
+	}
+
+	/**
+	 * Which counter does an edit at index (in a list of size n) belong to?
+	 */
+	private void countEdit(int index, int n) {
+		if (index == 0) {
+			frontEdits++;
+		} else if (index >= n) {
+			backEdits++;
+		} else {
+			middleEdits++;
+		}
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		T removed = list.removeFront();
+		frontEdits++;
+		tick();
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		T removed = list.removeBack();
+		backEdits++;
+		tick();
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		int n = list.size();
+		T removed = list.removeIndex(index);
+		countEdit(index, n - 1);
+		tick();
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		list.addFront(item);
+		frontEdits++;
+		tick();
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		list.addBack(item);
+		backEdits++;
+		tick();
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		int n = list.size();
+		list.addIndex(item, index);
+		countEdit(index, n);
+		tick();
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1) in every representation.
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		T found = list.getFront();
+		tick();
+		return found;
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1) in every representation.
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		T found = list.getBack();
+		tick();
+		return found;
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(1) in every representation.
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		T found = list.getIndex(index);
+		tick();
+		return found;
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	/**
+	 * Find the first index of an item. The whole scan counts as one read.
+	 * Complexity: O(n) in every representation.
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int found = list.indexOf(item);
+		tick();
+		return found;
+	}
+
+	/**
+	 * Find the last index of an item. The whole scan counts as one read.
+	 * Complexity: O(n) in every representation.
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = list.lastIndexOf(item);
+		tick();
+		return found;
+	}
+
+	/**
+	 * Sort with whatever the current representation does best; that counts as
+	 * one operation, but not as an edit at either end or in the middle.
+	 * Complexity: O(n log n) in every representation.
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		list.sort(order);
+		tick();
+	}
+
+	/**
+	 * Copy the items out; that counts as one read.
+	 * Complexity: O(n) in every representation.
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] items = list.toArray();
+		tick();
+		return items;
+	}
+
+	/**
+	 * Add every item of source with the current representation's bulk add.
+	 * The whole thing counts as one edit at index.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		int n = list.size();
+		list.addAll(index, source == this ? list : source);
+		countEdit(index, n);
+		tick();
+	}
+
+	/**
+	 * Add every item of source to the back; this counts as one edit there.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		list.addAllBack(source == this ? list : source);
+		backEdits++;
+		tick();
+	}
+
+	/**
+	 * Delete the items at indexes [from, to) with the current
+	 * representation's removeRange. The whole thing counts as one edit at
+	 * from.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		int n = list.size();
+		list.removeRange(from, to);
+		countEdit(from, n - (to - from));
+		tick();
+	}
+
+	/**
+	 * Delete every item that filter says yes to with the current
+	 * representation's removeIf; this counts as one edit in the middle.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = list.removeIf(filter);
+		middleEdits++;
+		tick();
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes with the current
+	 * representation's removeIndices; this counts as one edit in the middle.
+	 * Complexity: same as the current representation, plus O(1) amortized.
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		list.removeIndices(sortedIndices);
+		middleEdits++;
+		tick();
+	}
+}
@@ -0,0 +1,84 @@
+package edu.smith.cs.csc212.p6;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes of heap the current thread allocates, using the HotSpot
+ * extension com.sun.management.ThreadMXBean.
+ *
+ * Asking the JVM for the counter can itself cost a few bytes, so we measure
+ * that once up front and subtract it from every reading.
+ *
+ * <pre>
+ * AllocationMeter meter = new AllocationMeter();
+ * long mark = meter.mark();
+ * list.addFront(x);
+ * long bytes = meter.since(mark);
+ * </pre>
+ */
+public class AllocationMeter {
+	private final com.sun.management.ThreadMXBean threads;
+	private final long threadId;
+	private final long overhead;
+
+	/**
+	 * Make a meter for the calling thread; only use it from that thread.
+	 *
+	 * @throws UnsupportedOperationException if this JVM can't count allocations.
+	 */
+	public AllocationMeter() {
+		if (!isSupported()) {
+			throw new UnsupportedOperationException("This JVM does not count per-thread allocation.");
+		}
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		this.threads.setThreadAllocatedMemoryEnabled(true);
+		this.threadId = Thread.currentThread().getId();
+		this.overhead = calibrate();
+	}
+
+	/**
+	 * @return true if {@code new AllocationMeter()} will work on this JVM.
+	 */
+	public static boolean isSupported() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		return bean instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported();
+	}
+
+	/**
+	 * The smallest difference between two back-to-back readings is the cost of
+	 * one reading.
+	 */
+	private long calibrate() {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 1000; i++) {
+			long before = threads.getThreadAllocatedBytes(threadId);
+			long after = threads.getThreadAllocatedBytes(threadId);
+			best = Math.min(best, after - before);
+		}
+		return best;
+	}
+
+	/**
+	 * @return the raw counter: bytes this thread has allocated so far.
+	 */
+	public long mark() {
+		return threads.getThreadAllocatedBytes(threadId);
+	}
+
+	/**
+	 * @param mark what {@linkplain #mark()} returned earlier.
+	 * @return the bytes allocated since then, not counting the meter itself.
+	 */
+	public long since(long mark) {
+		long now = threads.getThreadAllocatedBytes(threadId);
+		return Math.max(0, now - mark - overhead);
+	}
+
+	/**
+	 * @return how many bytes one reading of the counter costs.
+	 */
+	public long getOverhead() {
+		return overhead;
+	}
+}
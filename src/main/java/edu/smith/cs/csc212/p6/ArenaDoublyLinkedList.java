@@ -0,0 +1,554 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@linkplain DoublyLinkedList} without Node objects, like
+ * {@linkplain ArenaSinglyLinkedList}.
+ *
+ * Every node is a slot number into three parallel arrays: values[slot],
+ * before[slot] and after[slot], where the links are slot numbers (or NIL).
+ * That is 12 bytes per item instead of a 24-byte Node object (with the JVM's
+ * usual compressed references), and no object header for the GC to trace.
+ *
+ * Removed slots go on a free-list (chained through after[]) and are reused.
+ * {@linkplain #compact()} renumbers the slots into list order, so that a scan
+ * afterwards reads the arrays front to back, almost like a
+ * {@linkplain GrowableList}.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ArenaDoublyLinkedList<T> implements P6List<T>, Iterable<T> {
+	/**
+	 * The "null" of slot numbers.
+	 */
+	static final int NIL = -1;
+
+	private Object[] values;
+	private int[] before;
+	private int[] after;
+	/**
+	 * The slot of the first and last items, or NIL.
+	 */
+	private int start;
+	private int end;
+	/**
+	 * The first slot of the free-list, or NIL.
+	 */
+	private int free;
+	/**
+	 * Slots [0, used) have been handed out at least once; the rest are fresh.
+	 */
+	private int used;
+	private int size;
+
+	public ArenaDoublyLinkedList() {
+		this(GrowableList.START_SIZE);
+	}
+
+	/**
+	 * @param capacity how many items fit before the arrays have to grow.
+	 */
+	public ArenaDoublyLinkedList(int capacity) {
+		this.values = new Object[Math.max(1, capacity)];
+		this.before = new int[values.length];
+		this.after = new int[values.length];
+		this.start = NIL;
+		this.end = NIL;
+		this.free = NIL;
+		this.used = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Get a slot for a new node from the free-list, or a fresh one (doubling
+	 * the arrays when they are full), and link it between prev and next.
+	 * Complexity: O(1) amortized
+	 */
+	private void link(T item, int prev, int next) {
+		int slot;
+		if (free != NIL) {
+			slot = free;
+			free = after[slot];
+		} else {
+			if (used == values.length) {
+				resize(values.length * 2);
+			}
+			slot = used++;
+		}
+		values[slot] = item;
+		before[slot] = prev;
+		after[slot] = next;
+		if (prev == NIL) {
+			start = slot;
+		} else {
+			after[prev] = slot;
+		}
+		if (next == NIL) {
+			end = slot;
+		} else {
+			before[next] = slot;
+		}
+		size++;
+	}
+
+	/**
+	 * Take a slot out of the list and put it on the free-list.
+	 */
+	@SuppressWarnings("unchecked")
+	private T unlink(int slot) {
+		int prev = before[slot];
+		int next = after[slot];
+		if (prev == NIL) {
+			start = next;
+		} else {
+			after[prev] = next;
+		}
+		if (next == NIL) {
+			end = prev;
+		} else {
+			before[next] = prev;
+		}
+		T value = (T) values[slot];
+		values[slot] = null;
+		after[slot] = free;
+		free = slot;
+		size--;
+		return value;
+	}
+
+	private void resize(int capacity) {
+		Object[] biggerValues = new Object[capacity];
+		int[] biggerBefore = new int[capacity];
+		int[] biggerAfter = new int[capacity];
+		System.arraycopy(values, 0, biggerValues, 0, used);
+		System.arraycopy(before, 0, biggerBefore, 0, used);
+		System.arraycopy(after, 0, biggerAfter, 0, used);
+		this.values = biggerValues;
+		this.before = biggerBefore;
+		this.after = biggerAfter;
+	}
+
+	/**
+	 * @return the slot of the node at index (which must exist), walking from
+	 *         whichever end is closer.
+	 */
+	private int slotAt(int index) {
+		if (index < size / 2) {
+			int slot = start;
+			for (int i = 0; i < index; i++) {
+				slot = after[slot];
+			}
+			return slot;
+		}
+		int slot = end;
+		for (int i = size - 1; i > index; i--) {
+			slot = before[slot];
+		}
+		return slot;
+	}
+
+	/**
+	 * Renumber the slots so that index i lives in slot i, empty the free-list,
+	 * and trim the arrays to fit. Afterwards a scan reads every array front to
+	 * back.
+	 * Complexity: O(n)
+	 */
+	public void compact() {
+		int capacity = Math.max(1, size);
+		Object[] packedValues = new Object[capacity];
+		int[] packedBefore = new int[capacity];
+		int[] packedAfter = new int[capacity];
+		int i = 0;
+		for (int slot = start; slot != NIL; slot = after[slot]) {
+			packedValues[i] = values[slot];
+			packedBefore[i] = i - 1;
+			packedAfter[i] = i + 1;
+			i++;
+		}
+		if (size > 0) {
+			packedAfter[size - 1] = NIL;
+		}
+		this.values = packedValues;
+		this.before = packedBefore;
+		this.after = packedAfter;
+		this.start = size > 0 ? 0 : NIL;
+		this.end = size > 0 ? size - 1 : NIL;
+		this.free = NIL;
+		this.used = size;
+	}
+
+	/**
+	 * @return how many items fit in the arrays right now.
+	 */
+	public int capacity() {
+		return values.length;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return unlink(start);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return unlink(end);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		return unlink(slotAt(index));
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		link(item, NIL, start);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		link(item, end, NIL);
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == size) {
+			addBack(item);
+		} else {
+			int next = slotAt(index);
+			link(item, before[next], next);
+		}
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getFront() {
+		checkNotEmpty();
+		return (T) values[start];
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		checkNotEmpty();
+		return (T) values[end];
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		return (T) values[slotAt(index)];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Find the first index of an item by following the after slots.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int at = 0;
+		for (int slot = start; slot != NIL; slot = after[slot]) {
+			if (Objects.equals(item, values[slot])) {
+				return at;
+			}
+			at++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item by following the before slots from the end.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int at = size - 1;
+		for (int slot = end; slot != NIL; slot = before[slot]) {
+			if (Objects.equals(item, values[slot])) {
+				return at;
+			}
+			at--;
+		}
+		return -1;
+	}
+
+	/**
+	 * Sort the values without touching the links: copy them out in list order,
+	 * sort the copy, and write them back into the same slots.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		T[] sorted = (T[]) new Object[size];
+		int i = 0;
+		for (int slot = start; slot != NIL; slot = after[slot]) {
+			sorted[i++] = (T) values[slot];
+		}
+		Arrays.sort(sorted, order);
+		i = 0;
+		for (int slot = start; slot != NIL; slot = after[slot]) {
+			values[slot] = sorted[i++];
+		}
+	}
+
+	/**
+	 * Add every item of source so the first lands at index: grow the arrays at
+	 * most once, find the slot at index from the closer end, and link each new
+	 * item in front of it.
+	 * Complexity: O(min(index, size - index) + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		if (used + items.length > values.length) {
+			resize(Math.max(values.length * 2, used + items.length));
+		}
+		int next = index == size ? NIL : slotAt(index);
+		for (Object item : items) {
+			link((T) item, next == NIL ? end : before[next], next);
+		}
+	}
+
+	/**
+	 * Add every item of source to the back.
+	 * Complexity: O(k) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): find the slot at from from the
+	 * closer end, then unlink slots along the after links.
+	 * Complexity: O(min(from, size - from) + (to - from))
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (from == to) {
+			return;
+		}
+		int slot = slotAt(from);
+		for (int i = from; i < to; i++) {
+			int next = after[slot];
+			unlink(slot);
+			slot = next;
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one walk that unlinks
+	 * each one as it goes. If filter throws, the items it already said yes to
+	 * are gone and the rest are still there.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		int slot = start;
+		while (slot != NIL) {
+			int next = after[slot];
+			if (filter.test((T) values[slot])) {
+				unlink(slot);
+				removed++;
+			}
+			slot = next;
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one walk along the after
+	 * links.
+	 * Complexity: O(last index)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size);
+		int slot = start;
+		for (int i = 0, j = 0; j < sortedIndices.length; i++) {
+			int next = after[slot];
+			if (i == sortedIndices[j]) {
+				unlink(slot);
+				j++;
+			}
+			slot = next;
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Follow the after slots from the start.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int slot = start;
+
+			@Override
+			public boolean hasNext() {
+				return slot != NIL;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (slot == NIL) {
+					throw new NoSuchElementException();
+				}
+				T found = (T) values[slot];
+				slot = after[slot];
+				return found;
+			}
+		};
+	}
+}
@@ -0,0 +1,587 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@linkplain SinglyLinkedList} without Node objects.
+ *
+ * Every node is a slot number into two parallel arrays: values[slot] is what a
+ * Node's value would be, and next[slot] is the slot of the next node (or NIL).
+ * That is 8 bytes per item (a reference and an int) instead of a 24-byte Node
+ * object, and the nodes sit next to each other in memory instead of wherever
+ * the garbage collector put them.
+ *
+ * Removed slots go on a free-list (chained through next[]) and get reused by
+ * the next add. After a lot of middle edits the logical order no longer matches
+ * the slot order; {@linkplain #compact()} renumbers the slots so walking the
+ * list is a straight scan through the arrays again.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ArenaSinglyLinkedList<T> implements P6List<T>, Iterable<T> {
+	/**
+	 * The "null" of slot numbers.
+	 */
+	static final int NIL = -1;
+
+	private Object[] values;
+	private int[] next;
+	/**
+	 * The slot of the first and last items, or NIL.
+	 */
+	private int start;
+	private int end;
+	/**
+	 * The first slot of the free-list, or NIL.
+	 */
+	private int free;
+	/**
+	 * Slots [0, used) have been handed out at least once; the rest are fresh.
+	 */
+	private int used;
+	private int size;
+
+	public ArenaSinglyLinkedList() {
+		this(GrowableList.START_SIZE);
+	}
+
+	/**
+	 * @param capacity how many items fit before the arrays have to grow.
+	 */
+	public ArenaSinglyLinkedList(int capacity) {
+		this.values = new Object[Math.max(1, capacity)];
+		this.next = new int[values.length];
+		this.start = NIL;
+		this.end = NIL;
+		this.free = NIL;
+		this.used = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Get a slot for a new node: from the free-list if we can, otherwise a fresh
+	 * one, doubling the arrays when they are full.
+	 * Complexity: O(1) amortized
+	 */
+	private int allocate(T item, int after) {
+		int slot;
+		if (free != NIL) {
+			slot = free;
+			free = next[slot];
+		} else {
+			if (used == values.length) {
+				resize(values.length * 2);
+			}
+			slot = used++;
+		}
+		values[slot] = item;
+		next[slot] = after;
+		size++;
+		return slot;
+	}
+
+	/**
+	 * Put a slot on the free-list, forgetting its value for the garbage
+	 * collector.
+	 */
+	@SuppressWarnings("unchecked")
+	private T release(int slot) {
+		T value = (T) values[slot];
+		values[slot] = null;
+		next[slot] = free;
+		free = slot;
+		size--;
+		return value;
+	}
+
+	private void resize(int capacity) {
+		Object[] biggerValues = new Object[capacity];
+		int[] biggerNext = new int[capacity];
+		System.arraycopy(values, 0, biggerValues, 0, used);
+		System.arraycopy(next, 0, biggerNext, 0, used);
+		this.values = biggerValues;
+		this.next = biggerNext;
+	}
+
+	/**
+	 * @return the slot of the node at index, which must exist.
+	 */
+	private int slotAt(int index) {
+		int slot = start;
+		for (int i = 0; i < index; i++) {
+			slot = next[slot];
+		}
+		return slot;
+	}
+
+	/**
+	 * Renumber the slots so that index i lives in slot i, empty the free-list,
+	 * and trim the arrays to fit. Afterwards walking the list reads both arrays
+	 * front to back.
+	 * Complexity: O(n)
+	 */
+	public void compact() {
+		Object[] packedValues = new Object[Math.max(1, size)];
+		int[] packedNext = new int[packedValues.length];
+		int i = 0;
+		for (int slot = start; slot != NIL; slot = next[slot]) {
+			packedValues[i] = values[slot];
+			packedNext[i] = i + 1;
+			i++;
+		}
+		if (size > 0) {
+			packedNext[size - 1] = NIL;
+		}
+		this.values = packedValues;
+		this.next = packedNext;
+		this.start = size > 0 ? 0 : NIL;
+		this.end = size > 0 ? size - 1 : NIL;
+		this.free = NIL;
+		this.used = size;
+	}
+
+	/**
+	 * @return how many items fit in the arrays right now.
+	 */
+	public int capacity() {
+		return values.length;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		int first = start;
+		start = next[first];
+		if (start == NIL) {
+			end = NIL;
+		}
+		return release(first);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(n), to find the node before the last one.
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(n)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			return removeFront();
+		}
+		int before = slotAt(index - 1);
+		int removed = next[before];
+		next[before] = next[removed];
+		if (removed == end) {
+			end = before;
+		}
+		return release(removed);
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		start = allocate(item, start);
+		if (end == NIL) {
+			end = start;
+		}
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		int added = allocate(item, NIL);
+		if (end == NIL) {
+			start = added;
+		} else {
+			next[end] = added;
+		}
+		end = added;
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(n)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			addFront(item);
+		} else if (index == size) {
+			addBack(item);
+		} else {
+			int before = slotAt(index - 1);
+			// allocate may replace the next array, so don't write until it returns.
+			int added = allocate(item, next[before]);
+			next[before] = added;
+		}
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getFront() {
+		checkNotEmpty();
+		return (T) values[start];
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		checkNotEmpty();
+		return (T) values[end];
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(n)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		return (T) values[slotAt(index)];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Find the first index of an item by following the next slots.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int at = 0;
+		for (int slot = start; slot != NIL; slot = next[slot]) {
+			if (Objects.equals(item, values[slot])) {
+				return at;
+			}
+			at++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item: one walk from the front, remembering the
+	 * last match.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = -1;
+		int at = 0;
+		for (int slot = start; slot != NIL; slot = next[slot]) {
+			if (Objects.equals(item, values[slot])) {
+				found = at;
+			}
+			at++;
+		}
+		return found;
+	}
+
+	/**
+	 * Sort the values without touching the links: copy them out in list order,
+	 * sort the copy, and write them back into the same slots.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		T[] sorted = (T[]) new Object[size];
+		int i = 0;
+		for (int slot = start; slot != NIL; slot = next[slot]) {
+			sorted[i++] = (T) values[slot];
+		}
+		Arrays.sort(sorted, order);
+		i = 0;
+		for (int slot = start; slot != NIL; slot = next[slot]) {
+			values[slot] = sorted[i++];
+		}
+	}
+
+	/**
+	 * Add every item of source so the first lands at index: grow the arrays at
+	 * most once, walk to the slot before index, and link in a chain of new slots
+	 * built back to front, each already pointing at the rest of the list.
+	 * Complexity: O(index + k) for k new items; O(k) at the back.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		if (items.length == 0) {
+			return;
+		}
+		if (used + items.length > values.length) {
+			resize(Math.max(values.length * 2, used + items.length));
+		}
+		int before = index == 0 ? NIL : (index == size ? end : slotAt(index - 1));
+		boolean atBack = index == size;
+		int chain = before == NIL ? start : next[before];
+		int last = NIL;
+		for (int i = items.length - 1; i >= 0; i--) {
+			chain = allocate((T) items[i], chain);
+			if (last == NIL) {
+				last = chain;
+			}
+		}
+		if (before == NIL) {
+			start = chain;
+		} else {
+			next[before] = chain;
+		}
+		if (atBack) {
+			end = last;
+		}
+	}
+
+	/**
+	 * Add every item of source to the back.
+	 * Complexity: O(k) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): one walk to the slot before
+	 * from, then the slots in the range go on the free-list and the list is
+	 * relinked around them.
+	 * Complexity: O(to)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (from == to) {
+			return;
+		}
+		int before = from == 0 ? NIL : slotAt(from - 1);
+		int gone = before == NIL ? start : next[before];
+		for (int i = from; i < to; i++) {
+			int after = next[gone];
+			release(gone);
+			gone = after;
+		}
+		relink(before, gone);
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one walk that relinks
+	 * around each one as it goes. If filter throws, the items it already said
+	 * yes to are gone and the rest are still there.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		int before = NIL;
+		int slot = start;
+		while (slot != NIL) {
+			int after = next[slot];
+			if (filter.test((T) values[slot])) {
+				release(slot);
+				relink(before, after);
+				removed++;
+			} else {
+				before = slot;
+			}
+			slot = after;
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one relinking walk.
+	 * Complexity: O(last index)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size);
+		int before = NIL;
+		int slot = start;
+		for (int i = 0, j = 0; j < sortedIndices.length; i++) {
+			int after = next[slot];
+			if (i == sortedIndices[j]) {
+				release(slot);
+				relink(before, after);
+				j++;
+			} else {
+				before = slot;
+			}
+			slot = after;
+		}
+	}
+
+	/**
+	 * Point before (or start, if before is NIL) at after, and move end back to
+	 * before if after is the end of the list.
+	 */
+	private void relink(int before, int after) {
+		if (before == NIL) {
+			start = after;
+		} else {
+			next[before] = after;
+		}
+		if (after == NIL) {
+			end = before;
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Follow the next slots from the start.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int slot = start;
+
+			@Override
+			public boolean hasNext() {
+				return slot != NIL;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (slot == NIL) {
+					throw new NoSuchElementException();
+				}
+				T found = (T) values[slot];
+				slot = next[slot];
+				return found;
+			}
+		};
+	}
+}
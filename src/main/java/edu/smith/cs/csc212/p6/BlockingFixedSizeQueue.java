@@ -0,0 +1,421 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded producer/consumer buffer with the same capacity rules as
+ * {@linkplain FixedSizeList}, except that a full queue makes the producer wait
+ * (or time out) instead of throwing a RanOutOfSpaceError, and an empty queue
+ * makes the consumer wait instead of throwing an EmptyListError.
+ *
+ * The items live in a circular array, so both ends are O(1): the front moves
+ * forward when we take, and the back wraps around to the start of the array.
+ *
+ * Null items are not allowed, since poll returns null to mean "no item".
+ *
+ * Each put/take signals exactly one waiter on the other side, so a single item
+ * never wakes up the whole crowd of blocked threads.
+ *
+ * @param <T> - the type of item stored in the queue.
+ */
+public class BlockingFixedSizeQueue<T> {
+	private final Object[] array;
+	/**
+	 * Index of the front item in the circular array.
+	 */
+	private int front;
+	private int fill;
+
+	private final ReentrantLock lock;
+	private final Condition notEmpty;
+	private final Condition notFull;
+
+	/**
+	 * Metrics for capacity planning; all guarded by {@link #lock}.
+	 */
+	private int maxDepth;
+	private long putCount;
+	private long takeCount;
+	private long putBlockedNanos;
+	private long takeBlockedNanos;
+
+	public BlockingFixedSizeQueue(int maximumSize) {
+		this(maximumSize, false);
+	}
+
+	/**
+	 * @param maximumSize - how many items fit before producers block.
+	 * @param fair        - true if waiting threads should be served in arrival
+	 *                    order.
+	 */
+	public BlockingFixedSizeQueue(int maximumSize, boolean fair) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		this.array = new Object[maximumSize];
+		this.front = 0;
+		this.fill = 0;
+		this.lock = new ReentrantLock(fair);
+		this.notEmpty = lock.newCondition();
+		this.notFull = lock.newCondition();
+	}
+
+	/**
+	 * Add an item to the back of the queue, waiting for space if necessary.
+	 * Complexity: O(1)
+	 *
+	 * @param item the data to add to the queue.
+	 * @throws NullPointerException if item is null.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void put(T item) throws InterruptedException {
+		Objects.requireNonNull(item);
+		lock.lockInterruptibly();
+		try {
+			if (fill == array.length) {
+				long startWait = System.nanoTime();
+				try {
+					while (fill == array.length) {
+						notFull.await();
+					}
+				} finally {
+					putBlockedNanos += System.nanoTime() - startWait;
+				}
+			}
+			enqueue(item);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Add an item to the back of the queue if there is space right now.
+	 * Complexity: O(1)
+	 *
+	 * @param item the data to add to the queue.
+	 * @return true if the item was added, false if the queue was full.
+	 * @throws NullPointerException if item is null.
+	 */
+	public boolean offer(T item) {
+		Objects.requireNonNull(item);
+		lock.lock();
+		try {
+			if (fill == array.length) {
+				return false;
+			}
+			enqueue(item);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Add an item to the back of the queue, waiting up to timeout for space.
+	 * Complexity: O(1)
+	 *
+	 * @param item    the data to add to the queue.
+	 * @param timeout how long to wait before giving up.
+	 * @param unit    the unit of timeout.
+	 * @return true if the item was added, false if we timed out.
+	 * @throws NullPointerException if item is null.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(item);
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			if (fill == array.length) {
+				long startWait = System.nanoTime();
+				try {
+					while (fill == array.length) {
+						if (nanos <= 0) {
+							return false;
+						}
+						nanos = notFull.awaitNanos(nanos);
+					}
+				} finally {
+					putBlockedNanos += System.nanoTime() - startWait;
+				}
+			}
+			enqueue(item);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the item at the front of the queue, waiting for one if necessary.
+	 * Complexity: O(1)
+	 *
+	 * @return the item that was removed.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public T take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			if (fill == 0) {
+				long startWait = System.nanoTime();
+				try {
+					while (fill == 0) {
+						notEmpty.await();
+					}
+				} finally {
+					takeBlockedNanos += System.nanoTime() - startWait;
+				}
+			}
+			return dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the item at the front of the queue if there is one right now.
+	 * Complexity: O(1)
+	 *
+	 * @return the item that was removed, or null if the queue was empty.
+	 */
+	public T poll() {
+		lock.lock();
+		try {
+			if (fill == 0) {
+				return null;
+			}
+			return dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the item at the front of the queue, waiting up to timeout for one.
+	 * Complexity: O(1)
+	 *
+	 * @param timeout how long to wait before giving up.
+	 * @param unit    the unit of timeout.
+	 * @return the item that was removed, or null if we timed out.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			if (fill == 0) {
+				long startWait = System.nanoTime();
+				try {
+					while (fill == 0) {
+						if (nanos <= 0) {
+							return null;
+						}
+						nanos = notEmpty.awaitNanos(nanos);
+					}
+				} finally {
+					takeBlockedNanos += System.nanoTime() - startWait;
+				}
+			}
+			return dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Move up to max items from the front of this queue to the back of target,
+	 * without waiting. Only as many blocked producers are woken as there are
+	 * newly freed slots.
+	 * Complexity: O(max)
+	 *
+	 * @param target where to put the items, in queue order.
+	 * @param max    the most items to move.
+	 * @return how many items were moved.
+	 */
+	public int drainTo(P6List<? super T> target, int max) {
+		if (target == null) {
+			throw new NullPointerException("target");
+		}
+		lock.lock();
+		try {
+			int moved = 0;
+			int n = Math.min(max, fill);
+			try {
+				while (moved < n) {
+					@SuppressWarnings("unchecked")
+					T item = (T) array[front];
+					// add first, so that a full target leaves the item in this queue.
+					target.addBack(item);
+					array[front] = null;
+					front = (front + 1) % array.length;
+					fill--;
+					moved++;
+				}
+			} finally {
+				takeCount += moved;
+				for (int i = 0; i < moved && lock.hasWaiters(notFull); i++) {
+					notFull.signal();
+				}
+			}
+			return moved;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Must be called while holding the lock, with space available.
+	 */
+	private void enqueue(T item) {
+		array[(front + fill) % array.length] = item;
+		fill++;
+		putCount++;
+		if (fill > maxDepth) {
+			maxDepth = fill;
+		}
+		notEmpty.signal();
+	}
+
+	/**
+	 * Must be called while holding the lock, with an item available.
+	 */
+	private T dequeue() {
+		@SuppressWarnings("unchecked")
+		T item = (T) array[front];
+		array[front] = null;
+		front = (front + 1) % array.length;
+		fill--;
+		takeCount++;
+		notFull.signal();
+		return item;
+	}
+
+	/**
+	 * How many items are waiting in the queue (the queue depth).
+	 * Complexity: O(1)
+	 *
+	 * @return the number of items.
+	 */
+	public int size() {
+		lock.lock();
+		try {
+			return fill;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Complexity: O(1)
+	 *
+	 * @return true if there is nothing waiting in the queue.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Complexity: O(1)
+	 *
+	 * @return the maximumSize this queue was created with.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	/**
+	 * Complexity: O(1)
+	 *
+	 * @return how many more items fit before put blocks.
+	 */
+	public int remainingCapacity() {
+		lock.lock();
+		try {
+			return array.length - fill;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the deepest the queue has been since creation or the last
+	 *         {@link #resetMetrics()}.
+	 */
+	public int getMaxDepth() {
+		lock.lock();
+		try {
+			return maxDepth;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the total number of items added.
+	 */
+	public long getPutCount() {
+		lock.lock();
+		try {
+			return putCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the total number of items removed, including by drainTo.
+	 */
+	public long getTakeCount() {
+		lock.lock();
+		try {
+			return takeCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param unit what unit to report in.
+	 * @return the total time producers spent waiting for space.
+	 */
+	public long getPutBlockedTime(TimeUnit unit) {
+		lock.lock();
+		try {
+			return unit.convert(putBlockedNanos, TimeUnit.NANOSECONDS);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param unit what unit to report in.
+	 * @return the total time consumers spent waiting for items.
+	 */
+	public long getTakeBlockedTime(TimeUnit unit) {
+		lock.lock();
+		try {
+			return unit.convert(takeBlockedNanos, TimeUnit.NANOSECONDS);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Start the metrics over; maxDepth restarts at the current depth.
+	 */
+	public void resetMetrics() {
+		lock.lock();
+		try {
+			maxDepth = fill;
+			putCount = 0;
+			takeCount = 0;
+			putBlockedNanos = 0;
+			takeBlockedNanos = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
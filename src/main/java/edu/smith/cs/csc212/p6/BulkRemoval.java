@@ -0,0 +1,113 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+
+/**
+ * The argument checks for {@linkplain P6List#removeRange},
+ * {@linkplain P6List#removeIf} and {@linkplain P6List#removeIndices}, and the
+ * one-pass compactions that every array-backed list uses for them.
+ *
+ * Each compaction works on array[start, end), moves the kept items down with
+ * as few copies as it can, nulls out the slots that are left over (so the
+ * garbage collector can have the removed items), and returns the new end.
+ */
+class BulkRemoval {
+
+	/**
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size.
+	 */
+	static void checkRange(int from, int to, int size) {
+		if (from < 0 || from > to || to > size) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * @throws BadIndexError            if an index is not from 0 to size
+	 *                                  (excluding size).
+	 * @throws IllegalArgumentException if the indices are not strictly
+	 *                                  increasing.
+	 */
+	static void checkIndices(int[] sortedIndices, int size) {
+		for (int j = 0; j < sortedIndices.length; j++) {
+			int index = sortedIndices[j];
+			if (index < 0 || index >= size) {
+				throw new BadIndexError();
+			}
+			if (j > 0 && index <= sortedIndices[j - 1]) {
+				throw new IllegalArgumentException("indices must be sorted with no repeats");
+			}
+		}
+	}
+
+	/**
+	 * Remove array[start + from, start + to) with one arraycopy.
+	 * Complexity: O(end - start - from)
+	 *
+	 * @return the new end.
+	 */
+	static int removeRange(Object[] array, int start, int end, int from, int to) {
+		int count = to - from;
+		System.arraycopy(array, start + to, array, start + from, end - start - to);
+		Arrays.fill(array, end - count, end, null);
+		return end - count;
+	}
+
+	/**
+	 * Keep the items of array[start, end) that filter says no to, in order.
+	 * Every item is asked about before any is moved, so if filter throws,
+	 * nothing has changed.
+	 * Complexity: O(end - start) calls to filter.
+	 *
+	 * @return the new end.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> int removeIf(Object[] array, int start, int end, Predicate<? super T> filter) {
+		BitSet doomed = null;
+		for (int i = start; i < end; i++) {
+			if (filter.test((T) array[i])) {
+				if (doomed == null) {
+					doomed = new BitSet(end - start);
+				}
+				doomed.set(i - start);
+			}
+		}
+		if (doomed == null) {
+			return end;
+		}
+		int write = start + doomed.nextSetBit(0);
+		for (int read = write; read < end; read++) {
+			if (!doomed.get(read - start)) {
+				array[write++] = array[read];
+			}
+		}
+		Arrays.fill(array, write, end, null);
+		return write;
+	}
+
+	/**
+	 * Remove array[start + i] for every i in sortedIndices (already checked),
+	 * copying each run of kept items down once.
+	 * Complexity: O(end - start - sortedIndices[0])
+	 *
+	 * @return the new end.
+	 */
+	static int removeIndices(Object[] array, int start, int end, int[] sortedIndices) {
+		if (sortedIndices.length == 0) {
+			return end;
+		}
+		int write = start + sortedIndices[0];
+		for (int j = 0; j < sortedIndices.length; j++) {
+			int keepFrom = start + sortedIndices[j] + 1;
+			int keepTo = j + 1 < sortedIndices.length ? start + sortedIndices[j + 1] : end;
+			System.arraycopy(array, keepFrom, array, write, keepTo - keepFrom);
+			write += keepTo - keepFrom;
+		}
+		Arrays.fill(array, write, end, null);
+		return write;
+	}
+}
@@ -0,0 +1,123 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * Lets many threads append to one {@linkplain ChunkyLinkedList} without
+ * fighting over its last chunk for every item.
+ *
+ * Each thread fills its own private {@linkplain FixedSizeList} chunk. Only when
+ * that chunk is full (or the thread calls {@link #flush()}) is the whole chunk
+ * linked onto the shared list, in one short critical section. So the lock is
+ * taken once per chunkSize items instead of once per item.
+ *
+ * Ordering guarantees:
+ * <ul>
+ * <li>Items appended by one thread appear in the shared list in the order that
+ * thread appended them (per-thread FIFO).</li>
+ * <li>Items from different threads are interleaved a chunk at a time, in the
+ * order the chunks were published; there is no order between threads beyond
+ * that.</li>
+ * <li>An item is not visible in the shared list until its chunk is published.
+ * Each thread must call {@link #flush()} before it stops, or its partial chunk
+ * is never published.</li>
+ * </ul>
+ *
+ * The shared list is locked with its own monitor: read it inside
+ * {@code synchronized (appender.getTarget()) { ... }}.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ChunkAppender<T> {
+	private final ChunkyLinkedList<T> target;
+	private final int chunkSize;
+	/**
+	 * The chunk each thread is currently filling, or null before its first append.
+	 */
+	private final ThreadLocal<FixedSizeList<T>> buffers;
+
+	/**
+	 * @param chunkSize how many items each thread buffers before publishing.
+	 */
+	public ChunkAppender(int chunkSize) {
+		this(new ChunkyLinkedList<T>(chunkSize));
+	}
+
+	/**
+	 * Each thread buffers as many items as one chunk of target holds.
+	 * 
+	 * @param target the shared list; after this, only touch it while holding
+	 *               its monitor.
+	 */
+	public ChunkAppender(ChunkyLinkedList<T> target) {
+		this.target = target;
+		this.chunkSize = target.chunkSize();
+		this.buffers = new ThreadLocal<>();
+	}
+
+	/**
+	 * Add an item after everything this thread has appended so far.
+	 * Complexity: O(1), plus a publish every chunkSize items.
+	 *
+	 * @param item the data to add to the list.
+	 */
+	public void append(T item) {
+		FixedSizeList<T> chunk = buffers.get();
+		if (chunk == null) {
+			chunk = new FixedSizeList<>(chunkSize);
+			buffers.set(chunk);
+		}
+		chunk.addBack(item);
+		if (chunk.size() == chunkSize) {
+			publish(chunk);
+			buffers.set(null);
+		}
+	}
+
+	/**
+	 * Publish this thread's partially-filled chunk, if it has one, so that
+	 * everything this thread appended is in the shared list.
+	 * Complexity: same as one publish.
+	 */
+	public void flush() {
+		FixedSizeList<T> chunk = buffers.get();
+		if (chunk != null && !chunk.isEmpty()) {
+			publish(chunk);
+		}
+		buffers.set(null);
+	}
+
+	/**
+	 * The only place we lock: link one finished chunk onto the shared list.
+	 * Complexity: O(1) inside the lock.
+	 */
+	private void publish(FixedSizeList<T> chunk) {
+		synchronized (target) {
+			target.addChunkBack(chunk);
+		}
+	}
+
+	/**
+	 * @return how many items this thread has appended but not yet published.
+	 */
+	public int pending() {
+		FixedSizeList<T> chunk = buffers.get();
+		return chunk == null ? 0 : chunk.size();
+	}
+
+	/**
+	 * Complexity: O(n/chunkSize)
+	 *
+	 * @return how many published items are in the shared list.
+	 */
+	public int size() {
+		synchronized (target) {
+			return target.size();
+		}
+	}
+
+	/**
+	 * @return the shared list; lock it with {@code synchronized} before reading.
+	 */
+	public ChunkyLinkedList<T> getTarget() {
+		return target;
+	}
+}
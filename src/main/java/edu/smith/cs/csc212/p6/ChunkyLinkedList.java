@@ -1,5 +1,11 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
@@ -15,12 +21,17 @@ import edu.smith.cs.csc212.p6.errors.EmptyListError;
 public class ChunkyLinkedList<T> implements P6List<T> {
 	private int chunkSize;
 	private SinglyLinkedList<FixedSizeList<T>> chunks;
+	/**
+	 * The last node of chunks, so the back can be reached without a walk.
+	 */
+	private SinglyLinkedList.Node<FixedSizeList<T>> tail;
 	
 
 	public ChunkyLinkedList(int chunkSize) {
 		this.chunkSize = chunkSize;
 		chunks = new SinglyLinkedList<>();
 		chunks.addBack(new FixedSizeList<>(chunkSize));
+		tail = chunks.start;
 	}
 
 	/**
@@ -39,7 +50,7 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 			T deleted = firstArray.removeFront();
 			//if the chunk is empty then remove the chunk
 			if (firstArray.isEmpty()) {
-				chunks.removeFront();
+				unlinkChunk(null, chunks.start);
 			}
 			return deleted;
 			
@@ -48,7 +59,8 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	
 	/**
 	 * Delete the last item of the last chunk.
-	 * Complexity: O(1)
+	 * Complexity: O(1), or O(n/chunkSize) when the last chunk empties and the
+	 * one before it has to be found.
 	 * 
 	 * @return the value of the item that was deleted.
 	 * @throws EmptyListError if the list is empty.
@@ -58,11 +70,15 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}else {
-			FixedSizeList<T> lastArray = chunks.getBack();
+			FixedSizeList<T> lastArray = tail.value;
 			T deleted = lastArray.removeBack();
-			//if the chunk is empty then remove it 
-			if (lastArray.isEmpty()) {
-				chunks.removeBack();
+			//if the chunk is empty then remove it, unless it is the only one
+			if (lastArray.isEmpty() && chunks.start.next != null) {
+				SinglyLinkedList.Node<FixedSizeList<T>> before = chunks.start;
+				while (before.next != tail) {
+					before = before.next;
+				}
+				unlinkChunk(before, tail);
 			}
 			return deleted;
 			
@@ -70,8 +86,9 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	}
 
 	/**
-	 * Delete the item at the specified index in the list.
-	 * Complexity: O(n^2)
+	 * Delete the item at the specified index in the list. A chunk left empty is
+	 * unlinked.
+	 * Complexity: O(n/chunkSize + chunkSize)
 	 * 
 	 * @param index a number from 0 to size (excluding size).
 	 * @return the value that was removed.
@@ -83,32 +100,30 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}
+		else if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
 		else if (index==0) {
 			return this.removeFront();
 		}
-		else if (index==size()) {
-			return this.removeBack();
-		} 
-		else {
-			int start = 0;
-			int chunkIndex = 0;
-			for (FixedSizeList<T> chunk : this.chunks) {
-				// calculate bounds of this chunk.
-				int end = start + chunk.size();
-				
-				// Check whether the index should be in this chunk:
-				if (start <= index && index < end) {
-					// if chunk is empty, then we need to remove the chunk here 
-					T deleted =  chunk.removeIndex(index-start);
-					if (chunk.isEmpty()) {
-						chunk.removeIndex(chunkIndex);
-						}
-					return deleted;
+		int start = 0;
+		SinglyLinkedList.Node<FixedSizeList<T>> before = null;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
+			// calculate bounds of this chunk.
+			int end = start + chunk.size();
+			
+			// Check whether the index should be in this chunk:
+			if (start <= index && index < end) {
+				T deleted = chunk.removeIndex(index - start);
+				// if chunk is empty, then we need to remove the chunk here 
+				if (chunk.isEmpty()) {
+					unlinkChunk(before, node);
 				}
-				chunkIndex += 1;
-				start = end;
+				return deleted;
 			}
-			
+			before = node;
+			start = end;
 		}
 		throw new BadIndexError();
 	}
@@ -141,29 +156,61 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addBack(T item) {
-		FixedSizeList<T> lastArray = chunks.getBack();
+		FixedSizeList<T> lastArray = tail.value;
 		if (lastArray.size() < this.chunkSize) {
 			lastArray.addBack(item);
 		} else {
-			//if chunk is full create a new chunk and add it to the front then add
-			// the item to the front of the new chunk
+			//if chunk is full create a new chunk and add it to the back then add
+			// the item to the back of the new chunk
 			FixedSizeList<T> newArray = new FixedSizeList<T>(this.chunkSize);
-			chunks.addBack(newArray);
+			linkBack(newArray);
 			newArray.addBack(item);
 			}
 		}
 
 	/**
-	 * Add an item to an index in this list. 
-	 * Complexity: O(n^2)
+	 * Link a whole chunk onto the back of this list without copying its items.
+	 * The chunk belongs to this list afterwards.
+	 * Complexity: O(1)
+	 * 
+	 * @param chunk a non-empty chunk made with {@linkplain #chunkSize()}.
+	 */
+	void addChunkBack(FixedSizeList<T> chunk) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		// an empty last chunk is the only one, and would make isEmpty() wrong.
+		if (tail.value.isEmpty()) {
+			tail.value = chunk;
+		} else {
+			linkBack(chunk);
+		}
+	}
+
+	/**
+	 * Link a new last chunk after the tail.
+	 * Complexity: O(1)
+	 */
+	private void linkBack(FixedSizeList<T> chunk) {
+		tail.next = new SinglyLinkedList.Node<>(chunk, null);
+		tail = tail.next;
+	}
+
+	/**
+	 * Add an item to an index in this list. If the chunk holding that index is
+	 * full, its back half moves to a new chunk linked in right after it.
+	 * Complexity: O(n/chunkSize + chunkSize)
 	 * 
 	 * @param item  the data to add to the list.
 	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		
-		if (index==0) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		else if (index==0) {
 			this.addFront(item);
 			return;
 		}
@@ -171,31 +218,39 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 			this.addBack(item);
 			return;
 		}
-		else {
-			int start = 0;
-			int chunkIndex = 0;
-			for (FixedSizeList<T> chunk : this.chunks) {
-				// calculate bounds of this chunk.
-				int end = start + chunk.size();
-				
-				// Check whether the index should be in this chunk:
-				if (start <= index && index < end) {
-					// if chunk is full, then we need to insert a new chunk here (before chunkIndex+1) and add to that
-					
-					if (chunk.size()>= this.chunkSize) {
-						FixedSizeList<T> newChunk = new FixedSizeList<T>(this.chunkSize);
-						chunks.addIndex(newChunk,chunkIndex);
-						newChunk.addIndex(item, index-start);
+		int start = 0;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
+			// calculate bounds of this chunk.
+			int end = start + chunk.size();
+			
+			// Check whether the index should be in this chunk:
+			if (start <= index && index < end) {
+				int offset = index - start;
+				if (chunk.size() >= this.chunkSize) {
+					// split the full chunk; the item goes in whichever half holds offset.
+					int half = chunk.size() / 2;
+					FixedSizeList<T> newChunk = new FixedSizeList<T>(this.chunkSize);
+					for (int i = half; i < chunk.size(); i++) {
+						newChunk.addBack(chunk.getIndex(i));
+					}
+					chunk.removeRange(half, chunk.size());
+					node.next = new SinglyLinkedList.Node<>(newChunk, node.next);
+					if (node == tail) {
+						tail = node.next;
+					}
+					if (offset > half) {
+						newChunk.addIndex(item, offset - half);
+						return;
 					}
-					chunk.addIndex(item, index - start);
-					return;
 				}
-				
-				chunkIndex += 1;
-				start = end;
+				chunk.addIndex(item, offset);
+				return;
+			}
+			start = end;
 		}
+		throw new BadIndexError();
 	}
-}
 	
 	/**
 	 * Get the first item in first chunk of the list.
@@ -224,7 +279,7 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}
-		return this.chunks.getBack().getBack();
+		return this.tail.value.getBack();
 	}
 
 	/**
@@ -242,7 +297,9 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 			throw new EmptyListError();
 		}
 		int start = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
+		// walk the nodes ourselves: a for-each loop would allocate an Iter every call.
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
 			// calculate bounds of this chunk.
 			int end = start + chunk.size();
 			
@@ -266,7 +323,8 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	@Override
 	public int size() {
 		int total = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
 			total += chunk.size();
 		}
 		return total;
@@ -282,4 +340,406 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	public boolean isEmpty() {
 		return this.chunks.isEmpty() || this.chunks.getFront().isEmpty();
 	}
+
+	/**
+	 * Find the first index of an item, letting each chunk scan its own array.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int start = 0;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
+			int found = chunk.indexOf(item);
+			if (found >= 0) {
+				return start + found;
+			}
+			start += chunk.size();
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item. The chunks only link forward, so this
+	 * remembers the last chunk with a match instead of walking backwards.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = -1;
+		int start = 0;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
+			int inChunk = chunk.lastIndexOf(item);
+			if (inChunk >= 0) {
+				found = start + inChunk;
+			}
+			start += chunk.size();
+		}
+		return found;
+	}
+
+	/**
+	 * Sort every chunk on its own (an array sort each), then k-way merge the
+	 * sorted chunks into new, full chunks. A heap holds one entry per chunk,
+	 * keyed by that chunk's next item, so each item costs O(log k) for k
+	 * chunks. Ties go to the earlier chunk, so equal items keep their order.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		List<FixedSizeList<T>> sorted = new ArrayList<>();
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			node.value.sort(order);
+			sorted.add(node.value);
+		}
+		int k = sorted.size();
+		if (k <= 1) {
+			return;
+		}
+
+		// next[c] is the position of the first item of chunk c not merged yet.
+		int[] next = new int[k];
+		PriorityQueue<Integer> heads = new PriorityQueue<>(k, (a, b) -> {
+			int cmp = order.compare(sorted.get(a).getIndex(next[a]), sorted.get(b).getIndex(next[b]));
+			return cmp != 0 ? cmp : Integer.compare(a, b);
+		});
+		for (int c = 0; c < k; c++) {
+			if (!sorted.get(c).isEmpty()) {
+				heads.add(c);
+			}
+		}
+		// collect the new chunks, then link them up from the back in O(1) each.
+		List<FixedSizeList<T>> merged = new ArrayList<>();
+		FixedSizeList<T> out = new FixedSizeList<>(chunkSize);
+		while (!heads.isEmpty()) {
+			int from = heads.poll();
+			if (out.size() == chunkSize) {
+				merged.add(out);
+				out = new FixedSizeList<>(chunkSize);
+			}
+			out.addBack(sorted.get(from).getIndex(next[from]++));
+			if (next[from] < sorted.get(from).size()) {
+				heads.add(from);
+			}
+		}
+		merged.add(out);
+		SinglyLinkedList<FixedSizeList<T>> rebuilt = new SinglyLinkedList<>();
+		for (int i = merged.size() - 1; i >= 0; i--) {
+			rebuilt.addFront(merged.get(i));
+		}
+		setChunks(rebuilt);
+	}
+
+	/**
+	 * Sort in parallel: copy the items into one array with each chunk as a run,
+	 * sort the runs on separate cores, merge them up a fork/join tree (see
+	 * {@linkplain ParallelMergeSort}), and refill full chunks. This is stable.
+	 * 
+	 * It uses the ForkJoinPool it is called from, or else the common pool.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	public void parallelSort(Comparator<? super T> order) {
+		parallelSort(order, ParallelMergeSort.DEFAULT_CUTOFF);
+	}
+
+	/**
+	 * {@linkplain #parallelSort(Comparator)} with a different cutoff: below that
+	 * many items, sorting and merging happen on one core.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order  how to compare items, e.g. Comparator.naturalOrder().
+	 * @param cutoff the sequential cutoff, at least 1.
+	 * @throws IllegalArgumentException if cutoff is less than 1.
+	 */
+	public void parallelSort(Comparator<? super T> order, int cutoff) {
+		int k = 0;
+		int n = 0;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			k++;
+			n += node.value.size();
+		}
+		Object[] items = new Object[n];
+		int[] bounds = new int[k + 1];
+		int c = 0;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
+			for (int i = 0; i < chunk.size(); i++) {
+				items[bounds[c] + i] = chunk.getIndex(i);
+			}
+			bounds[c + 1] = bounds[c] + chunk.size();
+			c++;
+		}
+		ParallelMergeSort.sortRuns(items, bounds, order, cutoff);
+
+		// link the full chunks up from the back, O(1) each.
+		SinglyLinkedList<FixedSizeList<T>> rebuilt = new SinglyLinkedList<>();
+		int start = n == 0 ? 0 : (n - 1) / chunkSize * chunkSize;
+		for (; start >= 0; start -= chunkSize) {
+			FixedSizeList<T> chunk = new FixedSizeList<>(chunkSize);
+			for (int i = start; i < Math.min(n, start + chunkSize); i++) {
+				@SuppressWarnings("unchecked")
+				T item = (T) items[i];
+				chunk.addBack(item);
+			}
+			rebuilt.addFront(chunk);
+		}
+		setChunks(rebuilt);
+	}
+
+	/**
+	 * Add every item of source so the first lands at index. One walk finds the
+	 * chunk holding index; the items after index come out of that chunk, and
+	 * then the new items and those are poured in, topping up that chunk first
+	 * and then filling whole new chunks, which are linked in right after it.
+	 * Complexity: O(n/chunkSize + chunkSize + k) for k new items.
+	 * 
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start;
+		int start = 0;
+		while (index >= start + node.value.size() && node.next != null) {
+			start += node.value.size();
+			node = node.next;
+		}
+		FixedSizeList<T> chunk = node.value;
+		int offset = index - start;
+		// the items after index come out now, and go back in after the new ones.
+		Object[] rest = new Object[chunk.size() - offset];
+		for (int i = rest.length - 1; i >= 0; i--) {
+			rest[i] = chunk.removeBack();
+		}
+		SinglyLinkedList.Node<FixedSizeList<T>> last = node;
+		for (Object[] from : new Object[][] { items, rest }) {
+			for (Object item : from) {
+				if (chunk.size() == chunkSize) {
+					chunk = new FixedSizeList<>(chunkSize);
+					last.next = new SinglyLinkedList.Node<>(chunk, last.next);
+					last = last.next;
+				}
+				chunk.addBack((T) item);
+			}
+		}
+		if (last.next == null) {
+			tail = last;
+		}
+	}
+
+	/**
+	 * Add every item of source to the back, filling the last chunk and then
+	 * whole new ones.
+	 * Complexity: O(n/chunkSize + k) for k new items.
+	 * 
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size(), source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to) in one walk over the chunks.
+	 * Chunks wholly inside the range are unlinked without looking at their
+	 * items; the chunks at either edge lose their part of the range, and if
+	 * what is left of the two edges fits in one chunk, they are merged.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 * 
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		if (from == to) {
+			return;
+		}
+		SinglyLinkedList.Node<FixedSizeList<T>> before = null;
+		SinglyLinkedList.Node<FixedSizeList<T>> leftEdge = null;
+		SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start;
+		int start = 0;
+		while (node != null && start < to) {
+			SinglyLinkedList.Node<FixedSizeList<T>> next = node.next;
+			FixedSizeList<T> chunk = node.value;
+			int end = start + chunk.size();
+			if (from <= start && end <= to) {
+				unlinkChunk(before, node);
+			} else {
+				if (end > from) {
+					chunk.removeRange(Math.max(from, start) - start, Math.min(to, end) - start);
+					if (start < from && to < end) {
+						// the range was in the middle of this one chunk.
+						break;
+					}
+					if (leftEdge != null && leftEdge.value.size() + chunk.size() <= chunkSize) {
+						leftEdge.value.addAllBack(chunk);
+						unlinkChunk(leftEdge, node);
+						break;
+					}
+					leftEdge = node;
+				}
+				before = node;
+			}
+			start = end;
+			node = next;
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to: each chunk compacts itself in
+	 * one pass, and chunks left empty are unlinked. If filter throws, the
+	 * chunks before that point have already lost their items.
+	 * Complexity: O(n)
+	 * 
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		SinglyLinkedList.Node<FixedSizeList<T>> before = null;
+		SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start;
+		while (node != null) {
+			SinglyLinkedList.Node<FixedSizeList<T>> next = node.next;
+			removed += node.value.removeIf(filter);
+			if (node.value.isEmpty()) {
+				unlinkChunk(before, node);
+			} else {
+				before = node;
+			}
+			node = next;
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one walk over the chunks,
+	 * handing each chunk the indexes that fall in it; chunks left empty are
+	 * unlinked.
+	 * Complexity: O(n)
+	 * 
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size());
+		SinglyLinkedList.Node<FixedSizeList<T>> before = null;
+		SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start;
+		int start = 0;
+		int j = 0;
+		while (node != null && j < sortedIndices.length) {
+			SinglyLinkedList.Node<FixedSizeList<T>> next = node.next;
+			FixedSizeList<T> chunk = node.value;
+			int end = start + chunk.size();
+			int first = j;
+			while (j < sortedIndices.length && sortedIndices[j] < end) {
+				j++;
+			}
+			if (j > first) {
+				int[] local = new int[j - first];
+				for (int i = 0; i < local.length; i++) {
+					local[i] = sortedIndices[first + i] - start;
+				}
+				chunk.removeIndices(local);
+			}
+			if (chunk.isEmpty()) {
+				unlinkChunk(before, node);
+			} else {
+				before = node;
+			}
+			start = end;
+			node = next;
+		}
+	}
+
+	/**
+	 * Take node out of the chain of chunks; before is the node in front of it,
+	 * or null if it is the first. The only chunk is never taken out, so the
+	 * add methods and the bulk methods always have a chunk to start from; it is
+	 * left empty instead.
+	 */
+	private void unlinkChunk(SinglyLinkedList.Node<FixedSizeList<T>> before,
+			SinglyLinkedList.Node<FixedSizeList<T>> node) {
+		if (before == null && node.next == null) {
+			if (!node.value.isEmpty()) {
+				node.value = new FixedSizeList<>(chunkSize);
+			}
+			return;
+		}
+		if (before == null) {
+			chunks.start = node.next;
+		} else {
+			before.next = node.next;
+		}
+		if (node == tail) {
+			tail = before;
+		}
+	}
+
+	/**
+	 * Switch to a rebuilt chain of chunks, and find its tail.
+	 * Complexity: O(n/chunkSize)
+	 */
+	private void setChunks(SinglyLinkedList<FixedSizeList<T>> rebuilt) {
+		chunks = rebuilt;
+		tail = rebuilt.start;
+		while (tail.next != null) {
+			tail = tail.next;
+		}
+	}
+
+	/**
+	 * @return how many items each chunk holds.
+	 */
+	int chunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * @return how many chunks are linked right now.
+	 */
+	int chunkCount() {
+		return chunks.size();
+	}
+
+	/**
+	 * Copy the items out one chunk at a time.
+	 * Complexity: O(n)
+	 * 
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] items = new Object[size()];
+		int at = 0;
+		for (SinglyLinkedList.Node<FixedSizeList<T>> node = chunks.start; node != null; node = node.next) {
+			FixedSizeList<T> chunk = node.value;
+			for (int i = 0; i < chunk.size(); i++) {
+				items[at++] = chunk.getIndex(i);
+			}
+		}
+		return items;
+	}
 }
@@ -0,0 +1,609 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.ReadOnlyError;
+
+/**
+ * A {@linkplain GrowableList} for read-mostly sharing between threads.
+ *
+ * Readers never lock: they read whatever array was published last, and that
+ * array is never changed again. Writers take a lock, copy the array, change the
+ * copy and publish it. So reads are as cheap as a plain array read, and every
+ * write is O(n). Use {@link #batch(Consumer)} to pay for one copy across many
+ * changes.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class CopyOnWriteGrowableList<T> implements P6List<T>, Iterable<T> {
+	/**
+	 * The published items, exactly size() long. Never modified after it is
+	 * assigned here.
+	 */
+	private volatile Object[] array;
+	/**
+	 * Writers line up on this so that no update is lost.
+	 */
+	private final Object writeLock = new Object();
+	/**
+	 * How many arrays have been published; guarded by writeLock.
+	 */
+	private long publishes;
+
+	public CopyOnWriteGrowableList() {
+		this.array = new Object[0];
+	}
+
+	/**
+	 * Make next the list everybody sees. Call it holding writeLock.
+	 */
+	private void publish(Object[] next) {
+		array = next;
+		publishes++;
+	}
+
+	/**
+	 * @return how many new arrays writers have published; each write (or
+	 *         batch, or bulk add or remove) is one.
+	 */
+	public long getPublishCount() {
+		synchronized (writeLock) {
+			return publishes;
+		}
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(n)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		synchronized (writeLock) {
+			checkNotEmpty(array);
+			return removeIndex(0);
+		}
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(n)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		synchronized (writeLock) {
+			checkNotEmpty(array);
+			return removeIndex(array.length - 1);
+		}
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(n)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			checkNotEmpty(current);
+			T removed = itemAt(current, index);
+			Object[] next = new Object[current.length - 1];
+			System.arraycopy(current, 0, next, 0, index);
+			System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+			publish(next);
+			return removed;
+		}
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(n)
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(n)
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		synchronized (writeLock) {
+			addIndex(item, array.length);
+		}
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(n)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (index < 0 || index > current.length) {
+				throw new BadIndexError();
+			}
+			Object[] next = new Object[current.length + 1];
+			System.arraycopy(current, 0, next, 0, index);
+			next[index] = item;
+			System.arraycopy(current, index, next, index + 1, current.length - index);
+			publish(next);
+		}
+	}
+
+	/**
+	 * Apply many changes for the price of one copy. The action gets a private
+	 * {@linkplain GrowableList} holding the current items; whatever it looks like
+	 * when the action returns is published all at once. If the action throws,
+	 * nothing is published.
+	 * Complexity: O(n) plus the cost of the action on a GrowableList.
+	 *
+	 * @param action the changes to make.
+	 */
+	public void batch(Consumer<P6List<T>> action) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			GrowableList<T> work = new GrowableList<>(current, current.length);
+			action.accept(work);
+			publish(work.toArray());
+		}
+	}
+
+	/**
+	 * Sort a copy of the items and publish it. Readers see either the old order
+	 * or the sorted one, never something in between.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		synchronized (writeLock) {
+			Object[] next = array.clone();
+			Arrays.sort((T[]) next, order);
+			publish(next);
+		}
+	}
+
+	/**
+	 * Copy the items as they are right now, without locking.
+	 * Complexity: O(n)
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		return array.clone();
+	}
+
+	/**
+	 * Add every item of source so the first lands at index, publishing one new
+	 * array for all of them. Source is copied before taking the lock, so a
+	 * source with a lock of its own can't deadlock against this one.
+	 * Complexity: O(n + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		Object[] items = source.toArray();
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (index < 0 || index > current.length) {
+				throw new BadIndexError();
+			}
+			Object[] next = new Object[current.length + items.length];
+			System.arraycopy(current, 0, next, 0, index);
+			System.arraycopy(items, 0, next, index, items.length);
+			System.arraycopy(current, index, next, index + items.length, current.length - index);
+			publish(next);
+		}
+	}
+
+	/**
+	 * Add every item of source to the back, publishing one new array.
+	 * Complexity: O(n + k) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		Object[] items = source.toArray();
+		synchronized (writeLock) {
+			Object[] current = array;
+			Object[] next = Arrays.copyOf(current, current.length + items.length);
+			System.arraycopy(items, 0, next, current.length, items.length);
+			publish(next);
+		}
+	}
+
+	/**
+	 * Delete the items at indexes [from, to), publishing one new array.
+	 * Complexity: O(n)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			BulkRemoval.checkRange(from, to, current.length);
+			Object[] next = new Object[current.length - (to - from)];
+			System.arraycopy(current, 0, next, 0, from);
+			System.arraycopy(current, to, next, from, current.length - to);
+			publish(next);
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to: compact a copy and publish
+	 * it, or publish nothing if nothing matched. Readers see the list before or
+	 * after, never in between.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		synchronized (writeLock) {
+			Object[] next = array.clone();
+			int kept = BulkRemoval.removeIf(next, 0, next.length, filter);
+			int removed = next.length - kept;
+			if (removed > 0) {
+				publish(Arrays.copyOf(next, kept));
+			}
+			return removed;
+		}
+	}
+
+	/**
+	 * Delete the items at all of these indexes, publishing one new array.
+	 * Complexity: O(n)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		synchronized (writeLock) {
+			Object[] next = array.clone();
+			BulkRemoval.checkIndices(sortedIndices, next.length);
+			int kept = BulkRemoval.removeIndices(next, 0, next.length, sortedIndices);
+			publish(Arrays.copyOf(next, kept));
+		}
+	}
+
+	/**
+	 * A read-only view of the list as it is right now. Later changes to this list
+	 * do not show up in the snapshot.
+	 * Complexity: O(1)
+	 *
+	 * @return the snapshot; its add and remove methods throw ReadOnlyError.
+	 */
+	public Snapshot<T> snapshot() {
+		return new Snapshot<>(array);
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		Object[] current = array;
+		checkNotEmpty(current);
+		return itemAt(current, 0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		Object[] current = array;
+		checkNotEmpty(current);
+		return itemAt(current, current.length - 1);
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(1)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		return itemAt(array, index);
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return array.length == 0;
+	}
+
+	/**
+	 * Find the first index of an item in the array that is published right
+	 * now. Like every read, this takes no lock.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		return indexOf(array, item);
+	}
+
+	/**
+	 * Find the last index of an item in the array that is published right now.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		return lastIndexOf(array, item);
+	}
+
+	/**
+	 * Loop over the list as it was when this method was called.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter<>(array);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private static void checkNotEmpty(Object[] items) {
+		if (items.length == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Keep the "guessing" the objects are actually a T here.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T itemAt(Object[] items, int index) {
+		if (index < 0 || index >= items.length) {
+			throw new BadIndexError();
+		}
+		return (T) items[index];
+	}
+
+	/**
+	 * Scan one published array. Reading the field once means a concurrent write
+	 * can't shrink the array halfway through the scan.
+	 */
+	private static int indexOf(Object[] items, Object item) {
+		for (int i = 0; i < items.length; i++) {
+			if (Objects.equals(item, items[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Scan one published array backwards.
+	 */
+	private static int lastIndexOf(Object[] items, Object item) {
+		for (int i = items.length - 1; i >= 0; i--) {
+			if (Objects.equals(item, items[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Walks one published array; it can't change underneath us.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Iter<T> implements Iterator<T> {
+		private final Object[] items;
+		private int position;
+
+		public Iter(Object[] items) {
+			this.items = items;
+			this.position = 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return position < items.length;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return itemAt(items, position++);
+		}
+	}
+
+	/**
+	 * A read-only list over one published array. Every read is O(1) and lock-free,
+	 * and every add or remove throws a ReadOnlyError.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	public static class Snapshot<T> implements P6List<T>, Iterable<T> {
+		private final Object[] items;
+
+		private Snapshot(Object[] items) {
+			this.items = items;
+		}
+
+		@Override
+		public T removeFront() {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public T removeBack() {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public T removeIndex(int index) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addFront(T item) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addBack(T item) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addIndex(T item, int index) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addAll(int index, P6List<T> source) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addAllBack(P6List<T> source) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void removeRange(int from, int to) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public int removeIf(Predicate<? super T> filter) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void removeIndices(int[] sortedIndices) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public Object[] toArray() {
+			return items.clone();
+		}
+
+		@Override
+		public T getFront() {
+			checkNotEmpty(items);
+			return itemAt(items, 0);
+		}
+
+		@Override
+		public T getBack() {
+			checkNotEmpty(items);
+			return itemAt(items, items.length - 1);
+		}
+
+		@Override
+		public T getIndex(int index) {
+			return itemAt(items, index);
+		}
+
+		@Override
+		public int size() {
+			return items.length;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return items.length == 0;
+		}
+
+		@Override
+		public int indexOf(T item) {
+			return CopyOnWriteGrowableList.indexOf(items, item);
+		}
+
+		@Override
+		public int lastIndexOf(T item) {
+			return CopyOnWriteGrowableList.lastIndexOf(items, item);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new Iter<>(items);
+		}
+	}
+}
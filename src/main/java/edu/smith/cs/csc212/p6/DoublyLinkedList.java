@@ -1,24 +1,118 @@
 package edu.smith.cs.csc212.p6;
 
-
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 
 
-public class DoublyLinkedList<T> implements P6List<T> {
+public class DoublyLinkedList<T> implements P6List<T>, Iterable<T> {
 	private Node<T> start;
 	private Node<T> end;
 	
-	
+	/**
+	 * Removed nodes waiting to be used again, chained through their after
+	 * field. There are never more than poolCapacity of them.
+	 */
+	private Node<T> pool;
+	private int poolSize;
+	private final int poolCapacity;
+	private long poolHits;
+	private long poolMisses;
 	
 	/**
 	 * A doubly-linked list starts empty.
 	 */
 	public DoublyLinkedList() {
+		this(0);
+	}
+	
+	/**
+	 * A doubly-linked list that keeps up to poolCapacity removed nodes for the
+	 * next adds, so a queue that is about the same size all the time stops
+	 * allocating a node per addBack. Don't remove items while a for loop is
+	 * walking the list: a removed node may already be back in the pool.
+	 * 
+	 * @param poolCapacity how many spare nodes to keep; 0 means no pool.
+	 */
+	public DoublyLinkedList(int poolCapacity) {
 		this.start = null;
 		this.end = null;
+		this.pool = null;
+		this.poolSize = 0;
+		this.poolCapacity = poolCapacity;
+	}
+	
+	/**
+	 * Make a node, reusing one from the pool if there is one.
+	 * Complexity: O(1)
+	 */
+	private Node<T> makeNode(T value) {
+		if (pool == null) {
+			poolMisses++;
+			return new Node<>(value);
+		}
+		poolHits++;
+		Node<T> reused = pool;
+		pool = reused.after;
+		poolSize--;
+		reused.value = value;
+		reused.after = null;
+		return reused;
+	}
+	
+	/**
+	 * A node has left the list: keep it if the pool has room, forgetting its
+	 * value so the pool doesn't keep items alive.
+	 * Complexity: O(1)
+	 * 
+	 * @return the value the node held.
+	 */
+	private T recycle(Node<T> node) {
+		T value = node.value;
+		if (poolSize < poolCapacity) {
+			node.value = null;
+			node.before = null;
+			node.after = pool;
+			pool = node;
+			poolSize++;
+		}
+		return value;
+	}
+	
+	/**
+	 * @return how many spare nodes are in the pool right now.
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+	
+	/**
+	 * @return how many nodes came from the pool.
+	 */
+	public long getPoolHits() {
+		return poolHits;
+	}
+	
+	/**
+	 * @return how many nodes had to be allocated because the pool was empty.
+	 */
+	public long getPoolMisses() {
+		return poolMisses;
+	}
+	
+	/**
+	 * @return the fraction of new nodes that came from the pool, or 0 before
+	 *         any were made.
+	 */
+	public double getPoolHitRate() {
+		long total = poolHits + poolMisses;
+		return total == 0 ? 0.0 : (double) poolHits / total;
 	}
 	
 
@@ -33,14 +127,14 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	public T removeFront() {
 		checkNotEmpty();
 		
-		T a = start.value;
+		Node<T> first = start;
 		start = start.after;
 		
 		//make start.before point to null if there is indeed a start
 		if (start!=null) {
 			start.before =null;
 		}
-		return a;
+		return recycle(first);
 	}
 
 	/**
@@ -62,7 +156,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 				
 				start=null;
 				end=null;
-				return only.value;
+				return recycle(only);
 			}
 			// if there are 2 items in a list then make the secondLast/ first item the last and only item
 			else if (size()==2) {
@@ -73,7 +167,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 				end=secondLast;
 				secondLast.after=null;
 			
-				return last.value;
+				return recycle(last);
 		}
 		else {
 		
@@ -85,7 +179,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 			end.after=null;
 			end.before=thirdLast;
 		
-			return last.value;
+			return recycle(last);
 		}
 		
 		
@@ -124,7 +218,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 			b.after = c;
 			c.before= b;
 			
-			return a.value;
+			return recycle(a);
 
 		}
 		
@@ -140,7 +234,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	public void addFront(T item) {
 		// if a list is empty then create a new node and make it the start and end
 		if (start==null) {
-			Node <T> newStart = new Node <T> (item);
+			Node <T> newStart = makeNode(item);
 			start= newStart;
 			end=newStart;
 			}
@@ -148,7 +242,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		//and the newNode.after to current. 
 		else {
 				Node <T> current = start;
-				Node <T> newStart = new Node <T> (item);
+				Node <T> newStart = makeNode(item);
 				newStart.after=current;
 				current.before=newStart;
 				start= newStart;
@@ -166,7 +260,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	public void addBack(T item) {
 		// if a list is empty then create a new node and make it the start and end
 		if (start==null) {
-			Node<T> newBack = new Node<>(item);
+			Node<T> newBack = makeNode(item);
 			start= newBack;
 			end=newBack;
 		}
@@ -174,7 +268,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		//the newNode.before to current, and the newNode.after to null.
 		else {
 			Node <T> current = end;
-			Node<T> newBack = new Node<>(item);
+			Node<T> newBack = makeNode(item);
 			newBack.before = current;
 			newBack.after = null;
 			current.after = newBack;
@@ -212,7 +306,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 			//sever ties between 'b' & 'a' and for form new ties between 'a' & 'c' and 'c' & 'b'
 			//so that 'b' get pushed back to the next index. It should look like ['a','c','b']
 			Node <T> b= a.after;
-			Node<T> c = new Node<>(item);
+			Node<T> c = makeNode(item);
 			a.after=c;
 			b.before=c;
 			c.before=a;
@@ -300,6 +394,307 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		return start==null;
 		
 	}
+
+	/**
+	 * Find the first index of an item by walking the nodes.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int at = 0;
+		for (Node<T> current = start; current != null; current = current.after) {
+			if (Objects.equals(item, current.value)) {
+				return at;
+			}
+			at++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item. This walks forward once and remembers the
+	 * last match, rather than calling getIndex from the back.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = -1;
+		int at = 0;
+		for (Node<T> current = start; current != null; current = current.after) {
+			if (Objects.equals(item, current.value)) {
+				found = at;
+			}
+			at++;
+		}
+		return found;
+	}
+
+	/**
+	 * Sort the nodes with a bottom-up merge sort, like
+	 * {@linkplain SinglyLinkedList#sort}: merge along the after links, then one
+	 * more pass puts the before links and end back. No values move and no
+	 * array is made. Equal items keep their order.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		int length = 0;
+		for (Node<T> n = start; n != null; n = n.after) {
+			length++;
+		}
+		// a placeholder in front of start, so the first run has a node before it too.
+		Node<T> head = new Node<T>(null);
+		head.after = start;
+		for (int width = 1; width < length; width *= 2) {
+			Node<T> tail = head;
+			Node<T> rest = head.after;
+			while (rest != null) {
+				Node<T> left = rest;
+				Node<T> right = cut(left, width);
+				rest = cut(right, width);
+				tail = merge(left, right, tail, order);
+			}
+		}
+		start = head.after;
+		Node<T> before = null;
+		for (Node<T> n = start; n != null; n = n.after) {
+			n.before = before;
+			before = n;
+		}
+		end = before;
+	}
+
+	/**
+	 * Add every item of source so the first lands at index: one walk to the
+	 * node at index, then a chain of new nodes is built on the side and
+	 * spliced in with four links. Unlike addIndex, this works on an empty list.
+	 * Complexity: O(index + k) for k new items.
+	 * 
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		Node<T> after = start;
+		for (int i = 0; i < index; i++) {
+			if (after == null) {
+				throw new BadIndexError();
+			}
+			after = after.after;
+		}
+		Node<T> before;
+		if (after != null) {
+			before = after.before;
+		} else {
+			// end is only meaningful while the list has a start.
+			before = start == null ? null : end;
+		}
+		splice(before, after, items);
+	}
+
+	/**
+	 * Add every item of source to the back.
+	 * Complexity: O(k) for k new items.
+	 * 
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		Object[] items = source.toArray();
+		splice(start == null ? null : end, null, items);
+	}
+
+	/**
+	 * Link a chain of new nodes holding items in between before and after
+	 * (either may be null, at the ends).
+	 */
+	@SuppressWarnings("unchecked")
+	private void splice(Node<T> before, Node<T> after, Object[] items) {
+		if (items.length == 0) {
+			return;
+		}
+		Node<T> first = makeNode((T) items[0]);
+		Node<T> last = first;
+		for (int i = 1; i < items.length; i++) {
+			Node<T> next = makeNode((T) items[i]);
+			next.before = last;
+			last.after = next;
+			last = next;
+		}
+		first.before = before;
+		last.after = after;
+		if (before == null) {
+			start = first;
+		} else {
+			before.after = first;
+		}
+		if (after == null) {
+			end = last;
+		} else {
+			after.before = last;
+		}
+	}
+
+	/**
+	 * Take node out of the list and put it back in the pool, fixing the links
+	 * of its neighbors (and start or end, if it was at either).
+	 * 
+	 * @return the value the node held.
+	 */
+	private T unlink(Node<T> node) {
+		Node<T> before = node.before;
+		Node<T> after = node.after;
+		if (before == null) {
+			start = after;
+		} else {
+			before.after = after;
+		}
+		if (after == null) {
+			end = before;
+		} else {
+			after.before = before;
+		}
+		return recycle(node);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): one walk to the node at from,
+	 * then the nodes in the range go back to the pool and the list is relinked
+	 * around them.
+	 * Complexity: O(n) (counting the items to check to)
+	 * 
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		if (from == to) {
+			return;
+		}
+		Node<T> gone = start;
+		for (int i = 0; i < from; i++) {
+			gone = gone.after;
+		}
+		Node<T> before = gone.before;
+		for (int i = from; i < to; i++) {
+			Node<T> next = gone.after;
+			recycle(gone);
+			gone = next;
+		}
+		if (before == null) {
+			start = gone;
+		} else {
+			before.after = gone;
+		}
+		if (gone == null) {
+			end = before;
+		} else {
+			gone.before = before;
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one walk that relinks
+	 * around each one as it goes. If filter throws, the items it already said
+	 * yes to are gone and the rest are still there.
+	 * Complexity: O(n)
+	 * 
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		Node<T> current = start;
+		while (current != null) {
+			Node<T> next = current.after;
+			if (filter.test(current.value)) {
+				unlink(current);
+				removed++;
+			}
+			current = next;
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one relinking walk.
+	 * Complexity: O(n) (counting the items to check the indexes)
+	 * 
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size());
+		Node<T> current = start;
+		for (int i = 0, j = 0; j < sortedIndices.length; i++) {
+			Node<T> next = current.after;
+			if (i == sortedIndices[j]) {
+				unlink(current);
+				j++;
+			}
+			current = next;
+		}
+	}
+
+	/**
+	 * Cut the list (along the after links) after its first count nodes.
+	 * 
+	 * @return the node after the cut, or null if there aren't that many.
+	 */
+	private static <T> Node<T> cut(Node<T> first, int count) {
+		for (int i = 1; first != null && i < count; i++) {
+			first = first.after;
+		}
+		if (first == null) {
+			return null;
+		}
+		Node<T> rest = first.after;
+		first.after = null;
+		return rest;
+	}
+
+	/**
+	 * Merge two sorted runs onto the end of tail, along the after links only.
+	 * Ties go to left, which keeps the sort stable.
+	 * 
+	 * @return the last node of the merged run.
+	 */
+	private static <T> Node<T> merge(Node<T> left, Node<T> right, Node<T> tail, Comparator<? super T> order) {
+		while (left != null && right != null) {
+			if (order.compare(right.value, left.value) < 0) {
+				tail.after = right;
+				right = right.after;
+			} else {
+				tail.after = left;
+				left = left.after;
+			}
+			tail = tail.after;
+		}
+		tail.after = left != null ? left : right;
+		while (tail.after != null) {
+			tail = tail.after;
+		}
+		return tail;
+	}
 	
 	/**
 	 * Helper method to throw the right error for an empty state.
@@ -310,6 +705,33 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		}
 	}
 	
+	/**
+	 * Implement iterator() so that {@code DoublyLinkedList} can be used in a for
+	 * loop, which walks the list once instead of calling getIndex over and over.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			Node<T> current = start;
+
+			@Override
+			public boolean hasNext() {
+				return current != null;
+			}
+
+			@Override
+			public T next() {
+				if (current == null) {
+					throw new NoSuchElementException();
+				}
+				T found = current.value;
+				current = current.after;
+				return found;
+			}
+		};
+	}
+	
 	/**
 	 * The node on any linked list should not be exposed.
 	 * Static means we don't need a "this" of DoublyLinkedList to make a node.
@@ -1,5 +1,10 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
@@ -162,6 +167,53 @@ public class FixedSizeList<T> implements P6List<T> {
 		return this.fill == 0;
 	}
 
+	/**
+	 * Find the first index of an item by scanning the array.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		for (int i=0; i<fill; i++) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item by scanning the array backwards.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		for (int i=fill-1; i>=0; i--) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Sort the items right in the array, with the library's merge sort
+	 * (TimSort), which is fast on data that is already partly sorted.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		Arrays.sort((T[]) array, 0, fill, order);
+	}
+
 	/**
 	 * Get the first item in the list.
 	 * Complexity: O(1)
@@ -191,4 +243,96 @@ public class FixedSizeList<T> implements P6List<T> {
 		}
 		return this.getIndex(this.size()-1);
 	}
+
+	/**
+	 * Complexity: O(n)
+	 * 
+	 * @return a copy of the items, exactly size() long.
+	 */
+	@Override
+	public Object[] toArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Add every item of source so the first lands at index, shifting the items
+	 * after index over with one arraycopy. Nothing changes if they don't fit.
+	 * Complexity: O(n + k) for k new items.
+	 * 
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError       if the index does not exist.
+	 * @throws RanOutOfSpaceError if the items don't all fit.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		int k = items.length;
+		if (k > array.length - fill) {
+			throw new RanOutOfSpaceError();
+		}
+		System.arraycopy(array, index, array, index + k, fill - index);
+		System.arraycopy(items, 0, array, index, k);
+		fill += k;
+	}
+
+	/**
+	 * Add every item of source to the back. Nothing changes if they don't fit.
+	 * Complexity: O(k) for k new items.
+	 * 
+	 * @param source the items to add; it may be this list.
+	 * @throws RanOutOfSpaceError if the items don't all fit.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(fill, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): the items after them move down
+	 * with one arraycopy, and the slots left at the end are nulled out.
+	 * Complexity: O(n - from)
+	 * 
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, fill);
+		fill = BulkRemoval.removeRange(array, 0, fill, from, to);
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one compacting pass.
+	 * Nothing moves until filter has seen every item.
+	 * Complexity: O(n)
+	 * 
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int before = fill;
+		fill = BulkRemoval.removeIf(array, 0, fill, filter);
+		return before - fill;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one compacting pass.
+	 * Complexity: O(n - sortedIndices[0])
+	 * 
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, fill);
+		fill = BulkRemoval.removeIndices(array, 0, fill, sortedIndices);
+	}
 }
@@ -0,0 +1,436 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A gap buffer: a {@linkplain GrowableList} whose free space is kept wherever
+ * the last edit happened instead of at the end of the array.
+ *
+ * The array looks like [items before the gap][gap][items after the gap]. An add
+ * or remove right at the gap is O(1). An edit somewhere else first moves the gap
+ * there, which costs one arraycopy of the items in between: O(distance). Text
+ * editors use this because edits tend to happen near the previous one.
+ *
+ * getIndex stays O(1): indexes past the gap just skip over it.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class GapBufferList<T> implements P6List<T> {
+	private Object[] array;
+	/**
+	 * The first free slot; items [0, gapStart) come before the gap.
+	 */
+	private int gapStart;
+	/**
+	 * The first item after the gap; items [gapEnd, array.length) come after it.
+	 */
+	private int gapEnd;
+
+	public GapBufferList() {
+		this.array = new Object[Math.max(1, GrowableList.START_SIZE)];
+		this.gapStart = 0;
+		this.gapEnd = array.length;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(1) if the gap is at the front, otherwise O(distance to gap).
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(1) if the gap is at the back, otherwise O(distance to gap).
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size() - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(1) at the gap, otherwise O(distance to gap).
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		T removed;
+		if (index == gapStart - 1) {
+			// removing just before the gap, like backspace.
+			removed = (T) array[--gapStart];
+			array[gapStart] = null;
+		} else {
+			moveGap(index);
+			removed = (T) array[gapEnd];
+			array[gapEnd++] = null;
+		}
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(1) if the gap is at the front, otherwise O(distance to gap).
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1) if the gap is at the back, otherwise O(distance to gap).
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/**
+	 * Add an item to an index in this list; the gap ends up just after it.
+	 * Complexity: O(1) at the gap, otherwise O(distance to gap).
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		if (gapStart == gapEnd) {
+			growGap();
+		}
+		moveGap(index);
+		array[gapStart++] = item;
+	}
+
+	/**
+	 * Slide the gap so that it starts at index, moving the items in between
+	 * across it with one arraycopy.
+	 * Complexity: O(|index - gapStart|)
+	 */
+	private void moveGap(int index) {
+		if (index < gapStart) {
+			int count = gapStart - index;
+			System.arraycopy(array, index, array, gapEnd - count, count);
+			clear(index, Math.min(gapStart, gapEnd - count));
+			gapStart = index;
+			gapEnd -= count;
+		} else if (index > gapStart) {
+			int count = index - gapStart;
+			System.arraycopy(array, gapEnd, array, gapStart, count);
+			clear(Math.max(gapEnd, index), gapEnd + count);
+			gapStart = index;
+			gapEnd += count;
+		}
+	}
+
+	/**
+	 * Forget references in [from, to) so the garbage collector can have them.
+	 */
+	private void clear(int from, int to) {
+		for (int i = from; i < to; i++) {
+			array[i] = null;
+		}
+	}
+
+	/**
+	 * Double the array; the new space all goes into the gap.
+	 * Complexity: O(n), but only every time the size doubles.
+	 */
+	private void growGap() {
+		growGap(array.length * 2);
+	}
+
+	/**
+	 * Move everything into an array of the given length; the new space all
+	 * goes into the gap.
+	 * Complexity: O(n)
+	 */
+	private void growGap(int capacity) {
+		int after = array.length - gapEnd;
+		Object[] bigger = new Object[capacity];
+		System.arraycopy(array, 0, bigger, 0, gapStart);
+		System.arraycopy(array, gapEnd, bigger, bigger.length - after, after);
+		this.array = bigger;
+		this.gapEnd = bigger.length - after;
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size() - 1);
+	}
+
+	/**
+	 * Find the index-th element of this list, skipping over the gap.
+	 * Complexity: O(1)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		if (index < gapStart) {
+			return (T) array[index];
+		}
+		return (T) array[index + (gapEnd - gapStart)];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return array.length - (gapEnd - gapStart);
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Find the first index of an item: scan the items before the gap, then the
+	 * ones after it.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		for (int i = 0; i < gapStart; i++) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		for (int i = gapEnd; i < array.length; i++) {
+			if (Objects.equals(item, array[i])) {
+				return i - (gapEnd - gapStart);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item: scan backwards after the gap, then before
+	 * it.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		for (int i = array.length - 1; i >= gapEnd; i--) {
+			if (Objects.equals(item, array[i])) {
+				return i - (gapEnd - gapStart);
+			}
+		}
+		for (int i = gapStart - 1; i >= 0; i--) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Move the gap to the end, so all the items are in one run at the start of
+	 * the array, and sort them there.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		moveGap(size());
+		Arrays.sort((T[]) array, 0, gapStart, order);
+	}
+
+	/**
+	 * Add every item of source so the first lands at index: make the gap big
+	 * enough (growing at most once), move it to index, and copy the new items
+	 * into it with one arraycopy.
+	 * Complexity: O(distance to gap + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		if (gapEnd - gapStart < items.length) {
+			growGap(Math.max(array.length * 2, size() + items.length));
+		}
+		moveGap(index);
+		System.arraycopy(items, 0, array, gapStart, items.length);
+		gapStart += items.length;
+	}
+
+	/**
+	 * Add every item of source to the back.
+	 * Complexity: O(distance to gap + k) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size(), source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to) by moving the gap to from and
+	 * then widening it over them.
+	 * Complexity: O(distance to gap + (to - from))
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		moveGap(from);
+		clear(gapEnd, gapEnd + (to - from));
+		gapEnd += to - from;
+	}
+
+	/**
+	 * Delete every item that filter says yes to: move the gap to the back so
+	 * the items are one run before it, then compact that run in one pass.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		moveGap(size());
+		int before = gapStart;
+		gapStart = BulkRemoval.removeIf(array, 0, gapStart, filter);
+		return before - gapStart;
+	}
+
+	/**
+	 * Delete the items at all of these indexes: move the gap to the back, then
+	 * compact the items before it in one pass.
+	 * Complexity: O(n)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size());
+		if (sortedIndices.length == 0) {
+			return;
+		}
+		moveGap(size());
+		gapStart = BulkRemoval.removeIndices(array, 0, gapStart, sortedIndices);
+	}
+
+	/**
+	 * Copy the items on either side of the gap.
+	 * Complexity: O(n)
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		int after = array.length - gapEnd;
+		Object[] items = new Object[gapStart + after];
+		System.arraycopy(array, 0, items, 0, gapStart);
+		System.arraycopy(array, gapEnd, items, gapStart, after);
+		return items;
+	}
+
+	/**
+	 * @return the index the gap is in front of; edits here are O(1).
+	 */
+	public int gapPosition() {
+		return gapStart;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
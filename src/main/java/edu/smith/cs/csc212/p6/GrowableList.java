@@ -1,5 +1,11 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 
@@ -13,6 +19,19 @@ public class GrowableList<T> implements P6List<T> {
 		this.fill = 0;
 	}
 
+	/**
+	 * Start a list holding a copy of the first count items of another array.
+	 * Complexity: O(n)
+	 * 
+	 * @param items the items to copy, in order.
+	 * @param count how many of them are real items.
+	 */
+	GrowableList(Object[] items, int count) {
+		this.array = new Object[Math.max(START_SIZE, count + count / 2 + 1)];
+		System.arraycopy(items, 0, this.array, 0, count);
+		this.fill = count;
+	}
+
 	/**
 	 * Delete the item at the front of the list.
 	 * Complexity: O(n)
@@ -90,7 +109,7 @@ public class GrowableList<T> implements P6List<T> {
 	public void addBack(T item) {
 		// I've implemented part of this for you.
 		if (fill >= this.array.length) { 
-			addIndex(item,-1);
+			resizeArray();
 		}
 		
 		this.array[fill++] = item;
@@ -102,11 +121,15 @@ public class GrowableList<T> implements P6List<T> {
 	 * 
 	 * @param item  the data to add to the list.
 	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
 	 */
 	@Override
 	public void addIndex(T item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
 		if (fill >= array.length) {
-			addIndex(item,index);
+			resizeArray();
 		}
 		// loop backwards, shifting items to the right.
 		for (int j=fill; j>index; j--) {
@@ -160,9 +183,13 @@ public class GrowableList<T> implements P6List<T> {
 	 * 
 	 * @param index a number from 0 to size, excluding size.
 	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
 	 */
 	@Override
 	public T getIndex(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
 		return (T) this.array[index];
 	}
 
@@ -188,5 +215,186 @@ public class GrowableList<T> implements P6List<T> {
 		return fill == 0;
 	}
 
+	/**
+	 * Find the first index of an item by scanning the array.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		for (int i=0; i<fill; i++) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item by scanning the array backwards.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		for (int i=fill-1; i>=0; i--) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Sort the items right in the array, with the library's merge sort
+	 * (TimSort), which is fast on data that is already partly sorted.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		Arrays.sort((T[]) array, 0, fill, order);
+	}
+
+	/**
+	 * Sort the items right in the array with a fork/join merge sort, like
+	 * Arrays.parallelSort: pieces of up to 8192 items
+	 * are sorted on separate cores and then merged up a tree. This is stable,
+	 * but needs a second array as big as the list while it runs.
+	 * 
+	 * It uses the ForkJoinPool it is called from, or else the common pool.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	public void parallelSort(Comparator<? super T> order) {
+		parallelSort(order, ParallelMergeSort.DEFAULT_CUTOFF);
+	}
+
+	/**
+	 * {@linkplain #parallelSort(Comparator)} with a different cutoff: below that
+	 * many items, sorting and merging happen on one core. Smaller cutoffs make
+	 * more (and smaller) tasks.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order  how to compare items, e.g. Comparator.naturalOrder().
+	 * @param cutoff the sequential cutoff, at least 1.
+	 * @throws IllegalArgumentException if cutoff is less than 1.
+	 */
+	public void parallelSort(Comparator<? super T> order, int cutoff) {
+		ParallelMergeSort.sort(array, 0, fill, order, cutoff);
+	}
+
+	/**
+	 * Add every item of source so the first lands at index: grow the array at
+	 * most once, shift the items after index over with one arraycopy, and copy
+	 * the new items into the hole.
+	 * Complexity: O(n + k) for k new items.
+	 * 
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		int k = items.length;
+		if (fill + k > array.length) {
+			Object[] bigger = new Object[Math.max(fill + k, array.length * 2)];
+			System.arraycopy(array, 0, bigger, 0, fill);
+			this.array = bigger;
+		}
+		System.arraycopy(array, index, array, index + k, fill - index);
+		System.arraycopy(items, 0, array, index, k);
+		fill += k;
+	}
+
+	/**
+	 * Add every item of source to the back, growing the array at most once.
+	 * Complexity: O(k) amortized for k new items.
+	 * 
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(fill, source);
+	}
 
+	/**
+	 * Delete the items at indexes [from, to): the items after them move down
+	 * with one arraycopy, and the slots left at the end are nulled out.
+	 * Complexity: O(n - from)
+	 * 
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, fill);
+		fill = BulkRemoval.removeRange(array, 0, fill, from, to);
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one compacting pass.
+	 * Nothing moves until filter has seen every item.
+	 * Complexity: O(n)
+	 * 
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int before = fill;
+		fill = BulkRemoval.removeIf(array, 0, fill, filter);
+		return before - fill;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one compacting pass.
+	 * Complexity: O(n - sortedIndices[0])
+	 * 
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, fill);
+		fill = BulkRemoval.removeIndices(array, 0, fill, sortedIndices);
+	}
+
+	/**
+	 * Make a bigger array, twice the size, and copy everything over.
+	 * Complexity: O(n), but only every time the size doubles, so addBack is O(1) on average.
+	 */
+	private void resizeArray() {
+		Object[] bigger = new Object[Math.max(1, this.array.length * 2)];
+		for (int i=0; i<fill; i++) {
+			bigger[i] = this.array[i];
+		}
+		this.array = bigger;
+	}
+
+	/**
+	 * Complexity: O(n)
+	 * 
+	 * @return a copy of the items, exactly size() long.
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] copy = new Object[fill];
+		System.arraycopy(this.array, 0, copy, 0, fill);
+		return copy;
+	}
 }
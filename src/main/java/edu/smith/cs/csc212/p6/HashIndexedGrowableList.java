@@ -0,0 +1,428 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+
+/**
+ * A {@linkplain GrowableList} that also keeps a hash index from each value to
+ * the positions it is at, so contains, indexOf and lastIndexOf are O(1) instead
+ * of a scan.
+ *
+ * The index is lazy. It isn't built until the first search, so filling the
+ * list costs the same as a plain GrowableList. Once built, every edit keeps it
+ * up to date. Adds and removes at the back are O(1). An edit in the middle
+ * already moves every later item in the array, so it also moves each of those
+ * items' recorded positions by the same amount. That is one hash lookup per
+ * moved item: the same O(n - index) as the edit, with a bigger constant.
+ * Only sorting builds the index again from scratch, and that is O(n), less
+ * than the sort.
+ *
+ * Values are compared with equals and hashCode, so don't change a value (in a
+ * way that changes its hashCode) while it is in the list.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class HashIndexedGrowableList<T> extends GrowableList<T> {
+	/**
+	 * Every index a value is at, smallest first.
+	 */
+	private static class Positions {
+		int[] at = new int[1];
+		int count;
+
+		void add(int position) {
+			if (count == at.length) {
+				at = Arrays.copyOf(at, count * 2);
+			}
+			at[count++] = position;
+		}
+
+		/**
+		 * Where position is in at[], or where it would go if it isn't there.
+		 */
+		int find(int position) {
+			int lo = 0;
+			int hi = count;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (at[mid] < position) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+
+		void insert(int position) {
+			int k = find(position);
+			add(position);
+			System.arraycopy(at, k, at, k + 1, count - 1 - k);
+			at[k] = position;
+		}
+
+		void remove(int position) {
+			int k = find(position);
+			System.arraycopy(at, k + 1, at, k, count - 1 - k);
+			count--;
+		}
+	}
+
+	/**
+	 * Value to positions, or null until the first search.
+	 */
+	private HashMap<Object, Positions> index;
+	private long rebuilds;
+
+	public HashIndexedGrowableList() {
+		super();
+		this.index = null;
+		this.rebuilds = 0;
+	}
+
+	/**
+	 * Build the index the first time it is needed.
+	 * Complexity: O(n) the first time, O(1) after that.
+	 */
+	private HashMap<Object, Positions> index() {
+		if (index == null) {
+			index = new HashMap<>();
+			for (int i = 0; i < size(); i++) {
+				indexAdd(getIndex(i), i);
+			}
+			rebuilds++;
+		}
+		return index;
+	}
+
+	/**
+	 * Record that item is now at position, which must be after every position
+	 * already recorded for it.
+	 */
+	private void indexAdd(T item, int position) {
+		Positions found = index.get(item);
+		if (found == null) {
+			found = new Positions();
+			index.put(item, found);
+		}
+		found.add(position);
+	}
+
+	/**
+	 * Forget the last position of item, which was just removed from the back.
+	 */
+	private void indexRemoveLast(T item) {
+		Positions found = index.get(item);
+		found.count--;
+		if (found.count == 0) {
+			index.remove(item);
+		}
+	}
+
+	/**
+	 * Record that the item now at position has just been put there, anywhere
+	 * in the list.
+	 */
+	private void indexInsert(int position) {
+		T item = getIndex(position);
+		Positions found = index.get(item);
+		if (found == null) {
+			indexAdd(item, position);
+		} else {
+			found.insert(position);
+		}
+	}
+
+	/**
+	 * Forget the item at position, which is about to be removed.
+	 */
+	private void indexForget(int position) {
+		T item = getIndex(position);
+		Positions found = index.get(item);
+		found.remove(position);
+		if (found.count == 0) {
+			index.remove(item);
+		}
+	}
+
+	/**
+	 * Before the items from position from to the end all move by delta, move
+	 * their recorded positions. Going against the direction of the move means
+	 * no item's new position is still recorded for another copy of it, so
+	 * each list of positions stays sorted.
+	 * Complexity: O(n - from)
+	 */
+	private void indexMove(int from, int delta) {
+		if (delta > 0) {
+			for (int i = size() - 1; i >= from; i--) {
+				indexMoveOne(i, delta);
+			}
+		} else {
+			for (int i = from; i < size(); i++) {
+				indexMoveOne(i, delta);
+			}
+		}
+	}
+
+	private void indexMoveOne(int position, int delta) {
+		Positions found = index.get(getIndex(position));
+		found.at[found.find(position)] = position + delta;
+	}
+
+	/**
+	 * @return true if the index is built right now (mostly for tests).
+	 */
+	public boolean isIndexed() {
+		return index != null;
+	}
+
+	/**
+	 * @return how many times the index has been built from scratch.
+	 */
+	public long getRebuildCount() {
+		return rebuilds;
+	}
+
+	/**
+	 * Add an item to the back, and to the index if it is built.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		super.addBack(item);
+		if (index != null) {
+			indexAdd(item, size() - 1);
+		}
+	}
+
+	/**
+	 * Add an item to an index in this list, moving the index entries of the
+	 * items after it.
+	 * Complexity: O(n - index)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		boolean tracked = this.index != null && index >= 0 && index <= size();
+		if (tracked) {
+			indexMove(index, 1);
+		}
+		super.addIndex(item, index);
+		if (tracked) {
+			indexInsert(index);
+		}
+	}
+
+	/**
+	 * Delete the item at the back of the list, keeping the index up to date.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 */
+	@Override
+	public T removeBack() {
+		T removed = super.removeBack();
+		if (index != null) {
+			indexRemoveLast(removed);
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the specified index in the list, moving the index
+	 * entries of the items after it.
+	 * Complexity: O(n - index)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		if (this.index != null && index >= 0 && index < size()) {
+			indexForget(index);
+			indexMove(index + 1, -1);
+		}
+		return super.removeIndex(index);
+	}
+
+	/**
+	 * Find the first index of an item with the hash index.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		Positions found = index().get(item);
+		return found == null ? -1 : found.at[0];
+	}
+
+	/**
+	 * Find the last index of an item with the hash index.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		Positions found = index().get(item);
+		return found == null ? -1 : found.at[found.count - 1];
+	}
+
+	/**
+	 * Is an item anywhere in this list?
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item what to look for.
+	 * @return true if the item is in the list.
+	 */
+	@Override
+	public boolean contains(T item) {
+		return index().containsKey(item);
+	}
+
+	/**
+	 * Sort the array. Every position may change, so if the index was built,
+	 * it is built again right away.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		super.sort(order);
+		reindex();
+	}
+
+	/**
+	 * Sort the array on several cores, then build the index again if it was
+	 * built.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order  how to compare items, e.g. Comparator.naturalOrder().
+	 * @param cutoff the sequential cutoff, at least 1.
+	 * @throws IllegalArgumentException if cutoff is less than 1.
+	 */
+	@Override
+	public void parallelSort(Comparator<? super T> order, int cutoff) {
+		super.parallelSort(order, cutoff);
+		reindex();
+	}
+
+	/**
+	 * After every position changed, build the index again if it was built.
+	 */
+	private void reindex() {
+		if (index != null) {
+			index = null;
+			index();
+		}
+	}
+
+	/**
+	 * Add every item of source with one shift, moving the index entries of
+	 * the items after index first and then recording the new ones.
+	 * Complexity: O(n - index + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		int k = source.size();
+		if (this.index != null) {
+			indexMove(index, k);
+		}
+		super.addAll(index, source);
+		if (this.index != null) {
+			for (int i = index; i < index + k; i++) {
+				indexInsert(i);
+			}
+		}
+	}
+
+	/**
+	 * Delete the items at indexes [from, to) with one shift, forgetting them
+	 * and moving the index entries of the items after them.
+	 * Complexity: O(n - from)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		if (index != null) {
+			for (int i = from; i < to; i++) {
+				indexForget(i);
+			}
+			indexMove(to, from - to);
+		}
+		super.removeRange(from, to);
+	}
+
+	/**
+	 * Delete every item that filter says yes to: ask about every item first,
+	 * then delete those indexes in one pass with removeIndices. If filter
+	 * throws, nothing is deleted.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int[] doomed = new int[size()];
+		int count = 0;
+		for (int i = 0; i < size(); i++) {
+			if (filter.test(getIndex(i))) {
+				doomed[count++] = i;
+			}
+		}
+		removeIndices(Arrays.copyOf(doomed, count));
+		return count;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one pass. Each later item
+	 * moves down by how many were deleted before it, and so does its index
+	 * entry.
+	 * Complexity: O(n - sortedIndices[0])
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size());
+		if (index != null && sortedIndices.length > 0) {
+			int j = 0;
+			for (int i = sortedIndices[0]; i < size(); i++) {
+				if (j < sortedIndices.length && sortedIndices[j] == i) {
+					indexForget(i);
+					j++;
+				} else {
+					indexMoveOne(i, -j);
+				}
+			}
+		}
+		super.removeIndices(sortedIndices);
+	}
+}
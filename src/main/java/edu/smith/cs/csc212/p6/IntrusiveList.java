@@ -0,0 +1,423 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@linkplain DoublyLinkedList} where the items are their own nodes.
+ *
+ * Every item implements {@linkplain Linked}, so it has before/after fields of
+ * its own and no Node is ever made: adding allocates nothing. Because an item
+ * knows its neighbors (and which list it is in), {@linkplain #remove} can take
+ * it out in O(1) without searching, which is what you want for things like
+ * open connections or sessions that leave from anywhere in the list.
+ *
+ * An item can only be in one IntrusiveList at a time; adding one that is
+ * already in a list is an IllegalArgumentException.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class IntrusiveList<T extends Linked<T>> implements P6List<T>, Iterable<T> {
+	private T start;
+	private T end;
+	private int size;
+
+	/**
+	 * An intrusive list starts empty.
+	 */
+	public IntrusiveList() {
+		this.start = null;
+		this.end = null;
+		this.size = 0;
+	}
+
+	/**
+	 * Link item in between before and after (either may be null at the ends).
+	 */
+	private void link(T item, T before, T after) {
+		if (item.getList() != null) {
+			throw new IllegalArgumentException("That item is already in a list.");
+		}
+		item.setList(this);
+		item.setBefore(before);
+		item.setAfter(after);
+		if (before == null) {
+			start = item;
+		} else {
+			before.setAfter(item);
+		}
+		if (after == null) {
+			end = item;
+		} else {
+			after.setBefore(item);
+		}
+		size++;
+	}
+
+	/**
+	 * Take item out and clear its links, so it can go in another list.
+	 */
+	private T unlink(T item) {
+		T before = item.getBefore();
+		T after = item.getAfter();
+		if (before == null) {
+			start = after;
+		} else {
+			before.setAfter(after);
+		}
+		if (after == null) {
+			end = before;
+		} else {
+			after.setBefore(before);
+		}
+		item.setBefore(null);
+		item.setAfter(null);
+		item.setList(null);
+		size--;
+		return item;
+	}
+
+	/**
+	 * @return the item at index (which must exist), walking from whichever end
+	 *         is closer.
+	 */
+	private T itemAt(int index) {
+		if (index < size / 2) {
+			T current = start;
+			for (int i = 0; i < index; i++) {
+				current = current.getAfter();
+			}
+			return current;
+		}
+		T current = end;
+		for (int i = size - 1; i > index; i--) {
+			current = current.getBefore();
+		}
+		return current;
+	}
+
+	/**
+	 * Take an item out of this list, wherever it is.
+	 * Complexity: O(1)
+	 *
+	 * @param item something in this list.
+	 * @throws IllegalArgumentException if item isn't in this list.
+	 */
+	public void remove(T item) {
+		if (item.getList() != this) {
+			throw new IllegalArgumentException("That item is not in this list.");
+		}
+		unlink(item);
+	}
+
+	/**
+	 * Is this very item in this list? Items are their own nodes, so all the
+	 * searches here go by identity, not equals: an equal but different item is
+	 * not in the list.
+	 * Complexity: O(1)
+	 *
+	 * @param item anything.
+	 * @return true if item is in this list.
+	 */
+	@Override
+	public boolean contains(T item) {
+		return item != null && item.getList() == this;
+	}
+
+	/**
+	 * Find where this very item is, by counting the items before it.
+	 * Complexity: O(index)
+	 *
+	 * @param item anything.
+	 * @return its index, or -1 if it isn't in this list.
+	 */
+	@Override
+	public int indexOf(T item) {
+		if (!contains(item)) {
+			return -1;
+		}
+		int at = 0;
+		for (T current = item.getBefore(); current != null; current = current.getBefore()) {
+			at++;
+		}
+		return at;
+	}
+
+	/**
+	 * An item can only be in the list once, so this is {@linkplain #indexOf}.
+	 * Complexity: O(index)
+	 *
+	 * @param item anything.
+	 * @return its index, or -1 if it isn't in this list.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		return indexOf(item);
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return unlink(start);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return unlink(end);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		return unlink(itemAt(index));
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): find the item at from from the
+	 * closer end, then unlink items along the after links. Each one comes out
+	 * with its links cleared, ready for another list.
+	 * Complexity: O(min(from, size - from) + (to - from))
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (from == to) {
+			return;
+		}
+		T current = itemAt(from);
+		for (int i = from; i < to; i++) {
+			T after = current.getAfter();
+			unlink(current);
+			current = after;
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one walk that unlinks
+	 * each one as it goes. If filter throws, the items it already said yes to
+	 * are gone and the rest are still there.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		T current = start;
+		while (current != null) {
+			T after = current.getAfter();
+			if (filter.test(current)) {
+				unlink(current);
+				removed++;
+			}
+			current = after;
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one walk along the after
+	 * links.
+	 * Complexity: O(last index)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size);
+		T current = start;
+		for (int i = 0, j = 0; j < sortedIndices.length; i++) {
+			T after = current.getAfter();
+			if (i == sortedIndices[j]) {
+				unlink(current);
+				j++;
+			}
+			current = after;
+		}
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(1)
+	 *
+	 * @param item the data to add to the list.
+	 * @throws IllegalArgumentException if item is already in a list.
+	 */
+	@Override
+	public void addFront(T item) {
+		link(item, null, start);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1)
+	 *
+	 * @param item the data to add to the list.
+	 * @throws IllegalArgumentException if item is already in a list.
+	 */
+	@Override
+	public void addBack(T item) {
+		link(item, end, null);
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 * @throws IllegalArgumentException if item is already in a list.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == size) {
+			addBack(item);
+		} else {
+			T after = itemAt(index);
+			link(item, after.getBefore(), after);
+		}
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return start;
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return end;
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		return itemAt(index);
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Walk the after links from the start. It is fine to {@linkplain #remove}
+	 * the item you were just given.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			T current = start;
+
+			@Override
+			public boolean hasNext() {
+				return current != null;
+			}
+
+			@Override
+			public T next() {
+				if (current == null) {
+					throw new NoSuchElementException();
+				}
+				T found = current;
+				current = current.getAfter();
+				return found;
+			}
+		};
+	}
+}
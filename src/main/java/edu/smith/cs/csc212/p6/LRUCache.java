@@ -0,0 +1,192 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A cache that holds at most capacity entries and, when it is full, forgets
+ * the one that was used least recently.
+ *
+ * The entries live in an {@linkplain IntrusiveList}, most recently used at the
+ * front, and a HashMap finds the entry for a key. So get, put and remove are
+ * all O(1): the map finds the entry, and moving it to the front or dropping
+ * the back doesn't have to search the list.
+ *
+ * This class is not thread-safe; see {@linkplain StripedLRUCache}.
+ *
+ * @param <K> - the type of the keys.
+ * @param <V> - the type of the values.
+ */
+public class LRUCache<K, V> {
+	/**
+	 * A key and value that is its own list node.
+	 */
+	static class Entry<K, V> extends AbstractLinked<Entry<K, V>> {
+		final K key;
+		V value;
+
+		Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	private final int capacity;
+	private final HashMap<K, Entry<K, V>> index;
+	/**
+	 * Most recently used at the front, next to be evicted at the back.
+	 */
+	private final IntrusiveList<Entry<K, V>> order;
+	private BiConsumer<K, V> onEvict;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * @param capacity the most entries to keep; at least 1.
+	 */
+	public LRUCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+		}
+		this.capacity = capacity;
+		this.index = new HashMap<>();
+		this.order = new IntrusiveList<>();
+	}
+
+	/**
+	 * @param onEvict called with the key and value of every entry pushed out to
+	 *                make room (not for remove or replaced values), or null.
+	 */
+	public void setEvictionListener(BiConsumer<K, V> onEvict) {
+		this.onEvict = onEvict;
+	}
+
+	/**
+	 * Look up a key, and count it as used.
+	 * Complexity: O(1)
+	 *
+	 * @param key what to look for.
+	 * @return its value, or null if it isn't in the cache.
+	 */
+	public V get(K key) {
+		Entry<K, V> found = index.get(key);
+		if (found == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		touch(found);
+		return found.value;
+	}
+
+	/**
+	 * Add or replace the value for a key, and count it as used. If that makes
+	 * the cache too big, the least recently used entry is evicted.
+	 * Complexity: O(1)
+	 *
+	 * @param key   the key.
+	 * @param value its new value.
+	 * @return the value it replaced, or null.
+	 */
+	public V put(K key, V value) {
+		Entry<K, V> found = index.get(key);
+		if (found != null) {
+			V old = found.value;
+			found.value = value;
+			touch(found);
+			return old;
+		}
+		Entry<K, V> added = new Entry<>(key, value);
+		index.put(key, added);
+		order.addFront(added);
+		if (order.size() > capacity) {
+			Entry<K, V> oldest = order.removeBack();
+			index.remove(oldest.key);
+			evictions++;
+			if (onEvict != null) {
+				onEvict.accept(oldest.key, oldest.value);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Forget a key.
+	 * Complexity: O(1)
+	 *
+	 * @param key the key.
+	 * @return the value it had, or null if it wasn't there.
+	 */
+	public V remove(K key) {
+		Entry<K, V> found = index.remove(key);
+		if (found == null) {
+			return null;
+		}
+		order.remove(found);
+		return found.value;
+	}
+
+	/**
+	 * Check for a key without counting it as used (or as a hit or miss).
+	 * Complexity: O(1)
+	 *
+	 * @param key the key.
+	 * @return true if the cache has it.
+	 */
+	public boolean containsKey(K key) {
+		return index.containsKey(key);
+	}
+
+	/**
+	 * Move an entry to the front of the list: it is now the most recent.
+	 */
+	private void touch(Entry<K, V> entry) {
+		if (order.getFront() != entry) {
+			order.remove(entry);
+			order.addFront(entry);
+		}
+	}
+
+	/**
+	 * @return the key that would be evicted next, or null if empty.
+	 */
+	public K eldestKey() {
+		return order.isEmpty() ? null : order.getBack().key;
+	}
+
+	/**
+	 * @return how many entries are in the cache.
+	 */
+	public int size() {
+		return order.size();
+	}
+
+	/**
+	 * @return the most entries it will hold.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return how many gets found their key.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return how many gets didn't find their key.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return how many entries were pushed out to make room.
+	 */
+	public long getEvictions() {
+		return evictions;
+	}
+}
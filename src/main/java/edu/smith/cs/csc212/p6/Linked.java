@@ -0,0 +1,45 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * Something that can be put in an {@linkplain IntrusiveList}: it carries its
+ * own before/after links instead of being wrapped in a Node, so adding it to
+ * the list allocates nothing and removing it doesn't have to search.
+ *
+ * Most classes can just extend {@linkplain AbstractLinked}, which has the
+ * fields; implement this directly if you already extend something else.
+ *
+ * The list owns these fields: only IntrusiveList should call the setters.
+ *
+ * @param <T> - the class implementing this, so the links have the right type.
+ */
+public interface Linked<T extends Linked<T>> {
+	/**
+	 * @return the element before this one, or null if it is first.
+	 */
+	T getBefore();
+
+	/**
+	 * @param before the element before this one, or null.
+	 */
+	void setBefore(T before);
+
+	/**
+	 * @return the element after this one, or null if it is last.
+	 */
+	T getAfter();
+
+	/**
+	 * @param after the element after this one, or null.
+	 */
+	void setAfter(T after);
+
+	/**
+	 * @return the list this element is in, or null if it isn't in one.
+	 */
+	IntrusiveList<T> getList();
+
+	/**
+	 * @param list the list this element is now in, or null.
+	 */
+	void setList(IntrusiveList<T> list);
+}
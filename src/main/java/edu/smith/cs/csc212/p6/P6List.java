@@ -1,5 +1,10 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
@@ -99,4 +104,178 @@ public interface P6List<T> {
 	 * @return true if the list is empty.
 	 */
 	public boolean isEmpty();
+
+	/**
+	 * Find the first index of an item, comparing with equals (null matches
+	 * null). This default asks getIndex for every position, which is O(n^2) on
+	 * a linked list, so most lists override it with a direct scan.
+	 * 
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	public default int indexOf(T item) {
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (Objects.equals(item, getIndex(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item, comparing with equals (null matches null).
+	 * 
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	public default int lastIndexOf(T item) {
+		for (int i = size() - 1; i >= 0; i--) {
+			if (Objects.equals(item, getIndex(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Is an item anywhere in this list?
+	 * 
+	 * @param item what to look for.
+	 * @return true if {@code indexOf(item) >= 0}.
+	 */
+	public default boolean contains(T item) {
+		return indexOf(item) >= 0;
+	}
+
+	/**
+	 * Sort the items, keeping equal items in the order they were in. This
+	 * default empties the list into an array from the back, sorts the array and
+	 * adds everything back: O(n log n) as long as removeBack and addBack are
+	 * O(1). Most lists override it with a sort that leaves the items in place.
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	public default void sort(Comparator<? super T> order) {
+		@SuppressWarnings("unchecked")
+		T[] items = (T[]) new Object[size()];
+		for (int i = items.length - 1; i >= 0; i--) {
+			items[i] = removeBack();
+		}
+		Arrays.sort(items, order);
+		for (T item : items) {
+			addBack(item);
+		}
+	}
+
+	/**
+	 * Copy the items into a new array, front to back. This default uses the
+	 * list's iterator if it has one and getIndex otherwise, which is O(n^2) on
+	 * a linked list without an iterator, so those lists override it.
+	 * 
+	 * @return a new array of size() items, in list order.
+	 */
+	public default Object[] toArray() {
+		Object[] items = new Object[size()];
+		if (this instanceof Iterable) {
+			int i = 0;
+			for (Object item : (Iterable<?>) this) {
+				items[i++] = item;
+			}
+		} else {
+			for (int i = 0; i < items.length; i++) {
+				items[i] = getIndex(i);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Add every item of source, in order, so that the first one ends up at
+	 * index. Source is copied first, so {@code addAll(i, this)} works. This
+	 * default calls addIndex once per item, which is O(k*n) on array lists; most
+	 * lists override it to make room once.
+	 * 
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it is not changed.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public default void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		for (int i = 0; i < items.length; i++) {
+			@SuppressWarnings("unchecked")
+			T item = (T) items[i];
+			addIndex(item, index + i);
+		}
+	}
+
+	/**
+	 * Add every item of source, in order, to the back of this list. Source is
+	 * copied first, so {@code addAllBack(this)} doubles the list.
+	 * 
+	 * @param source the items to add; it is not changed.
+	 */
+	public default void addAllBack(P6List<T> source) {
+		Object[] items = source.toArray();
+		for (int i = 0; i < items.length; i++) {
+			@SuppressWarnings("unchecked")
+			T item = (T) items[i];
+			addBack(item);
+		}
+	}
+
+	/**
+	 * Delete the items at indexes from (included) to to (excluded). This
+	 * default calls removeIndex(from) once per item, which is O(k*n) on array
+	 * lists; most lists override it to close the gap once.
+	 * 
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete; from == to deletes nothing.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	public default void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		for (int i = from; i < to; i++) {
+			removeIndex(from);
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to; the rest keep their order.
+	 * This default asks about the items from the back and calls removeIndex
+	 * for each one, so most lists override it with a single pass.
+	 * 
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	public default int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		for (int i = size() - 1; i >= 0; i--) {
+			if (filter.test(getIndex(i))) {
+				removeIndex(i);
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes (as they are before any of them
+	 * is deleted). The indexes are checked before anything is deleted.
+	 * 
+	 * @param sortedIndices strictly increasing indexes, each from 0 to size
+	 *                      (excluding size).
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	public default void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size());
+		for (int j = sortedIndices.length - 1; j >= 0; j--) {
+			removeIndex(sortedIndices[j]);
+		}
+	}
 }
@@ -0,0 +1,234 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork/join merge sort over an Object[], in the style of
+ * Arrays.parallelSort, shared by {@linkplain GrowableList#parallelSort} and
+ * {@linkplain ChunkyLinkedList#parallelSort}.
+ *
+ * The array is cut into sorted runs (for a GrowableList, pieces of at most
+ * cutoff items, each sorted with Arrays.sort; for a ChunkyLinkedList, its
+ * chunks). Then runs are merged pairwise up a tree, both halves of the tree in
+ * parallel, and each big merge is itself split in two by binary search so the
+ * last few merges don't run on one core. Anything with cutoff items or fewer
+ * is done sequentially, since forking it would cost more than it saves.
+ *
+ * Ties always go to the left run, so the sort is stable. It needs a second
+ * array the size of the range.
+ *
+ * The tasks run in whichever ForkJoinPool calls this, or the common pool if
+ * it isn't called from one; to use a pool of your own size, call it from
+ * inside {@code pool.submit(...)}.
+ */
+class ParallelMergeSort {
+	/**
+	 * Arrays.parallelSort won't split below this many items either.
+	 */
+	static final int DEFAULT_CUTOFF = 1 << 13;
+
+	/**
+	 * Sort a[from, to) in parallel.
+	 * Complexity: O(n log n) work, O(n) extra space.
+	 *
+	 * @param a      the items.
+	 * @param from   the first index to sort.
+	 * @param to     one past the last index to sort.
+	 * @param order  how to compare items.
+	 * @param cutoff ranges this small are sorted or merged without forking.
+	 * @throws IllegalArgumentException if cutoff is less than 1.
+	 */
+	static <T> void sort(Object[] a, int from, int to, Comparator<? super T> order, int cutoff) {
+		checkCutoff(cutoff);
+		int n = to - from;
+		int[] bounds = new int[(n + cutoff - 1) / cutoff + 1];
+		for (int i = 0; i < bounds.length; i++) {
+			bounds[i] = (int) Math.min(to, from + (long) i * cutoff);
+		}
+		sortRuns(a, bounds, order, cutoff);
+	}
+
+	/**
+	 * Sort a[bounds[0], bounds[k]) in parallel, where the range is cut into k
+	 * runs, run i being a[bounds[i], bounds[i+1]). Each run is sorted on its own
+	 * (in parallel with the others) before the merging starts.
+	 * Complexity: O(n log n) work, O(n) extra space.
+	 *
+	 * @param a      the items.
+	 * @param bounds where each run starts, then where the last one ends.
+	 * @param order  how to compare items.
+	 * @param cutoff ranges this small are sorted or merged without forking.
+	 * @throws IllegalArgumentException if cutoff is less than 1.
+	 */
+	static <T> void sortRuns(Object[] a, int[] bounds, Comparator<? super T> order, int cutoff) {
+		checkCutoff(cutoff);
+		int runs = bounds.length - 1;
+		if (runs < 1 || bounds[runs] - bounds[0] < 2) {
+			return;
+		}
+		Object[] scratch = new Object[bounds[runs]];
+		SortTask<T> task = new SortTask<>(a, scratch, bounds, 0, runs, false, order, cutoff);
+		if (ForkJoinTask.inForkJoinPool()) {
+			task.invoke();
+		} else {
+			ForkJoinPool.commonPool().invoke(task);
+		}
+	}
+
+	private static void checkCutoff(int cutoff) {
+		if (cutoff < 1) {
+			throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+		}
+	}
+
+	/**
+	 * Sort the runs [firstRun, lastRun) so the result lands in b if intoB, or
+	 * in a otherwise. Each level merges from one array into the other, so
+	 * nothing has to be copied back.
+	 */
+	@SuppressWarnings("serial")
+	static class SortTask<T> extends RecursiveAction {
+		final Object[] a;
+		final Object[] b;
+		final int[] bounds;
+		final int firstRun;
+		final int lastRun;
+		final boolean intoB;
+		final Comparator<? super T> order;
+		final int cutoff;
+
+		SortTask(Object[] a, Object[] b, int[] bounds, int firstRun, int lastRun, boolean intoB,
+				Comparator<? super T> order, int cutoff) {
+			this.a = a;
+			this.b = b;
+			this.bounds = bounds;
+			this.firstRun = firstRun;
+			this.lastRun = lastRun;
+			this.intoB = intoB;
+			this.order = order;
+			this.cutoff = cutoff;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void compute() {
+			int lo = bounds[firstRun];
+			int hi = bounds[lastRun];
+			if (lastRun - firstRun == 1) {
+				Arrays.sort((T[]) a, lo, hi, order);
+				if (intoB) {
+					System.arraycopy(a, lo, b, lo, hi - lo);
+				}
+				return;
+			}
+			int midRun = (firstRun + lastRun) >>> 1;
+			// the halves go in the other array, so this merge can go where we want it.
+			SortTask<T> left = new SortTask<>(a, b, bounds, firstRun, midRun, !intoB, order, cutoff);
+			SortTask<T> right = new SortTask<>(a, b, bounds, midRun, lastRun, !intoB, order, cutoff);
+			if (hi - lo <= cutoff) {
+				left.compute();
+				right.compute();
+			} else {
+				invokeAll(left, right);
+			}
+			Object[] src = intoB ? a : b;
+			Object[] dst = intoB ? b : a;
+			new MergeTask<>(src, lo, bounds[midRun], bounds[midRun], hi, dst, lo, order, cutoff).compute();
+		}
+	}
+
+	/**
+	 * Merge src[lo1, hi1) and src[lo2, hi2), both sorted, into dst from at.
+	 * A big merge picks the middle of the longer side, finds where it goes in
+	 * the shorter side, and does the two smaller merges on either side of it in
+	 * parallel.
+	 */
+	@SuppressWarnings("serial")
+	static class MergeTask<T> extends RecursiveAction {
+		final Object[] src;
+		final int lo1;
+		final int hi1;
+		final int lo2;
+		final int hi2;
+		final Object[] dst;
+		final int at;
+		final Comparator<? super T> order;
+		final int cutoff;
+
+		MergeTask(Object[] src, int lo1, int hi1, int lo2, int hi2, Object[] dst, int at,
+				Comparator<? super T> order, int cutoff) {
+			this.src = src;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.dst = dst;
+			this.at = at;
+			this.order = order;
+			this.cutoff = cutoff;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= cutoff || n1 == 0 || n2 == 0) {
+				merge();
+				return;
+			}
+			int split1;
+			int split2;
+			if (n1 >= n2) {
+				// left items equal to the pivot stay in front of right ones.
+				split1 = (lo1 + hi1) >>> 1;
+				split2 = search(lo2, hi2, (T) src[split1], false);
+			} else {
+				split2 = (lo2 + hi2) >>> 1;
+				split1 = search(lo1, hi1, (T) src[split2], true);
+			}
+			int middle = at + (split1 - lo1) + (split2 - lo2);
+			invokeAll(new MergeTask<>(src, lo1, split1, lo2, split2, dst, at, order, cutoff),
+					new MergeTask<>(src, split1, hi1, split2, hi2, dst, middle, order, cutoff));
+		}
+
+		/**
+		 * @return the first index in src[lo, hi) whose item is bigger than key
+		 *         (if after) or not smaller than key (otherwise).
+		 */
+		@SuppressWarnings("unchecked")
+		private int search(int lo, int hi, T key, boolean after) {
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				int cmp = order.compare((T) src[mid], key);
+				if (cmp < 0 || (after && cmp == 0)) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void merge() {
+			int i = lo1;
+			int j = lo2;
+			int out = at;
+			while (i < hi1 && j < hi2) {
+				if (order.compare((T) src[j], (T) src[i]) < 0) {
+					dst[out++] = src[j++];
+				} else {
+					dst[out++] = src[i++];
+				}
+			}
+			System.arraycopy(src, i, dst, out, hi1 - i);
+			out += hi1 - i;
+			System.arraycopy(src, j, dst, out, hi2 - j);
+		}
+	}
+}
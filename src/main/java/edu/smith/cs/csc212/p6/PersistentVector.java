@@ -0,0 +1,665 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * An immutable list where every "change" returns a new version and leaves the
+ * old one alone. Versions share almost all of their structure, so keeping many
+ * of them (for undo history, say) costs little more than keeping one.
+ *
+ * This is a relaxed radix-balanced tree (RRB-vector): items live in leaves of up
+ * to 32, and every inner node has up to 32 children plus a table of cumulative
+ * sizes. Every node except the root has at least 16 slots, so the tree is at
+ * most about log16(n) deep. Because nodes can be less than full, a lookup
+ * starts scanning a node at the slot a full radix tree would use and moves
+ * right a few slots at most.
+ *
+ * A change copies one path from the root to a leaf, so it costs
+ * O(32 * log32(n)): "effectively constant" for any n that fits in an int.
+ * Concatenation and slicing copy the tree edges only, O(log n).
+ *
+ * Use a {@link Builder} to make a large vector from scratch in O(n).
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+	static final int BITS = 5;
+	static final int WIDTH = 1 << BITS;
+	static final int MIN_WIDTH = WIDTH / 2;
+
+	private static final PersistentVector<Object> EMPTY = new PersistentVector<>(null, 0);
+
+	/**
+	 * The top of the tree, or null if the vector is empty.
+	 */
+	private final Node root;
+	/**
+	 * 0 if the root is a leaf.
+	 */
+	private final int height;
+
+	/**
+	 * Every vector goes through here; we never keep an inner root with one child.
+	 */
+	private PersistentVector(Node root, int height) {
+		while (root != null && !root.isLeaf() && root.width() == 1) {
+			root = root.child(0);
+			height--;
+		}
+		if (root != null && root.width() == 0) {
+			root = null;
+			height = 0;
+		}
+		this.root = root;
+		this.height = height;
+	}
+
+	/**
+	 * @return the vector with nothing in it.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentVector<T> empty() {
+		return (PersistentVector<T>) EMPTY;
+	}
+
+	/**
+	 * @return a builder for making a large vector quickly.
+	 */
+	public static <T> Builder<T> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	public int size() {
+		return root == null ? 0 : root.size();
+	}
+
+	/**
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * How deep the tree is; a single leaf is 0.
+	 */
+	int height() {
+		return height;
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(log32 n)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		checkIndex(index, size());
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			int j = node.childFor(index, h);
+			index -= node.offset(j);
+			node = node.child(j);
+		}
+		return (T) node.slots[index];
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(log32 n)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(log32 n)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size() - 1);
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @param item  the new value.
+	 * @return a new version with the item at index replaced.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public PersistentVector<T> setIndex(int index, T item) {
+		checkIndex(index, size());
+		return new PersistentVector<>(set(root, height, index, item), height);
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @param item the data to add to the list.
+	 * @return a new version with item at getIndex(0).
+	 */
+	public PersistentVector<T> addFront(T item) {
+		return addIndex(item, 0);
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @param item the data to add to the list.
+	 * @return a new version with item at getIndex(size()-1).
+	 */
+	public PersistentVector<T> addBack(T item) {
+		return addIndex(item, size());
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @return a new version with item at getIndex(index).
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public PersistentVector<T> addIndex(T item, int index) {
+		checkIndex(index, size() + 1);
+		if (root == null) {
+			return new PersistentVector<>(Node.leaf(new Object[] { item }), 0);
+		}
+		Node[] grown = insert(root, height, index, item);
+		if (grown.length == 1) {
+			return new PersistentVector<>(grown[0], height);
+		}
+		return new PersistentVector<>(Node.branch(grown), height + 1);
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @return a new version without the first item.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	public PersistentVector<T> removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @return a new version without the last item.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	public PersistentVector<T> removeBack() {
+		checkNotEmpty();
+		return removeIndex(size() - 1);
+	}
+
+	/**
+	 * Complexity: O(log32 n)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return a new version without the item at index.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	public PersistentVector<T> removeIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index, size());
+		return new PersistentVector<>(remove(root, height, index), height);
+	}
+
+	/**
+	 * Complexity: O(log n)
+	 *
+	 * @param other the items to put after ours.
+	 * @return a new version holding this list followed by other.
+	 */
+	public PersistentVector<T> concat(PersistentVector<T> other) {
+		return join(this, other);
+	}
+
+	/**
+	 * Complexity: O(log n)
+	 *
+	 * @param from the first index to keep.
+	 * @param to   the index after the last one to keep.
+	 * @return a new version holding items from up to (excluding) to.
+	 * @throws BadIndexError if the range is not inside the list.
+	 */
+	public PersistentVector<T> slice(int from, int to) {
+		if (from < 0 || to > size() || from > to) {
+			throw new BadIndexError();
+		}
+		PersistentVector<T> upToTo = split(this, to)[0];
+		return split(upToTo, from)[1];
+	}
+
+	/**
+	 * Loop over the items in order.
+	 * Complexity: O(1) per item on average.
+	 *
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter<>(this);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (root == null) {
+			throw new EmptyListError();
+		}
+	}
+
+	private static void checkIndex(int index, int limit) {
+		if (index < 0 || index >= limit) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Copy the path down to index, replacing the item at the bottom.
+	 */
+	private static Node set(Node node, int h, int index, Object item) {
+		Object[] slots = node.slots.clone();
+		if (h == 0) {
+			slots[index] = item;
+			return Node.leaf(slots);
+		}
+		int j = node.childFor(index, h);
+		slots[j] = set(node.child(j), h - 1, index - node.offset(j), item);
+		return new Node(slots, node.sizes.clone());
+	}
+
+	/**
+	 * Copy the path down to index and insert there. Nodes that overflow split in
+	 * two, so this returns one or two nodes of height h.
+	 */
+	private static Node[] insert(Node node, int h, int index, Object item) {
+		if (h == 0) {
+			return fit(splice(node.slots, index, 0, new Object[] { item }), true);
+		}
+		int j = node.childFor(index, h);
+		Node[] replaced = insert(node.child(j), h - 1, index - node.offset(j), item);
+		return fit(splice(node.slots, j, 1, replaced), false);
+	}
+
+	/**
+	 * Copy the path down to index and remove it. A child that falls under half
+	 * full is merged with a neighbor (and split again if that is too big).
+	 */
+	private static Node remove(Node node, int h, int index) {
+		if (h == 0) {
+			return Node.leaf(splice(node.slots, index, 1, new Object[0]));
+		}
+		int j = node.childFor(index, h);
+		Node child = remove(node.child(j), h - 1, index - node.offset(j));
+		if (child.width() >= MIN_WIDTH || node.width() == 1) {
+			return Node.branch(splice(node.slots, j, 1, new Object[] { child }));
+		}
+		int left = j > 0 ? j - 1 : j;
+		Node a = left == j ? child : node.child(left);
+		Node b = left == j ? node.child(j + 1) : child;
+		Node[] merged = fit(concat(a.slots, b.slots), h == 1);
+		return Node.branch(splice(node.slots, left, 2, merged));
+	}
+
+	/**
+	 * Put a and b side by side. The shorter tree's root becomes a sibling of
+	 * the node at the same height on the taller tree's edge.
+	 */
+	private static <T> PersistentVector<T> join(PersistentVector<T> a, PersistentVector<T> b) {
+		if (a.root == null) {
+			return b;
+		}
+		if (b.root == null) {
+			return a;
+		}
+		Node[] joined;
+		int h;
+		if (a.height >= b.height) {
+			joined = joinRight(a.root, a.height, b.root, b.height);
+			h = a.height;
+		} else {
+			joined = joinLeft(a.root, a.height, b.root, b.height);
+			h = b.height;
+		}
+		if (joined.length == 1) {
+			return new PersistentVector<>(joined[0], h);
+		}
+		return new PersistentVector<>(Node.branch(joined), h + 1);
+	}
+
+	/**
+	 * Walk down the right edge of node to height hb and attach b there.
+	 */
+	private static Node[] joinRight(Node node, int h, Node b, int hb) {
+		if (h == hb) {
+			return fit(concat(node.slots, b.slots), h == 0);
+		}
+		int last = node.width() - 1;
+		Node[] replaced = joinRight(node.child(last), h - 1, b, hb);
+		return fit(splice(node.slots, last, 1, replaced), false);
+	}
+
+	/**
+	 * Walk down the left edge of node to height ha and attach a there.
+	 */
+	private static Node[] joinLeft(Node a, int ha, Node node, int h) {
+		if (h == ha) {
+			return fit(concat(a.slots, node.slots), h == 0);
+		}
+		Node[] replaced = joinLeft(a, ha, node.child(0), h - 1);
+		return fit(splice(node.slots, 0, 1, replaced), false);
+	}
+
+	/**
+	 * Cut a vector into [0, k) and [k, size).
+	 */
+	private static <T> PersistentVector<T>[] split(PersistentVector<T> v, int k) {
+		if (k == 0) {
+			return pair(PersistentVector.<T>empty(), v);
+		}
+		if (k == v.size()) {
+			return pair(v, PersistentVector.<T>empty());
+		}
+		return splitNode(v.root, v.height, k);
+	}
+
+	/**
+	 * Cut the tree under node at 0 &lt; k &lt; size: everything left of the cut
+	 * joined back together, and everything right of it.
+	 */
+	private static <T> PersistentVector<T>[] splitNode(Node node, int h, int k) {
+		if (h == 0) {
+			Object[] left = new Object[k];
+			Object[] right = new Object[node.width() - k];
+			System.arraycopy(node.slots, 0, left, 0, k);
+			System.arraycopy(node.slots, k, right, 0, right.length);
+			return pair(new PersistentVector<T>(Node.leaf(left), 0), new PersistentVector<T>(Node.leaf(right), 0));
+		}
+		int j = node.childFor(k, h);
+		int offset = k - node.offset(j);
+		PersistentVector<T> before = j == 0 ? PersistentVector.<T>empty()
+				: new PersistentVector<T>(Node.branch(range(node.slots, 0, j)), h);
+		if (offset == 0) {
+			return pair(before, new PersistentVector<T>(Node.branch(range(node.slots, j, node.width())), h));
+		}
+		PersistentVector<T> after = j == node.width() - 1 ? PersistentVector.<T>empty()
+				: new PersistentVector<T>(Node.branch(range(node.slots, j + 1, node.width())), h);
+		PersistentVector<T>[] inside = splitNode(node.child(j), h - 1, offset);
+		return pair(join(before, inside[0]), join(inside[1], after));
+	}
+
+	/**
+	 * The two halves of a split, in a PersistentVector&lt;?&gt;[] cast once here.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> PersistentVector<T>[] pair(PersistentVector<T> left, PersistentVector<T> right) {
+		return (PersistentVector<T>[]) new PersistentVector<?>[] { left, right };
+	}
+
+	/**
+	 * Make one node out of slots, or two half-sized ones if there are too many.
+	 */
+	private static Node[] fit(Object[] slots, boolean leaf) {
+		if (slots.length <= WIDTH) {
+			return new Node[] { Node.make(slots, leaf) };
+		}
+		int half = slots.length / 2;
+		return new Node[] { Node.make(range(slots, 0, half), leaf),
+				Node.make(range(slots, half, slots.length), leaf) };
+	}
+
+	/**
+	 * Copy slots, replacing count of them starting at start with the given ones.
+	 */
+	private static Object[] splice(Object[] slots, int start, int count, Object[] with) {
+		Object[] out = new Object[slots.length - count + with.length];
+		System.arraycopy(slots, 0, out, 0, start);
+		System.arraycopy(with, 0, out, start, with.length);
+		System.arraycopy(slots, start + count, out, start + with.length, slots.length - start - count);
+		return out;
+	}
+
+	private static Object[] concat(Object[] a, Object[] b) {
+		Object[] out = new Object[a.length + b.length];
+		System.arraycopy(a, 0, out, 0, a.length);
+		System.arraycopy(b, 0, out, a.length, b.length);
+		return out;
+	}
+
+	private static Object[] range(Object[] slots, int from, int to) {
+		Object[] out = new Object[to - from];
+		System.arraycopy(slots, from, out, 0, out.length);
+		return out;
+	}
+
+	/**
+	 * One immutable tree node. Leaves keep items in slots; inner nodes keep
+	 * children in slots and sizes[j] = number of items in children 0..j.
+	 */
+	private static final class Node {
+		final Object[] slots;
+		final int[] sizes;
+
+		Node(Object[] slots, int[] sizes) {
+			this.slots = slots;
+			this.sizes = sizes;
+		}
+
+		static Node leaf(Object[] items) {
+			return new Node(items, null);
+		}
+
+		static Node branch(Object[] children) {
+			int[] sizes = new int[children.length];
+			int total = 0;
+			for (int j = 0; j < children.length; j++) {
+				total += ((Node) children[j]).size();
+				sizes[j] = total;
+			}
+			return new Node(children, sizes);
+		}
+
+		static Node make(Object[] slots, boolean leaf) {
+			return leaf ? leaf(slots) : branch(slots);
+		}
+
+		boolean isLeaf() {
+			return sizes == null;
+		}
+
+		int width() {
+			return slots.length;
+		}
+
+		int size() {
+			if (sizes == null) {
+				return slots.length;
+			}
+			return sizes.length == 0 ? 0 : sizes[sizes.length - 1];
+		}
+
+		Node child(int j) {
+			return (Node) slots[j];
+		}
+
+		/**
+		 * How many items come before child j.
+		 */
+		int offset(int j) {
+			return j == 0 ? 0 : sizes[j - 1];
+		}
+
+		/**
+		 * Which child of this height-h node holds index? A child holds at most
+		 * 32^h items, so the radix guess index / 32^h is never too far right.
+		 * index == size() picks the last child.
+		 */
+		int childFor(int index, int h) {
+			int shift = BITS * h;
+			int j = shift >= Integer.SIZE ? 0 : index >>> shift;
+			int last = sizes.length - 1;
+			if (j > last) {
+				j = last;
+			}
+			while (j < last && sizes[j] <= index) {
+				j++;
+			}
+			return j;
+		}
+	}
+
+	/**
+	 * Walks the leaves left to right, keeping the path from the root.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Iter<T> implements Iterator<T> {
+		private final Node[] path;
+		private final int[] position;
+		private int remaining;
+
+		Iter(PersistentVector<T> vector) {
+			this.path = new Node[vector.height + 1];
+			this.position = new int[vector.height + 1];
+			this.remaining = vector.size();
+			if (vector.root != null) {
+				descend(vector.root, vector.height);
+			}
+		}
+
+		/**
+		 * Go down the left edge from node (at height h) to a leaf.
+		 */
+		private void descend(Node node, int h) {
+			while (true) {
+				path[h] = node;
+				position[h] = 0;
+				if (h == 0) {
+					return;
+				}
+				node = node.child(0);
+				h--;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (remaining == 0) {
+				throw new NoSuchElementException();
+			}
+			T found = (T) path[0].slots[position[0]++];
+			remaining--;
+			if (remaining > 0 && position[0] == path[0].width()) {
+				int h = 1;
+				while (position[h] + 1 >= path[h].width()) {
+					h++;
+				}
+				position[h]++;
+				descend(path[h].child(position[h]), h - 1);
+			}
+			return found;
+		}
+	}
+
+	/**
+	 * The transient mode: collect items in a plain growing array, then build
+	 * the whole tree bottom-up at once. A Builder is not thread-safe, and
+	 * should not be used again after build().
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	public static class Builder<T> {
+		private Object[] items = new Object[WIDTH];
+		private int fill = 0;
+
+		/**
+		 * Complexity: O(1) on average.
+		 *
+		 * @param item the data to add after everything so far.
+		 * @return this builder, for chaining.
+		 */
+		public Builder<T> addBack(T item) {
+			if (fill == items.length) {
+				Object[] bigger = new Object[items.length * 2];
+				System.arraycopy(items, 0, bigger, 0, fill);
+				items = bigger;
+			}
+			items[fill++] = item;
+			return this;
+		}
+
+		/**
+		 * Complexity: O(n)
+		 *
+		 * @return a vector holding everything added so far.
+		 */
+		public PersistentVector<T> build() {
+			if (fill == 0) {
+				return empty();
+			}
+			Object[] level = group(items, fill, true);
+			int h = 0;
+			while (level.length > 1) {
+				level = group(level, level.length, false);
+				h++;
+			}
+			return new PersistentVector<>((Node) level[0], h);
+		}
+
+		/**
+		 * Pack slots into nodes of 32; if the last node would be under half full,
+		 * share the last two nodes' slots evenly instead.
+		 */
+		private static Object[] group(Object[] slots, int count, boolean leaf) {
+			int groups = (count + WIDTH - 1) / WIDTH;
+			Object[] nodes = new Object[groups];
+			int start = 0;
+			for (int g = 0; g < groups; g++) {
+				int width = Math.min(WIDTH, count - start);
+				int rest = count - start - width;
+				if (rest > 0 && rest < MIN_WIDTH && g == groups - 2) {
+					width = (width + rest) / 2;
+				}
+				nodes[g] = Node.make(range(slots, start, start + width), leaf);
+				start += width;
+			}
+			return nodes;
+		}
+	}
+}
@@ -0,0 +1,443 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@linkplain GrowableList} that wraps around: the items start at front and
+ * may continue from the beginning of the array. That makes both ends O(1), so
+ * it works as a queue or a stack from either side, and getIndex is still O(1).
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class RingBufferList<T> implements P6List<T> {
+	private Object[] array;
+	/**
+	 * Where index 0 lives in the array.
+	 */
+	private int front;
+	private int fill;
+
+	public RingBufferList() {
+		this.array = new Object[Math.max(1, GrowableList.START_SIZE)];
+		this.front = 0;
+		this.fill = 0;
+	}
+
+	/**
+	 * Which array slot holds index?
+	 */
+	private int slot(int index) {
+		int at = front + index;
+		return at >= array.length ? at - array.length : at;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T removeFront() {
+		checkNotEmpty();
+		T removed = (T) array[front];
+		array[front] = null;
+		front = slot(1);
+		fill--;
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T removeBack() {
+		checkNotEmpty();
+		int last = slot(fill - 1);
+		T removed = (T) array[last];
+		array[last] = null;
+		fill--;
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the specified index in the list, shifting whichever
+	 * side is shorter.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = getIndex(index);
+		if (index < fill / 2) {
+			for (int i = index; i > 0; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+			array[front] = null;
+			front = slot(1);
+		} else {
+			for (int i = index; i < fill - 1; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+			array[slot(fill - 1)] = null;
+		}
+		fill--;
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		if (fill == array.length) {
+			resizeArray();
+		}
+		front = front == 0 ? array.length - 1 : front - 1;
+		array[front] = item;
+		fill++;
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		if (fill == array.length) {
+			resizeArray();
+		}
+		array[slot(fill)] = item;
+		fill++;
+	}
+
+	/**
+	 * Add an item to an index in this list, shifting whichever side is shorter.
+	 * Complexity: O(min(index, size - index))
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (fill == array.length) {
+			resizeArray();
+		}
+		if (index < fill / 2) {
+			front = front == 0 ? array.length - 1 : front - 1;
+			for (int i = 0; i < index; i++) {
+				array[slot(i)] = array[slot(i + 1)];
+			}
+		} else {
+			for (int i = fill; i > index; i--) {
+				array[slot(i)] = array[slot(i - 1)];
+			}
+		}
+		array[slot(index)] = item;
+		fill++;
+	}
+
+	/**
+	 * Make a bigger array, twice the size, and unwrap the items into it.
+	 * Complexity: O(n), but only every time the size doubles.
+	 */
+	private void resizeArray() {
+		Object[] bigger = new Object[array.length * 2];
+		for (int i = 0; i < fill; i++) {
+			bigger[i] = array[slot(i)];
+		}
+		this.array = bigger;
+		this.front = 0;
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(fill - 1);
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(1)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return (T) array[slot(index)];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * Find the first index of an item by scanning the array from front.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		for (int i = 0; i < fill; i++) {
+			if (Objects.equals(item, array[slot(i)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item by scanning the array backwards from the
+	 * last item.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		for (int i = fill - 1; i >= 0; i--) {
+			if (Objects.equals(item, array[slot(i)])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Sort the items in the array. If they wrap around the end of the array,
+	 * they are first copied to start at slot 0 so the sort sees one run.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> order) {
+		if (front + fill > array.length) {
+			Object[] unwrapped = new Object[array.length];
+			for (int i = 0; i < fill; i++) {
+				unwrapped[i] = array[slot(i)];
+			}
+			this.array = unwrapped;
+			this.front = 0;
+		}
+		Arrays.sort((T[]) array, front, front + fill, order);
+	}
+
+	/**
+	 * Add every item of source so the first lands at index. If the items
+	 * don't wrap and there is room after them, the items after index shift
+	 * over with one arraycopy; otherwise everything is copied once into a
+	 * straight array (grown if need be), with the new items in the middle.
+	 * Complexity: O(n + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		int k = items.length;
+		if (front + fill + k <= array.length) {
+			System.arraycopy(array, front + index, array, front + index + k, fill - index);
+			System.arraycopy(items, 0, array, front + index, k);
+		} else {
+			int capacity = fill + k > array.length ? Math.max(array.length * 2, fill + k) : array.length;
+			Object[] straight = new Object[capacity];
+			for (int i = 0; i < index; i++) {
+				straight[i] = array[slot(i)];
+			}
+			System.arraycopy(items, 0, straight, index, k);
+			for (int i = index; i < fill; i++) {
+				straight[i + k] = array[slot(i)];
+			}
+			this.array = straight;
+			this.front = 0;
+		}
+		fill += k;
+	}
+
+	/**
+	 * Add every item of source to the back, growing the array at most once.
+	 * Complexity: O(k) if there is room, otherwise O(n + k).
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(fill, source);
+	}
+
+	/**
+	 * If the items wrap around the end of the array, copy them into a new
+	 * array of the same length starting at 0, so they are one straight run
+	 * array[front, front + fill).
+	 * Complexity: O(n) if they wrap, otherwise O(1).
+	 */
+	private void straighten() {
+		if (front + fill > array.length) {
+			Object[] straight = new Object[array.length];
+			for (int i = 0; i < fill; i++) {
+				straight[i] = array[slot(i)];
+			}
+			this.array = straight;
+			this.front = 0;
+		}
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): straighten the items if they
+	 * wrap, then move the ones after the range down with one arraycopy.
+	 * Complexity: O(n)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, fill);
+		if (from == to) {
+			return;
+		}
+		straighten();
+		fill = BulkRemoval.removeRange(array, front, front + fill, from, to) - front;
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one compacting pass over
+	 * the straightened items. Nothing moves until filter has seen every item.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		straighten();
+		int before = fill;
+		fill = BulkRemoval.removeIf(array, front, front + fill, filter) - front;
+		return before - fill;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one compacting pass over the
+	 * straightened items.
+	 * Complexity: O(n)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, fill);
+		if (sortedIndices.length == 0) {
+			return;
+		}
+		straighten();
+		fill = BulkRemoval.removeIndices(array, front, front + fill, sortedIndices) - front;
+	}
+
+	/**
+	 * Complexity: O(n)
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] items = new Object[fill];
+		for (int i = 0; i < fill; i++) {
+			items[i] = array[slot(i)];
+		}
+		return items;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
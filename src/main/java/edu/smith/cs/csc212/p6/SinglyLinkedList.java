@@ -1,6 +1,9 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
@@ -14,6 +17,104 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 */
 	Node<T> start;
 	
+	/**
+	 * Removed nodes waiting to be used again, chained through their next field.
+	 * There are never more than poolCapacity of them.
+	 */
+	private Node<T> pool;
+	private int poolSize;
+	private final int poolCapacity;
+	private long poolHits;
+	private long poolMisses;
+	
+	/**
+	 * A singly-linked list starts empty.
+	 */
+	public SinglyLinkedList() {
+		this(0);
+	}
+	
+	/**
+	 * A singly-linked list that keeps up to poolCapacity removed nodes for the
+	 * next adds, so a stack or queue that is about the same size all the time
+	 * stops allocating a node per add. Don't remove items while a for loop is
+	 * walking the list: a removed node may already be back in the pool.
+	 * 
+	 * @param poolCapacity how many spare nodes to keep; 0 means no pool.
+	 */
+	public SinglyLinkedList(int poolCapacity) {
+		this.start = null;
+		this.pool = null;
+		this.poolSize = 0;
+		this.poolCapacity = poolCapacity;
+	}
+	
+	/**
+	 * Make a node, reusing one from the pool if there is one.
+	 * Complexity: O(1)
+	 */
+	private Node<T> makeNode(T value, Node<T> next) {
+		if (pool == null) {
+			poolMisses++;
+			return new Node<T>(value, next);
+		}
+		poolHits++;
+		Node<T> reused = pool;
+		pool = reused.next;
+		poolSize--;
+		reused.value = value;
+		reused.next = next;
+		return reused;
+	}
+	
+	/**
+	 * A node has left the list: keep it if the pool has room, forgetting its
+	 * value so the pool doesn't keep items alive.
+	 * Complexity: O(1)
+	 * 
+	 * @return the value the node held.
+	 */
+	private T recycle(Node<T> node) {
+		T value = node.value;
+		if (poolSize < poolCapacity) {
+			node.value = null;
+			node.next = pool;
+			pool = node;
+			poolSize++;
+		}
+		return value;
+	}
+	
+	/**
+	 * @return how many spare nodes are in the pool right now.
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+	
+	/**
+	 * @return how many nodes came from the pool.
+	 */
+	public long getPoolHits() {
+		return poolHits;
+	}
+	
+	/**
+	 * @return how many nodes had to be allocated because the pool was empty.
+	 */
+	public long getPoolMisses() {
+		return poolMisses;
+	}
+	
+	/**
+	 * @return the fraction of new nodes that came from the pool, or 0 before
+	 *         any were made.
+	 */
+	public double getPoolHitRate() {
+		long total = poolHits + poolMisses;
+		return total == 0 ? 0.0 : (double) poolHits / total;
+	}
+	
 	/**
 	 * Delete the item at the front of the list by assigning start to the second node.
 	 * Complexity: O(1)
@@ -24,9 +125,9 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public T removeFront() {
 		checkNotEmpty();
-		T before = start.value;
+		Node<T> first = start;
 		start = start.next;
-		return before;
+		return recycle(first);
 		
 	}
 	
@@ -43,18 +144,18 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		
 		// if there's only 1 item in the list then point start to null
 		if (size()==1) {
-			T onlyV = start.value;
+			Node<T> only = start;
 			start = null;
-			return onlyV;
+			return recycle(only);
 		} else {
 		// loop through list until you find a node whose .next.next is null
 		// that node is now "current." Delete the last node by pointing current.next to null.
 		for (Node<T> current = start; current != null; current = current.next) {
 			if (current.next.next==null) {
-					T tbr = current.next.value;
+					Node<T> last = current.next;
 					current.next= null;
 							
-					return tbr;
+					return recycle(last);
 					}
 			}
 		}
@@ -79,7 +180,9 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		
 		//if you want to remove something from the 0th index then assign start to the second node
 		if (index==0) {
+			Node<T> first = start;
 			start=start.next;
+			recycle(first);
 		} 
 		// if you want to remove something from the last index then you can use removeBack().
 		else if (index==size()-1){
@@ -90,7 +193,9 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		// by assigning current.next=current.next.next
 		for (Node<T> current = start; current != null; current = current.next) {
 			if(in==index-1) {
-				current.next=current.next.next;
+				Node<T> gone = current.next;
+				current.next=gone.next;
+				recycle(gone);
 				}
 			in++;
 			}
@@ -106,7 +211,7 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 */
 	@Override
 	public void addFront(T item) {
-		this.start = new Node<T>(item, start);
+		this.start = makeNode(item, start);
 	}
 
 	/**
@@ -120,7 +225,7 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	public void addBack(T item) {
 		// if list is empty then create a new node and add make it the start
 		if (start==null) {
-			start= new Node<T>(item,null);
+			start= makeNode(item,null);
 		}
 		//loop through till you reach the end and create a new node and make it the last node in the list
 		else{ 
@@ -130,7 +235,7 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 				current=current.next;
 				}
 			
-			current.next= new Node<T>(item,null);
+			current.next= makeNode(item,null);
 			}
 		}
 		
@@ -158,7 +263,7 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 			int gi=0;
 			for (Node<T> current = start; current != null; current = current.next) {
 				if (gi==index-1) {
-					Node <T> nn = new Node<T>(item,current.next);
+					Node <T> nn = makeNode(item,current.next);
 					current.next=nn;
 				}
 				gi++;
@@ -240,6 +345,272 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		
 	}
 
+	/**
+	 * Find the first index of an item by walking the nodes.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int at = 0;
+		for (Node<T> current = start; current != null; current = current.next) {
+			if (Objects.equals(item, current.value)) {
+				return at;
+			}
+			at++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item. This walks forward once and remembers the
+	 * last match, rather than calling getIndex from the back.
+	 * Complexity: O(n)
+	 * 
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = -1;
+		int at = 0;
+		for (Node<T> current = start; current != null; current = current.next) {
+			if (Objects.equals(item, current.value)) {
+				found = at;
+			}
+			at++;
+		}
+		return found;
+	}
+
+	/**
+	 * Sort the nodes with a bottom-up merge sort: merge runs of 1, then 2, then
+	 * 4... by relinking the next pointers. No values move and no array is made.
+	 * Equal items keep their order.
+	 * Complexity: O(n log n)
+	 * 
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		int length = 0;
+		for (Node<T> n = start; n != null; n = n.next) {
+			length++;
+		}
+		// a placeholder in front of start, so the first run has a node before it too.
+		Node<T> head = new Node<T>(null, start);
+		for (int width = 1; width < length; width *= 2) {
+			Node<T> tail = head;
+			Node<T> rest = head.next;
+			while (rest != null) {
+				Node<T> left = rest;
+				Node<T> right = cut(left, width);
+				rest = cut(right, width);
+				tail = merge(left, right, tail, order);
+			}
+		}
+		start = head.next;
+	}
+
+	/**
+	 * Add every item of source so the first lands at index: one walk to the
+	 * node before index, then a chain of new nodes (built back to front, each
+	 * already pointing at the rest of the list) is hooked on with one link.
+	 * Complexity: O(index + k) for k new items.
+	 * 
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		Node<T> before = null;
+		for (int i = 0; i < index; i++) {
+			Node<T> next = before == null ? start : before.next;
+			if (next == null) {
+				throw new BadIndexError();
+			}
+			before = next;
+		}
+		splice(before, items);
+	}
+
+	/**
+	 * Add every item of source to the back, with one walk to find the end.
+	 * Complexity: O(n + k) for k new items.
+	 * 
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		Object[] items = source.toArray();
+		Node<T> last = start;
+		while (last != null && last.next != null) {
+			last = last.next;
+		}
+		splice(last, items);
+	}
+
+	/**
+	 * Link a chain of new nodes holding items in right after before (or at the
+	 * front, if before is null).
+	 */
+	@SuppressWarnings("unchecked")
+	private void splice(Node<T> before, Object[] items) {
+		Node<T> chain = before == null ? start : before.next;
+		for (int i = items.length - 1; i >= 0; i--) {
+			chain = makeNode((T) items[i], chain);
+		}
+		if (before == null) {
+			start = chain;
+		} else {
+			before.next = chain;
+		}
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): one walk to the node before
+	 * from, then the nodes in the range go back to the pool and the list is
+	 * relinked around them with one link.
+	 * Complexity: O(n) (counting the items to check to)
+	 * 
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		if (from == to) {
+			return;
+		}
+		Node<T> before = null;
+		for (int i = 0; i < from; i++) {
+			before = before == null ? start : before.next;
+		}
+		Node<T> gone = before == null ? start : before.next;
+		for (int i = from; i < to; i++) {
+			Node<T> next = gone.next;
+			recycle(gone);
+			gone = next;
+		}
+		if (before == null) {
+			start = gone;
+		} else {
+			before.next = gone;
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one walk that relinks
+	 * around each one as it goes. If filter throws, the items it already said
+	 * yes to are gone and the rest are still there.
+	 * Complexity: O(n)
+	 * 
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		Node<T> before = null;
+		Node<T> current = start;
+		while (current != null) {
+			Node<T> next = current.next;
+			if (filter.test(current.value)) {
+				if (before == null) {
+					start = next;
+				} else {
+					before.next = next;
+				}
+				recycle(current);
+				removed++;
+			} else {
+				before = current;
+			}
+			current = next;
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one relinking walk.
+	 * Complexity: O(n) (counting the items to check the indexes)
+	 * 
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size());
+		Node<T> before = null;
+		Node<T> current = start;
+		for (int i = 0, j = 0; j < sortedIndices.length; i++) {
+			Node<T> next = current.next;
+			if (i == sortedIndices[j]) {
+				if (before == null) {
+					start = next;
+				} else {
+					before.next = next;
+				}
+				recycle(current);
+				j++;
+			} else {
+				before = current;
+			}
+			current = next;
+		}
+	}
+
+	/**
+	 * Cut the list after its first count nodes.
+	 * 
+	 * @return the node after the cut, or null if there aren't that many.
+	 */
+	private static <T> Node<T> cut(Node<T> first, int count) {
+		for (int i = 1; first != null && i < count; i++) {
+			first = first.next;
+		}
+		if (first == null) {
+			return null;
+		}
+		Node<T> rest = first.next;
+		first.next = null;
+		return rest;
+	}
+
+	/**
+	 * Merge two sorted runs onto the end of tail. Ties go to left, which keeps
+	 * the sort stable.
+	 * 
+	 * @return the last node of the merged run.
+	 */
+	private static <T> Node<T> merge(Node<T> left, Node<T> right, Node<T> tail, Comparator<? super T> order) {
+		while (left != null && right != null) {
+			if (order.compare(right.value, left.value) < 0) {
+				tail.next = right;
+				right = right.next;
+			} else {
+				tail.next = left;
+				left = left.next;
+			}
+			tail = tail.next;
+		}
+		tail.next = left != null ? left : right;
+		while (tail.next != null) {
+			tail = tail.next;
+		}
+		return tail;
+	}
+
 	/**
 	 * Helper method to throw the right error for an empty state.
 	 */
@@ -253,9 +624,12 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 * The node on any linked list should not be exposed. Static means we don't need
 	 * a "this" of SinglyLinkedList to make a node.
 	 * 
+	 * It is package-private (not public) only so that ChunkyLinkedList can walk
+	 * its chunks without allocating an Iter every time.
+	 * 
 	 * @param <T> the type of the values stored.
 	 */
-	private static class Node<T> {
+	static class Node<T> {
 		/**
 		 * What node comes after me?
 		 */
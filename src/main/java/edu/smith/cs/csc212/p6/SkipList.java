@@ -0,0 +1,567 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * An indexable skip list: a {@linkplain SinglyLinkedList} where some nodes also
+ * have "express lane" links that skip ahead.
+ *
+ * Every node is in level 0 (the plain linked list). About half the nodes also
+ * have a level 1 link, a quarter have a level 2 link, and so on. Each link
+ * remembers its width: how many level-0 steps it skips. To find index i we
+ * start on the highest level and take every link that doesn't overshoot i,
+ * dropping a level when we would. That is O(log n) expected steps, and
+ * walking in order is just following level 0.
+ *
+ * The coin flips come from a Random, so pass a seed for repeatable runs.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class SkipList<T> implements P6List<T>, Iterable<T> {
+	/**
+	 * Enough levels for 2^32 items.
+	 */
+	static final int MAX_LEVEL = 32;
+
+	/**
+	 * A sentinel node without a value; it has every level and sits at index -1.
+	 */
+	private final Node<T> head;
+	private Node<T> tail;
+	/**
+	 * How many levels are in use.
+	 */
+	private int levels;
+	private int size;
+	private final Random random;
+
+	public SkipList() {
+		this(new Random());
+	}
+
+	/**
+	 * @param seed - makes the node levels (and so the timing) repeatable.
+	 */
+	public SkipList(long seed) {
+		this(new Random(seed));
+	}
+
+	private SkipList(Random random) {
+		this.head = new Node<T>(null, MAX_LEVEL);
+		this.tail = null;
+		this.levels = 1;
+		this.size = 0;
+		this.random = random;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		Node<T>[] before = newLinks(levels);
+		findBefore(index, before, new int[levels]);
+		Node<T> target = before[0].next[0];
+		for (int lvl = 0; lvl < levels; lvl++) {
+			Node<T> prev = before[lvl];
+			if (prev.next[lvl] == target) {
+				prev.width[lvl] += target.width[lvl] - 1;
+				prev.next[lvl] = target.next[lvl];
+			} else if (prev.next[lvl] != null) {
+				prev.width[lvl]--;
+			}
+		}
+		if (target == tail) {
+			tail = before[0] == head ? null : before[0];
+		}
+		while (levels > 1 && head.next[levels - 1] == null) {
+			levels--;
+		}
+		size--;
+		return target.value;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size);
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		int height = randomLevel();
+		if (height > levels) {
+			levels = height;
+		}
+		Node<T>[] before = newLinks(levels);
+		int[] beforeIndex = new int[levels];
+		findBefore(index, before, beforeIndex);
+
+		Node<T> added = new Node<>(item, height);
+		for (int lvl = 0; lvl < levels; lvl++) {
+			Node<T> prev = before[lvl];
+			if (lvl < height) {
+				if (prev.next[lvl] != null) {
+					// the old next was at beforeIndex + width, and moves back one.
+					added.width[lvl] = beforeIndex[lvl] + prev.width[lvl] + 1 - index;
+				}
+				added.next[lvl] = prev.next[lvl];
+				prev.next[lvl] = added;
+				prev.width[lvl] = index - beforeIndex[lvl];
+			} else if (prev.next[lvl] != null) {
+				prev.width[lvl]++;
+			}
+		}
+		if (added.next[0] == null) {
+			tail = added;
+		}
+		size++;
+	}
+
+	/**
+	 * For each level, find the last node before index (the head counts as -1).
+	 */
+	private void findBefore(int index, Node<T>[] before, int[] beforeIndex) {
+		Node<T> x = head;
+		int at = -1;
+		for (int lvl = levels - 1; lvl >= 0; lvl--) {
+			while (x.next[lvl] != null && at + x.width[lvl] < index) {
+				at += x.width[lvl];
+				x = x.next[lvl];
+			}
+			before[lvl] = x;
+			beforeIndex[lvl] = at;
+		}
+	}
+
+	/**
+	 * Flip coins: each extra level has half the chance of the one below.
+	 */
+	private int randomLevel() {
+		int height = 1;
+		while (height < MAX_LEVEL && random.nextBoolean()) {
+			height++;
+		}
+		return height;
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return head.next[0].value;
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return tail.value;
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(log n) expected
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		Node<T> x = head;
+		int at = -1;
+		for (int lvl = levels - 1; lvl >= 0; lvl--) {
+			while (x.next[lvl] != null && at + x.width[lvl] <= index) {
+				at += x.width[lvl];
+				x = x.next[lvl];
+			}
+			if (at == index) {
+				return x.value;
+			}
+		}
+		throw new BadIndexError();
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Find the first index of an item by walking level 0, instead of searching
+	 * down from the top for every index.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int at = 0;
+		for (Node<T> current = head.next[0]; current != null; current = current.next[0]) {
+			if (Objects.equals(item, current.value)) {
+				return at;
+			}
+			at++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item: one walk along level 0, remembering the
+	 * last match.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = -1;
+		int at = 0;
+		for (Node<T> current = head.next[0]; current != null; current = current.next[0]) {
+			if (Objects.equals(item, current.value)) {
+				found = at;
+			}
+			at++;
+		}
+		return found;
+	}
+
+	/**
+	 * Add every item of source so that the first one ends up at index: find
+	 * the nodes before index once, then chain the new nodes in after them on
+	 * every level, instead of searching from the top once per item.
+	 * Complexity: O(log n + k) expected
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it is not changed.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		if (items.length == 0) {
+			return;
+		}
+		int[] heights = new int[items.length];
+		for (int i = 0; i < items.length; i++) {
+			heights[i] = randomLevel();
+			levels = Math.max(levels, heights[i]);
+		}
+		Node<T>[] last = newLinks(levels);
+		int[] lastIndex = new int[levels];
+		findBefore(index, last, lastIndex);
+		// where each level's old next link pointed, to hook back on at the end.
+		Node<T>[] after = newLinks(levels);
+		int[] afterIndex = new int[levels];
+		for (int lvl = 0; lvl < levels; lvl++) {
+			after[lvl] = last[lvl].next[lvl];
+			afterIndex[lvl] = lastIndex[lvl] + last[lvl].width[lvl] + items.length;
+		}
+		for (int i = 0; i < items.length; i++) {
+			Node<T> added = new Node<>((T) items[i], heights[i]);
+			for (int lvl = 0; lvl < heights[i]; lvl++) {
+				last[lvl].next[lvl] = added;
+				last[lvl].width[lvl] = index + i - lastIndex[lvl];
+				last[lvl] = added;
+				lastIndex[lvl] = index + i;
+			}
+		}
+		for (int lvl = 0; lvl < levels; lvl++) {
+			last[lvl].next[lvl] = after[lvl];
+			if (after[lvl] != null) {
+				last[lvl].width[lvl] = afterIndex[lvl] - lastIndex[lvl];
+			}
+		}
+		if (after[0] == null) {
+			tail = last[0];
+		}
+		size += items.length;
+	}
+
+	/**
+	 * Add every item of source to the back of this list.
+	 * Complexity: O(log n + k) expected
+	 *
+	 * @param source the items to add; it is not changed.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): find the nodes before from once,
+	 * then on each level skip the links over the deleted nodes.
+	 * Complexity: O(log n + k) expected
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (from == to) {
+			return;
+		}
+		Node<T>[] before = newLinks(levels);
+		int[] beforeIndex = new int[levels];
+		findBefore(from, before, beforeIndex);
+		for (int lvl = 0; lvl < levels; lvl++) {
+			Node<T> prev = before[lvl];
+			Node<T> x = prev.next[lvl];
+			int at = beforeIndex[lvl] + prev.width[lvl];
+			while (x != null && at < to) {
+				at += x.width[lvl];
+				x = x.next[lvl];
+			}
+			prev.next[lvl] = x;
+			if (x != null) {
+				prev.width[lvl] = at - (to - from) - beforeIndex[lvl];
+			}
+		}
+		if (before[0].next[0] == null) {
+			tail = before[0] == head ? null : before[0];
+		}
+		while (levels > 1 && head.next[levels - 1] == null) {
+			levels--;
+		}
+		size -= to - from;
+	}
+
+	/**
+	 * Delete every item that filter says yes to: ask about every item first,
+	 * then relink the rest on every level in one walk along level 0. If
+	 * filter throws, nothing is deleted.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		BitSet doomed = new BitSet(size);
+		int i = 0;
+		for (Node<T> current = head.next[0]; current != null; current = current.next[0]) {
+			if (filter.test(current.value)) {
+				doomed.set(i);
+			}
+			i++;
+		}
+		int removed = doomed.cardinality();
+		if (removed == 0) {
+			return 0;
+		}
+		Node<T>[] last = newLinks(levels);
+		int[] lastIndex = new int[levels];
+		for (int lvl = 0; lvl < levels; lvl++) {
+			last[lvl] = head;
+			lastIndex[lvl] = -1;
+		}
+		int at = 0;
+		i = 0;
+		for (Node<T> current = head.next[0]; current != null; i++) {
+			Node<T> next = current.next[0];
+			if (!doomed.get(i)) {
+				for (int lvl = 0; lvl < current.next.length; lvl++) {
+					last[lvl].next[lvl] = current;
+					last[lvl].width[lvl] = at - lastIndex[lvl];
+					last[lvl] = current;
+					lastIndex[lvl] = at;
+				}
+				at++;
+			}
+			current = next;
+		}
+		for (int lvl = 0; lvl < levels; lvl++) {
+			last[lvl].next[lvl] = null;
+		}
+		tail = last[0] == head ? null : last[0];
+		while (levels > 1 && head.next[levels - 1] == null) {
+			levels--;
+		}
+		size = at;
+		return removed;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Loop over level 0, just like a SinglyLinkedList.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			Node<T> current = head.next[0];
+
+			@Override
+			public boolean hasNext() {
+				return current != null;
+			}
+
+			@Override
+			public T next() {
+				if (current == null) {
+					throw new NoSuchElementException();
+				}
+				T found = current.value;
+				current = current.next[0];
+				return found;
+			}
+		};
+	}
+
+	/**
+	 * Java can't make an array of Node&lt;T&gt; directly, so make one of Node&lt;?&gt;
+	 * and cast it, in this one place.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Node<T>[] newLinks(int length) {
+		return (Node<T>[]) new Node<?>[length];
+	}
+
+	/**
+	 * A SinglyLinkedList node with one next link per level.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Node<T> {
+		/**
+		 * What value is stored in this node?
+		 */
+		final T value;
+		/**
+		 * What node comes after me on each level?
+		 */
+		final Node<T>[] next;
+		/**
+		 * How many level-0 steps each next link skips; only meaningful where next
+		 * is not null.
+		 */
+		final int[] width;
+
+		Node(T value, int height) {
+			this.value = value;
+			this.next = newLinks(height);
+			this.width = new int[height];
+		}
+	}
+}
@@ -0,0 +1,818 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.OutOfOrderError;
+
+/**
+ * A {@linkplain SortedList} made of chunks, like {@linkplain ChunkyLinkedList},
+ * so that an insert only shifts the items of one chunk instead of the whole
+ * array.
+ *
+ * The chunks are kept in an array (a directory) together with the smallest and
+ * largest key of each chunk. Because the list is sorted, the largest keys are
+ * sorted too, so finding the chunk an item belongs in is a binary search over
+ * the directory, and then another one inside the chunk. A full chunk splits in
+ * half; an empty one is dropped.
+ *
+ * Turning a chunk number into an index means adding up the sizes of the chunks
+ * before it, so anything that takes or returns an index also costs
+ * O(n/chunkSize).
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class SortedChunkyList<T> implements P6List<T>, Iterable<T> {
+	private final Comparator<? super T> order;
+	private final int chunkSize;
+	/**
+	 * Chunks in order; only the first chunkCount are used.
+	 */
+	private FixedSizeList<T>[] chunks;
+	/**
+	 * The first and last item of each chunk, next to each other in memory so
+	 * the binary search over them doesn't visit every chunk.
+	 */
+	private Object[] mins;
+	private Object[] maxes;
+	private int chunkCount;
+	private int size;
+
+	/**
+	 * @param order     how to sort the items, e.g. Comparator.naturalOrder().
+	 * @param chunkSize how many items fit in each chunk; at least 2.
+	 */
+	public SortedChunkyList(Comparator<? super T> order, int chunkSize) {
+		if (chunkSize < 2) {
+			throw new IllegalArgumentException("chunkSize must be at least 2: " + chunkSize);
+		}
+		this.order = Objects.requireNonNull(order);
+		this.chunkSize = chunkSize;
+		this.chunks = newDirectory(4);
+		this.mins = new Object[4];
+		this.maxes = new Object[4];
+		this.chunkCount = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * @return the order this list is kept in.
+	 */
+	public Comparator<? super T> comparator() {
+		return order;
+	}
+
+	/**
+	 * @return how many chunks there are right now.
+	 */
+	public int chunkCount() {
+		return chunkCount;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(Object item, T key) {
+		return order.compare((T) item, key);
+	}
+
+	/**
+	 * Binary search over the largest keys.
+	 *
+	 * @param strict true to skip chunks whose largest key equals key.
+	 * @return the first chunk whose largest key is &gt;= key (or &gt; key if
+	 *         strict), or chunkCount if there is none.
+	 */
+	private int findChunk(T key, boolean strict) {
+		int lo = 0;
+		int hi = chunkCount;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = compare(maxes[mid], key);
+			if (cmp < 0 || (strict && cmp == 0)) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Binary search inside one chunk, like {@linkplain #findChunk}.
+	 */
+	private int findInChunk(FixedSizeList<T> chunk, T key, boolean strict) {
+		int lo = 0;
+		int hi = chunk.size();
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = compare(chunk.getIndex(mid), key);
+			if (cmp < 0 || (strict && cmp == 0)) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * @return the index of the first item of chunk c.
+	 */
+	private int startOf(int c) {
+		int start = 0;
+		for (int i = 0; i < c; i++) {
+			start += chunks[i].size();
+		}
+		return start;
+	}
+
+	/**
+	 * Copy chunk c's first and last items into the directory.
+	 */
+	private void refreshKeys(int c) {
+		FixedSizeList<T> chunk = chunks[c];
+		mins[c] = chunk.getFront();
+		maxes[c] = chunk.getBack();
+	}
+
+	/**
+	 * Make room for a new, empty chunk at position c of the directory.
+	 */
+	private void insertChunk(int c) {
+		if (chunkCount == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunkCount * 2);
+			mins = Arrays.copyOf(mins, chunkCount * 2);
+			maxes = Arrays.copyOf(maxes, chunkCount * 2);
+		}
+		System.arraycopy(chunks, c, chunks, c + 1, chunkCount - c);
+		System.arraycopy(mins, c, mins, c + 1, chunkCount - c);
+		System.arraycopy(maxes, c, maxes, c + 1, chunkCount - c);
+		chunks[c] = new FixedSizeList<>(chunkSize);
+		chunkCount++;
+	}
+
+	/**
+	 * Take the (empty) chunk c out of the directory.
+	 */
+	private void removeChunk(int c) {
+		chunkCount--;
+		System.arraycopy(chunks, c + 1, chunks, c, chunkCount - c);
+		System.arraycopy(mins, c + 1, mins, c, chunkCount - c);
+		System.arraycopy(maxes, c + 1, maxes, c, chunkCount - c);
+		chunks[chunkCount] = null;
+		mins[chunkCount] = null;
+		maxes[chunkCount] = null;
+	}
+
+	/**
+	 * Put item at position local of chunk c, splitting the chunk in half first
+	 * if it is full.
+	 * Complexity: O(chunkSize), plus O(n/chunkSize) for a split.
+	 */
+	private void insertAt(int c, int local, T item) {
+		if (chunkCount == 0) {
+			insertChunk(0);
+		}
+		FixedSizeList<T> chunk = chunks[c];
+		if (chunk.size() == chunkSize) {
+			int half = chunkSize / 2;
+			insertChunk(c + 1);
+			FixedSizeList<T> right = chunks[c + 1];
+			for (int i = half; i < chunkSize; i++) {
+				right.addBack(chunk.getIndex(i));
+			}
+			for (int i = half; i < chunkSize; i++) {
+				chunk.removeBack();
+			}
+			refreshKeys(c);
+			refreshKeys(c + 1);
+			if (local > half) {
+				c++;
+				local -= half;
+				chunk = right;
+			}
+		}
+		chunk.addIndex(item, local);
+		refreshKeys(c);
+		size++;
+	}
+
+	/**
+	 * Complexity: O(log n + n/chunkSize)
+	 *
+	 * @param key what to compare with.
+	 * @return the first index whose item is not less than key, or size() if
+	 *         every item is less.
+	 */
+	public int lowerBound(T key) {
+		int c = findChunk(key, false);
+		if (c == chunkCount) {
+			return size;
+		}
+		return startOf(c) + findInChunk(chunks[c], key, false);
+	}
+
+	/**
+	 * Complexity: O(log n + n/chunkSize)
+	 *
+	 * @param key what to compare with.
+	 * @return the first index whose item is greater than key, or size() if no
+	 *         item is.
+	 */
+	public int upperBound(T key) {
+		int c = findChunk(key, true);
+		if (c == chunkCount) {
+			return size;
+		}
+		return startOf(c) + findInChunk(chunks[c], key, true);
+	}
+
+	/**
+	 * Look for an item that compares equal to key, like
+	 * {@linkplain SortedList#binarySearch}.
+	 * Complexity: O(log n + n/chunkSize)
+	 *
+	 * @param key what to look for.
+	 * @return the first index of an item equal to key; or, if there is none,
+	 *         (-(insertion point) - 1), which is always negative.
+	 */
+	public int binarySearch(T key) {
+		int c = findChunk(key, false);
+		if (c == chunkCount) {
+			return -(size + 1);
+		}
+		int local = findInChunk(chunks[c], key, false);
+		int at = startOf(c) + local;
+		// the chunk's largest key is >= key, so local is inside the chunk.
+		if (compare(chunks[c].getIndex(local), key) == 0) {
+			return at;
+		}
+		return -(at + 1);
+	}
+
+	/**
+	 * Add an item where it belongs: after every item less than or equal to it.
+	 * Complexity: O(log n + n/chunkSize + chunkSize)
+	 *
+	 * @param item the data to add to the list.
+	 * @return the index it went in at.
+	 */
+	public int insertSorted(T item) {
+		int c = findChunk(item, true);
+		int local;
+		if (c == chunkCount) {
+			// bigger than everything: the end of the last chunk.
+			c = Math.max(0, chunkCount - 1);
+			local = chunkCount == 0 ? 0 : chunks[c].size();
+		} else {
+			local = findInChunk(chunks[c], item, true);
+		}
+		int at = startOf(c) + local;
+		insertAt(c, local, item);
+		return at;
+	}
+
+	/**
+	 * The items x with from &lt;= x &lt; to, as a new sorted list. The smallest
+	 * keys tell us when to stop without looking inside the next chunk.
+	 * Complexity: O(log n + k), for k items in the range.
+	 *
+	 * @param from the smallest item to include.
+	 * @param to   where to stop (not included).
+	 * @return a copy of that part of this list.
+	 */
+	public SortedList<T> range(T from, T to) {
+		SortedList<T> found = new SortedList<>(order);
+		int c = findChunk(from, false);
+		if (c == chunkCount) {
+			return found;
+		}
+		int local = findInChunk(chunks[c], from, false);
+		for (; c < chunkCount && compare(mins[c], to) < 0; c++) {
+			FixedSizeList<T> chunk = chunks[c];
+			for (int i = local; i < chunk.size(); i++) {
+				T item = chunk.getIndex(i);
+				if (compare(item, to) >= 0) {
+					return found;
+				}
+				found.addBack(item);
+			}
+			local = 0;
+		}
+		return found;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(chunkSize)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(n/chunkSize)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		int start = 0;
+		for (int c = 0; c < chunkCount; c++) {
+			FixedSizeList<T> chunk = chunks[c];
+			int end = start + chunk.size();
+			if (index < end) {
+				T removed = chunk.removeIndex(index - start);
+				if (chunk.isEmpty()) {
+					removeChunk(c);
+				} else {
+					refreshKeys(c);
+				}
+				size--;
+				return removed;
+			}
+			start = end;
+		}
+		throw new BadIndexError();
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(chunkSize)
+	 *
+	 * @param item the data to add to the list.
+	 * @throws OutOfOrderError if item is greater than the first item.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(n/chunkSize)
+	 *
+	 * @param item the data to add to the list.
+	 * @throws OutOfOrderError if item is less than the last item.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size);
+	}
+
+	/**
+	 * Add an item to an index in this list, if it belongs there.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError   if the index does not exist.
+	 * @throws OutOfOrderError if the list would not be sorted afterwards.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if ((index > 0 && compare(getIndex(index - 1), item) > 0)
+				|| (index < size && compare(getIndex(index), item) < 0)) {
+			throw new OutOfOrderError();
+		}
+		if (index == size) {
+			int last = Math.max(0, chunkCount - 1);
+			insertAt(last, chunkCount == 0 ? 0 : chunks[last].size(), item);
+			return;
+		}
+		int start = 0;
+		for (int c = 0; c < chunkCount; c++) {
+			int end = start + chunks[c].size();
+			if (index < end) {
+				insertAt(c, index - start, item);
+				return;
+			}
+			start = end;
+		}
+	}
+
+	/**
+	 * Get the first (smallest) item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getFront() {
+		checkNotEmpty();
+		return (T) mins[0];
+	}
+
+	/**
+	 * Get the last (largest) item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getBack() {
+		checkNotEmpty();
+		return (T) maxes[chunkCount - 1];
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(n/chunkSize)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		int start = 0;
+		for (int c = 0; c < chunkCount; c++) {
+			FixedSizeList<T> chunk = chunks[c];
+			int end = start + chunk.size();
+			if (index < end) {
+				return chunk.getIndex(index - start);
+			}
+			start = end;
+		}
+		throw new BadIndexError();
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Find the first index of an item: binary search to the items that compare
+	 * equal to it, then check those with equals.
+	 * Complexity: O(log n + n/chunkSize + the number that compare equal)
+	 *
+	 * @param item what to look for; the comparator must accept it.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int c = findChunk(item, false);
+		if (c == chunkCount) {
+			return -1;
+		}
+		int start = startOf(c);
+		int local = findInChunk(chunks[c], item, false);
+		for (; c < chunkCount; c++) {
+			FixedSizeList<T> chunk = chunks[c];
+			for (int i = local; i < chunk.size(); i++) {
+				T here = chunk.getIndex(i);
+				if (compare(here, item) != 0) {
+					return -1;
+				}
+				if (Objects.equals(item, here)) {
+					return start + i;
+				}
+			}
+			start += chunk.size();
+			local = 0;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item, like {@linkplain #indexOf} from the other
+	 * end of the equal items.
+	 * Complexity: O(log n + n/chunkSize + the number that compare equal)
+	 *
+	 * @param item what to look for; the comparator must accept it.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int c = Math.min(findChunk(item, true), chunkCount - 1);
+		if (c < 0) {
+			return -1;
+		}
+		int start = startOf(c);
+		int local = findInChunk(chunks[c], item, true) - 1;
+		for (; c >= 0; c--) {
+			FixedSizeList<T> chunk = chunks[c];
+			for (int i = local; i >= 0; i--) {
+				T here = chunk.getIndex(i);
+				if (compare(here, item) != 0) {
+					return -1;
+				}
+				if (Objects.equals(item, here)) {
+					return start + i;
+				}
+			}
+			if (c > 0) {
+				start -= chunks[c - 1].size();
+				local = chunks[c - 1].size() - 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * This list is always sorted by {@linkplain #comparator()}, so it can't be
+	 * reordered. Sorting only succeeds if the items are already in the given
+	 * order (e.g. the same comparator), and then does nothing.
+	 * Complexity: O(n)
+	 *
+	 * @param order how to compare items.
+	 * @throws OutOfOrderError if the items aren't already in that order.
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		T previous = null;
+		boolean first = true;
+		for (T item : this) {
+			if (!first && order.compare(previous, item) > 0) {
+				throw new OutOfOrderError();
+			}
+			previous = item;
+			first = false;
+		}
+	}
+
+	/**
+	 * Copy the items out one chunk at a time.
+	 * Complexity: O(n)
+	 *
+	 * @return a new array of size() items, smallest first.
+	 */
+	@Override
+	public Object[] toArray() {
+		Object[] items = new Object[size];
+		int at = 0;
+		for (int c = 0; c < chunkCount; c++) {
+			for (int i = 0; i < chunks[c].size(); i++) {
+				items[at++] = chunks[c].getIndex(i);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Add every item of source at index, if they are in order and belong
+	 * there. Everything is checked before anything is added, so if they don't
+	 * belong, nothing changes. Then they go in one at a time, splitting chunks
+	 * as they fill.
+	 * Complexity: O(k * (n/chunkSize + chunkSize)) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError   if the index does not exist.
+	 * @throws OutOfOrderError if the list would not be sorted afterwards.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		int k = items.length;
+		if (k == 0) {
+			return;
+		}
+		for (int i = 1; i < k; i++) {
+			if (compare(items[i - 1], (T) items[i]) > 0) {
+				throw new OutOfOrderError();
+			}
+		}
+		if ((index > 0 && compare(getIndex(index - 1), (T) items[0]) > 0)
+				|| (index < size && compare(getIndex(index), (T) items[k - 1]) < 0)) {
+			throw new OutOfOrderError();
+		}
+		for (int i = 0; i < k; i++) {
+			addIndex((T) items[i], index + i);
+		}
+	}
+
+	/**
+	 * Add every item of source to the back, if they are in order and none is
+	 * less than the current last item. If not, nothing changes.
+	 * Complexity: O(k * (n/chunkSize + chunkSize)) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 * @throws OutOfOrderError if the list would not be sorted afterwards.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to) in one pass over the directory.
+	 * Chunks wholly inside the range are dropped without touching their items;
+	 * the chunks at the two edges are trimmed with one arraycopy each.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (from == to) {
+			return;
+		}
+		int start = 0;
+		for (int c = 0; c < chunkCount && start < to; c++) {
+			int end = start + chunks[c].size();
+			if (from <= start && end <= to) {
+				chunks[c] = null;
+			} else if (end > from) {
+				chunks[c].removeRange(Math.max(from, start) - start, Math.min(to, end) - start);
+			}
+			start = end;
+		}
+		size -= to - from;
+		compactDirectory();
+	}
+
+	/**
+	 * Delete every item that filter says yes to: each chunk compacts itself in
+	 * one pass, then empty chunks leave the directory. What is left is still
+	 * in order. If filter throws, the chunk it was looking at is unchanged and
+	 * the ones before it have already lost their items.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int removed = 0;
+		try {
+			for (int c = 0; c < chunkCount; c++) {
+				removed += chunks[c].removeIf(filter);
+			}
+		} finally {
+			size -= removed;
+			compactDirectory();
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the items at all of these indexes, handing each chunk the ones
+	 * that fall in it; empty chunks then leave the directory.
+	 * Complexity: O(n)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size);
+		int start = 0;
+		int j = 0;
+		for (int c = 0; c < chunkCount && j < sortedIndices.length; c++) {
+			int end = start + chunks[c].size();
+			int first = j;
+			while (j < sortedIndices.length && sortedIndices[j] < end) {
+				j++;
+			}
+			if (j > first) {
+				int[] local = new int[j - first];
+				for (int i = 0; i < local.length; i++) {
+					local[i] = sortedIndices[first + i] - start;
+				}
+				chunks[c].removeIndices(local);
+			}
+			start = end;
+		}
+		size -= sortedIndices.length;
+		compactDirectory();
+	}
+
+	/**
+	 * Squeeze the dropped (null) and empty chunks out of the directory and
+	 * refresh the keys of the ones that are left.
+	 * Complexity: O(n/chunkSize)
+	 */
+	private void compactDirectory() {
+		int kept = 0;
+		for (int c = 0; c < chunkCount; c++) {
+			FixedSizeList<T> chunk = chunks[c];
+			if (chunk != null && !chunk.isEmpty()) {
+				chunks[kept] = chunk;
+				refreshKeys(kept);
+				kept++;
+			}
+		}
+		Arrays.fill(chunks, kept, chunkCount, null);
+		Arrays.fill(mins, kept, chunkCount, null);
+		Arrays.fill(maxes, kept, chunkCount, null);
+		chunkCount = kept;
+	}
+
+	/**
+	 * Java can't make an array of FixedSizeList&lt;T&gt; directly, so make one of
+	 * FixedSizeList&lt;?&gt; and cast it, in this one place.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> FixedSizeList<T>[] newDirectory(int length) {
+		return (FixedSizeList<T>[]) new FixedSizeList<?>[length];
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Loop over the items from smallest to largest, chunk by chunk.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int c = 0;
+			int local = 0;
+
+			@Override
+			public boolean hasNext() {
+				return c < chunkCount;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				FixedSizeList<T> chunk = chunks[c];
+				T found = chunk.getIndex(local++);
+				if (local == chunk.size()) {
+					c++;
+					local = 0;
+				}
+				return found;
+			}
+		};
+	}
+}
@@ -0,0 +1,513 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.OutOfOrderError;
+
+/**
+ * A {@linkplain GrowableList} that is always sorted by a Comparator, so that
+ * finding things is a binary search instead of a scan.
+ *
+ * {@linkplain #insertSorted} finds the spot with a binary search and makes room
+ * with one arraycopy. The positional adds still work, as long as the item
+ * really belongs there; otherwise they throw an {@linkplain OutOfOrderError}.
+ * Removes never break the order, so they work as usual.
+ *
+ * Equal items (compare() == 0) keep the order they were added in.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class SortedList<T> implements P6List<T>, Iterable<T> {
+	private final Comparator<? super T> order;
+	private Object[] array;
+	private int fill;
+
+	/**
+	 * @param order how to sort the items, e.g. Comparator.naturalOrder().
+	 */
+	public SortedList(Comparator<? super T> order) {
+		this(order, new Object[Math.max(1, GrowableList.START_SIZE)], 0);
+	}
+
+	/**
+	 * Take over an array whose first fill items are already sorted.
+	 */
+	private SortedList(Comparator<? super T> order, Object[] array, int fill) {
+		this.order = Objects.requireNonNull(order);
+		this.array = array;
+		this.fill = fill;
+	}
+
+	/**
+	 * @return the order this list is kept in.
+	 */
+	public Comparator<? super T> comparator() {
+		return order;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compareAt(int index, T key) {
+		return order.compare((T) array[index], key);
+	}
+
+	/**
+	 * Complexity: O(log n)
+	 *
+	 * @param key what to compare with.
+	 * @return the first index whose item is not less than key, or size() if
+	 *         every item is less.
+	 */
+	public int lowerBound(T key) {
+		int lo = 0;
+		int hi = fill;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compareAt(mid, key) < 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Complexity: O(log n)
+	 *
+	 * @param key what to compare with.
+	 * @return the first index whose item is greater than key, or size() if no
+	 *         item is.
+	 */
+	public int upperBound(T key) {
+		int lo = 0;
+		int hi = fill;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (compareAt(mid, key) <= 0) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Look for an item that compares equal to key, like
+	 * {@linkplain Arrays#binarySearch(Object[], Object, Comparator)}.
+	 * Complexity: O(log n)
+	 *
+	 * @param key what to look for.
+	 * @return the first index of an item equal to key; or, if there is none,
+	 *         (-(insertion point) - 1), which is always negative.
+	 */
+	public int binarySearch(T key) {
+		int at = lowerBound(key);
+		if (at < fill && compareAt(at, key) == 0) {
+			return at;
+		}
+		return -(at + 1);
+	}
+
+	/**
+	 * Add an item where it belongs: after every item less than or equal to it.
+	 * Complexity: O(log n) to find the spot, plus one O(n) arraycopy.
+	 *
+	 * @param item the data to add to the list.
+	 * @return the index it went in at.
+	 */
+	public int insertSorted(T item) {
+		int at = upperBound(item);
+		insertAt(item, at);
+		return at;
+	}
+
+	/**
+	 * The items x with from &lt;= x &lt; to, as a new sorted list.
+	 * Complexity: O(log n + k), for k items in the range.
+	 *
+	 * @param from the smallest item to include.
+	 * @param to   where to stop (not included).
+	 * @return a copy of that part of this list.
+	 */
+	public SortedList<T> range(T from, T to) {
+		int lo = lowerBound(from);
+		int hi = Math.max(lo, lowerBound(to));
+		Object[] items = new Object[Math.max(1, hi - lo)];
+		System.arraycopy(array, lo, items, 0, hi - lo);
+		return new SortedList<>(order, items, hi - lo);
+	}
+
+	/**
+	 * Shift everything from index on right by one with a single arraycopy, and
+	 * put item in the hole.
+	 */
+	private void insertAt(T item, int index) {
+		if (fill == array.length) {
+			array = Arrays.copyOf(array, array.length * 2);
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		fill++;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(n)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(fill - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(n)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = getIndex(index);
+		fill--;
+		System.arraycopy(array, index + 1, array, index, fill - index);
+		array[fill] = null;
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(n)
+	 *
+	 * @param item the data to add to the list.
+	 * @throws OutOfOrderError if item is greater than the first item.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 * @throws OutOfOrderError if item is less than the last item.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, fill);
+	}
+
+	/**
+	 * Add an item to an index in this list, if it belongs there.
+	 * Complexity: O(n)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError   if the index does not exist.
+	 * @throws OutOfOrderError if the list would not be sorted afterwards.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if ((index > 0 && compareAt(index - 1, item) > 0) || (index < fill && compareAt(index, item) < 0)) {
+			throw new OutOfOrderError();
+		}
+		insertAt(item, index);
+	}
+
+	/**
+	 * Get the first (smallest) item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last (largest) item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(fill - 1);
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(1)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return (T) array[index];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * Find the first index of an item: binary search to the items that compare
+	 * equal to it, then check those with equals.
+	 * Complexity: O(log n + the number of items that compare equal)
+	 *
+	 * @param item what to look for; the comparator must accept it.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		for (int i = lowerBound(item); i < fill && compareAt(i, item) == 0; i++) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item, like {@linkplain #indexOf} from the other
+	 * end of the equal items.
+	 * Complexity: O(log n + the number of items that compare equal)
+	 *
+	 * @param item what to look for; the comparator must accept it.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		for (int i = upperBound(item) - 1; i >= 0 && compareAt(i, item) == 0; i--) {
+			if (Objects.equals(item, array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * This list is always sorted by {@linkplain #comparator()}, so it can't be
+	 * reordered. Sorting only succeeds if the items are already in the given
+	 * order (e.g. the same comparator), and then does nothing.
+	 * Complexity: O(n)
+	 *
+	 * @param order how to compare items.
+	 * @throws OutOfOrderError if the items aren't already in that order.
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		T previous = null;
+		boolean first = true;
+		for (T item : this) {
+			if (!first && order.compare(previous, item) > 0) {
+				throw new OutOfOrderError();
+			}
+			previous = item;
+			first = false;
+		}
+	}
+
+	/**
+	 * Complexity: O(n)
+	 *
+	 * @return a copy of the items, smallest first.
+	 */
+	@Override
+	public Object[] toArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Add every item of source at index, if they are in order and belong
+	 * there; then the array grows at most once and the items after index shift
+	 * with one arraycopy. If they don't belong, nothing changes.
+	 * Complexity: O(n + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError   if the index does not exist.
+	 * @throws OutOfOrderError if the list would not be sorted afterwards.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		int k = items.length;
+		if (k == 0) {
+			return;
+		}
+		for (int i = 1; i < k; i++) {
+			if (order.compare((T) items[i - 1], (T) items[i]) > 0) {
+				throw new OutOfOrderError();
+			}
+		}
+		if ((index > 0 && compareAt(index - 1, (T) items[0]) > 0)
+				|| (index < fill && compareAt(index, (T) items[k - 1]) < 0)) {
+			throw new OutOfOrderError();
+		}
+		if (fill + k > array.length) {
+			array = Arrays.copyOf(array, Math.max(array.length * 2, fill + k));
+		}
+		System.arraycopy(array, index, array, index + k, fill - index);
+		System.arraycopy(items, 0, array, index, k);
+		fill += k;
+	}
+
+	/**
+	 * Add every item of source to the back, if they are in order and none is
+	 * less than the current last item. If not, nothing changes.
+	 * Complexity: O(k) amortized for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 * @throws OutOfOrderError if the list would not be sorted afterwards.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(fill, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): the items after them move down
+	 * with one arraycopy, and the slots left at the end are nulled out.
+	 * Complexity: O(n - from)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, fill);
+		fill = BulkRemoval.removeRange(array, 0, fill, from, to);
+	}
+
+	/**
+	 * Delete every item that filter says yes to, in one compacting pass; what
+	 * is left is still in order.
+	 * Nothing moves until filter has seen every item.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		int before = fill;
+		fill = BulkRemoval.removeIf(array, 0, fill, filter);
+		return before - fill;
+	}
+
+	/**
+	 * Delete the items at all of these indexes in one compacting pass.
+	 * Complexity: O(n - sortedIndices[0])
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, fill);
+		fill = BulkRemoval.removeIndices(array, 0, fill, sortedIndices);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Loop over the items from smallest to largest.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			int position = 0;
+
+			@Override
+			public boolean hasNext() {
+				return position < fill;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return getIndex(position++);
+			}
+		};
+	}
+}
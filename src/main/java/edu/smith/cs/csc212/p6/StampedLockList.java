@@ -0,0 +1,444 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A thread-safe wrapper for the array-based lists ({@linkplain GrowableList}
+ * and {@linkplain FixedSizeList}) that lets readers run side by side.
+ *
+ * The O(1) reads (getIndex, getFront, getBack, size, isEmpty) first try an
+ * optimistic read: no lock at all, just a check afterwards that no writer got
+ * in. Only if a writer did get in do they retry under the shared read lock.
+ * Everything that changes the list takes the exclusive write lock.
+ *
+ * Don't wrap the linked lists with this: their reads are O(n), so an
+ * optimistic read would almost always be invalidated by a writer.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class StampedLockList<T> implements P6List<T> {
+	private final P6List<T> list;
+	private final StampedLock lock;
+
+	/**
+	 * @param list the list to protect; nobody else should keep a reference to it.
+	 */
+	public StampedLockList(P6List<T> list) {
+		this.list = list;
+		this.lock = new StampedLock();
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeFront();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeBack();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeIndex(index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		long stamp = lock.writeLock();
+		try {
+			list.addFront(item);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		long stamp = lock.writeLock();
+		try {
+			list.addBack(item);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		long stamp = lock.writeLock();
+		try {
+			list.addIndex(item, index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1) without contention from writers.
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				T found = list.getFront();
+				if (lock.validate(stamp)) {
+					return found;
+				}
+			} catch (RuntimeException raced) {
+				// A writer was halfway through; only believe it under the read lock.
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.getFront();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1) without contention from writers.
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				T found = list.getBack();
+				if (lock.validate(stamp)) {
+					return found;
+				}
+			} catch (RuntimeException raced) {
+				// A writer was halfway through; only believe it under the read lock.
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.getBack();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(1) without contention from writers.
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				T found = list.getIndex(index);
+				if (lock.validate(stamp)) {
+					return found;
+				}
+			} catch (RuntimeException raced) {
+				// A writer was halfway through; only believe it under the read lock.
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.getIndex(index);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1) without contention from writers.
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			int found = list.size();
+			if (lock.validate(stamp)) {
+				return found;
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.size();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1) without contention from writers.
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			boolean found = list.isEmpty();
+			if (lock.validate(stamp)) {
+				return found;
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return list.isEmpty();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Find the first index of an item. A scan is too long to try optimistically,
+	 * so it holds the read lock the whole time; other readers still run.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		long stamp = lock.readLock();
+		try {
+			return list.indexOf(item);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Find the last index of an item, under the read lock.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		long stamp = lock.readLock();
+		try {
+			return list.lastIndexOf(item);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Is an item anywhere in this list? Asks the wrapped list under the read
+	 * lock, in case it can answer faster than indexOf.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item what to look for.
+	 * @return true if the item is in the list.
+	 */
+	@Override
+	public boolean contains(T item) {
+		long stamp = lock.readLock();
+		try {
+			return list.contains(item);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Sort the wrapped list while holding the write lock.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		long stamp = lock.writeLock();
+		try {
+			list.sort(order);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Copy the items out under the read lock.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		long stamp = lock.readLock();
+		try {
+			return list.toArray();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Add every item of source so the first lands at index, under the write
+	 * lock. The lock isn't reentrant, so adding this list to itself hands the
+	 * wrapped list to itself instead of reading through this wrapper.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		long stamp = lock.writeLock();
+		try {
+			list.addAll(index, source == this ? list : source);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Add every item of source to the back, under the write lock.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		long stamp = lock.writeLock();
+		try {
+			list.addAllBack(source == this ? list : source);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Delete the items at indexes [from, to), under the write lock.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		long stamp = lock.writeLock();
+		try {
+			list.removeRange(from, to);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to, under the write lock, so
+	 * filter must not use this list.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeIf(filter);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Delete the items at all of these indexes, under the write lock.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		long stamp = lock.writeLock();
+		try {
+			list.removeIndices(sortedIndices);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A thread-safe {@linkplain LRUCache} split into stripes.
+ *
+ * Each key belongs to one stripe (by its hash), and each stripe is an ordinary
+ * LRUCache with its own lock and an equal share of the capacity. Threads
+ * working on different stripes never wait for each other. The price is that
+ * eviction is only least-recently-used within a stripe, not across the whole
+ * cache.
+ *
+ * @param <K> - the type of the keys.
+ * @param <V> - the type of the values.
+ */
+public class StripedLRUCache<K, V> {
+	private final LRUCache<K, V>[] stripes;
+
+	/**
+	 * @param capacity the most entries to keep in total.
+	 * @param stripes  how many independent parts; rounded up to a power of two.
+	 */
+	public StripedLRUCache(int capacity, int stripes) {
+		int count = 1;
+		while (count < stripes) {
+			count *= 2;
+		}
+		if (capacity < count) {
+			throw new IllegalArgumentException("Need at least one entry per stripe: " + capacity);
+		}
+		@SuppressWarnings("unchecked")
+		LRUCache<K, V>[] made = (LRUCache<K, V>[]) new LRUCache<?, ?>[count];
+		this.stripes = made;
+		for (int i = 0; i < count; i++) {
+			// spread the remainder so the total is exactly capacity.
+			this.stripes[i] = new LRUCache<>(capacity / count + (i < capacity % count ? 1 : 0));
+		}
+	}
+
+	/**
+	 * Which stripe does a key go in? Mix the hash bits first, like HashMap does,
+	 * so keys with similar hashes still spread out. The mask takes as many of
+	 * the mixed bits as there are stripes, so every stripe can be used.
+	 */
+	private LRUCache<K, V> stripe(Object key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		h *= 0x9E3779B9;
+		h ^= (h >>> 16);
+		return stripes[h & (stripes.length - 1)];
+	}
+
+	/**
+	 * @param onEvict called (while holding that stripe's lock) for every entry
+	 *                pushed out to make room, or null.
+	 */
+	public void setEvictionListener(BiConsumer<K, V> onEvict) {
+		for (LRUCache<K, V> s : stripes) {
+			synchronized (s) {
+				s.setEvictionListener(onEvict);
+			}
+		}
+	}
+
+	/**
+	 * @see LRUCache#get
+	 */
+	public V get(K key) {
+		LRUCache<K, V> s = stripe(key);
+		synchronized (s) {
+			return s.get(key);
+		}
+	}
+
+	/**
+	 * @see LRUCache#put
+	 */
+	public V put(K key, V value) {
+		LRUCache<K, V> s = stripe(key);
+		synchronized (s) {
+			return s.put(key, value);
+		}
+	}
+
+	/**
+	 * @see LRUCache#remove
+	 */
+	public V remove(K key) {
+		LRUCache<K, V> s = stripe(key);
+		synchronized (s) {
+			return s.remove(key);
+		}
+	}
+
+	/**
+	 * @see LRUCache#containsKey
+	 */
+	public boolean containsKey(K key) {
+		LRUCache<K, V> s = stripe(key);
+		synchronized (s) {
+			return s.containsKey(key);
+		}
+	}
+
+	/**
+	 * @return how many entries are in the cache; only exact if nobody is
+	 *         changing it.
+	 */
+	public int size() {
+		int total = 0;
+		for (LRUCache<K, V> s : stripes) {
+			synchronized (s) {
+				total += s.size();
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * @return how many stripes there are.
+	 */
+	public int stripeCount() {
+		return stripes.length;
+	}
+
+	/**
+	 * @return hits summed over the stripes.
+	 */
+	public long getHits() {
+		long total = 0;
+		for (LRUCache<K, V> s : stripes) {
+			synchronized (s) {
+				total += s.getHits();
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * @return misses summed over the stripes.
+	 */
+	public long getMisses() {
+		long total = 0;
+		for (LRUCache<K, V> s : stripes) {
+			synchronized (s) {
+				total += s.getMisses();
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * @return evictions summed over the stripes.
+	 */
+	public long getEvictions() {
+		long total = 0;
+		for (LRUCache<K, V> s : stripes) {
+			synchronized (s) {
+				total += s.getEvictions();
+			}
+		}
+		return total;
+	}
+}
@@ -0,0 +1,483 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A tiered vector: what {@linkplain ChunkyLinkedList} is trying to be, but with
+ * chunks you can jump to directly.
+ *
+ * Items live in a directory of blocks that all have the same power-of-two size
+ * b. Every block is full except the last, so index i is always in block i/b,
+ * which we compute with a shift and a mask instead of walking a chain.
+ *
+ * Each block is a small ring (circular array) with its own head offset. To
+ * insert in the middle we shift inside one block (O(b)) and then, for every
+ * later block, pop its last item onto the front of the next one: O(1) per
+ * block because of the rings. Removing works the same way backwards.
+ *
+ * The block size doubles when the list outgrows b*b items (and halves when it
+ * shrinks well below that), so b stays near sqrt(n) and middle edits are
+ * O(sqrt n).
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class TieredVector<T> implements P6List<T> {
+	/**
+	 * The smallest block is 1 &lt;&lt; MIN_BITS items.
+	 */
+	static final int MIN_BITS = 2;
+
+	private int bits;
+	private int mask;
+	/**
+	 * blocks.length == block size; unused blocks are null.
+	 */
+	private Object[][] blocks;
+	/**
+	 * Where each block's first item sits inside its ring.
+	 */
+	private int[] heads;
+	private int size;
+
+	public TieredVector() {
+		reset(MIN_BITS);
+	}
+
+	private void reset(int bits) {
+		this.bits = bits;
+		this.mask = (1 << bits) - 1;
+		this.blocks = new Object[1 << bits][];
+		this.heads = new int[1 << bits];
+		this.size = 0;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(sqrt n)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(sqrt n) amortized
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		int b = index >>> bits;
+		int last = (size - 1) >>> bits;
+		int count = b == last ? size - (b << bits) : mask + 1;
+		T removed = removeInBlock(b, index & mask, count);
+		// every later block moves its first item to the end of the block before it.
+		for (int j = b + 1; j <= last; j++) {
+			Object moved = blocks[j][heads[j]];
+			blocks[j][heads[j]] = null;
+			heads[j] = (heads[j] + 1) & mask;
+			int end = (heads[j - 1] + mask) & mask;
+			blocks[j - 1][end] = moved;
+		}
+		size--;
+		if ((size & mask) == 0) {
+			blocks[size >>> bits] = null;
+			heads[size >>> bits] = 0;
+		}
+		if (bits > MIN_BITS && size < (1 << (2 * bits - 3))) {
+			rebuild(bits - 1);
+		}
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(sqrt n)
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1) amortized
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size);
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(sqrt n) amortized
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (size == blocks.length << bits) {
+			rebuild(bits + 1);
+		}
+		int b = index >>> bits;
+		int last = size >>> bits;
+		if (blocks[last] == null) {
+			blocks[last] = new Object[mask + 1];
+			heads[last] = 0;
+		}
+		// every later block moves its last item to the front of the block after it.
+		for (int j = last; j > b; j--) {
+			int end = (heads[j - 1] + mask) & mask;
+			Object moved = blocks[j - 1][end];
+			blocks[j - 1][end] = null;
+			heads[j] = (heads[j] + mask) & mask;
+			blocks[j][heads[j]] = moved;
+		}
+		int count = b == last ? size - (b << bits) : mask;
+		insertInBlock(b, index & mask, count, item);
+		size++;
+	}
+
+	/**
+	 * Insert into the ring of block b (holding count items) at position p,
+	 * shifting whichever side is shorter.
+	 */
+	private void insertInBlock(int b, int p, int count, Object item) {
+		Object[] ring = blocks[b];
+		int head = heads[b];
+		if (p < count / 2) {
+			head = (head + mask) & mask;
+			for (int q = 0; q < p; q++) {
+				ring[(head + q) & mask] = ring[(head + q + 1) & mask];
+			}
+			heads[b] = head;
+		} else {
+			for (int q = count; q > p; q--) {
+				ring[(head + q) & mask] = ring[(head + q - 1) & mask];
+			}
+		}
+		ring[(head + p) & mask] = item;
+	}
+
+	/**
+	 * Remove position p from the ring of block b (holding count items),
+	 * shifting whichever side is shorter.
+	 */
+	@SuppressWarnings("unchecked")
+	private T removeInBlock(int b, int p, int count) {
+		Object[] ring = blocks[b];
+		int head = heads[b];
+		T removed = (T) ring[(head + p) & mask];
+		if (p < count / 2) {
+			for (int q = p; q > 0; q--) {
+				ring[(head + q) & mask] = ring[(head + q - 1) & mask];
+			}
+			ring[head] = null;
+			heads[b] = (head + 1) & mask;
+		} else {
+			for (int q = p; q < count - 1; q++) {
+				ring[(head + q) & mask] = ring[(head + q + 1) & mask];
+			}
+			ring[(head + count - 1) & mask] = null;
+		}
+		return removed;
+	}
+
+	/**
+	 * Copy everything into blocks of 1 &lt;&lt; newBits items.
+	 * Complexity: O(n), but only when the size has changed by a constant factor.
+	 */
+	private void rebuild(int newBits) {
+		Object[] items = new Object[size];
+		copyOut(0, size, items, 0);
+		layOut(items, newBits);
+	}
+
+	/**
+	 * Replace everything with items, using the smallest block size that holds
+	 * them all, so b is near sqrt(n) again.
+	 * Complexity: O(n)
+	 */
+	private void load(Object[] items) {
+		int newBits = MIN_BITS;
+		while (items.length > 1 << (2 * newBits)) {
+			newBits++;
+		}
+		layOut(items, newBits);
+	}
+
+	/**
+	 * Start over with blocks of 1 &lt;&lt; newBits items, filled from items.
+	 */
+	private void layOut(Object[] items, int newBits) {
+		reset(newBits);
+		int b = 0;
+		for (int start = 0; start < items.length; start += mask + 1) {
+			blocks[b] = new Object[mask + 1];
+			System.arraycopy(items, start, blocks[b], 0, Math.min(mask + 1, items.length - start));
+			b++;
+		}
+		size = items.length;
+	}
+
+	/**
+	 * Copy the items at [from, to) into out, starting at out[at].
+	 */
+	private void copyOut(int from, int to, Object[] out, int at) {
+		for (int i = from; i < to; i++) {
+			int b = i >>> bits;
+			out[at++] = blocks[b][(heads[b] + i) & mask];
+		}
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size - 1);
+	}
+
+	/**
+	 * Find the index-th element of this list: block index / b, then the ring.
+	 * Complexity: O(1)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		int b = index >>> bits;
+		return (T) blocks[b][(heads[b] + index) & mask];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Find the first index of an item, reading the blocks directly.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		for (int i = 0; i < size; i++) {
+			int b = i >>> bits;
+			if (Objects.equals(item, blocks[b][(heads[b] + i) & mask])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item, reading the blocks directly from the back.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		for (int i = size - 1; i >= 0; i--) {
+			int b = i >>> bits;
+			if (Objects.equals(item, blocks[b][(heads[b] + i) & mask])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Add every item of source so that the first one ends up at index. A batch
+	 * smaller than a block goes in one item at a time; anything bigger would
+	 * shift every later block once per item, so instead the whole list is laid
+	 * out again with the new items in place.
+	 * Complexity: O(k sqrt n) for k &lt; sqrt n, otherwise O(n + k)
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it is not changed.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		if (items.length <= mask) {
+			for (int i = 0; i < items.length; i++) {
+				addIndex((T) items[i], index + i);
+			}
+			return;
+		}
+		Object[] all = new Object[size + items.length];
+		copyOut(0, index, all, 0);
+		System.arraycopy(items, 0, all, index, items.length);
+		copyOut(index, size, all, index + items.length);
+		load(all);
+	}
+
+	/**
+	 * Add every item of source to the back of this list.
+	 * Complexity: O(k) amortized for k &lt; sqrt n, otherwise O(n + k)
+	 *
+	 * @param source the items to add; it is not changed.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		addAll(size, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to). Like addAll, a range smaller than
+	 * a block is deleted one item at a time, and a bigger one by laying out
+	 * what is left again.
+	 * Complexity: O(k sqrt n) for k &lt; sqrt n, otherwise O(n)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (to - from <= mask) {
+			for (int i = from; i < to; i++) {
+				removeIndex(from);
+			}
+			return;
+		}
+		Object[] kept = new Object[size - (to - from)];
+		copyOut(0, from, kept, 0);
+		copyOut(to, size, kept, from);
+		load(kept);
+	}
+
+	/**
+	 * Delete every item that filter says yes to: ask about every item first,
+	 * then lay out the rest again. If filter throws, nothing is deleted.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int removeIf(Predicate<? super T> filter) {
+		Object[] kept = new Object[size];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			int b = i >>> bits;
+			Object item = blocks[b][(heads[b] + i) & mask];
+			if (!filter.test((T) item)) {
+				kept[count++] = item;
+			}
+		}
+		int removed = size - count;
+		if (removed > 0) {
+			load(Arrays.copyOf(kept, count));
+		}
+		return removed;
+	}
+
+	/**
+	 * @return how many items each block holds right now.
+	 */
+	int blockSize() {
+		return mask + 1;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.TracingList.Op;
+
+/**
+ * A trace written by {@linkplain TracingList}, decoded into plain arrays so
+ * that replaying it costs nothing but the list operations themselves.
+ */
+public class Trace {
+	/**
+	 * Op.values() makes a new array every call; replays shouldn't.
+	 */
+	private static final Op[] OPS = Op.values();
+
+	private byte[] ops;
+	private int[] indexes;
+	private int[] sizes;
+	private int length;
+
+	private Trace() {
+		this.ops = new byte[1024];
+		this.indexes = new int[1024];
+		this.sizes = new int[1024];
+		this.length = 0;
+	}
+
+	/**
+	 * Decode a whole trace.
+	 *
+	 * @param in the bytes a TracingList wrote; read up to the end.
+	 * @return the decoded trace.
+	 * @throws IOException if it can't be read or isn't a trace.
+	 */
+	public static Trace read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		byte[] magic = new byte[TracingList.MAGIC.length];
+		data.readFully(magic);
+		if (!Arrays.equals(magic, TracingList.MAGIC) || data.readUnsignedByte() != TracingList.VERSION) {
+			throw new IOException("Not a version " + TracingList.VERSION + " P6 trace.");
+		}
+		Trace trace = new Trace();
+		while (true) {
+			int code = data.read();
+			if (code < 0) {
+				return trace;
+			}
+			if (code >= OPS.length) {
+				throw new IOException("Unknown operation " + code + " in trace.");
+			}
+			Op op = OPS[code];
+			int index = op.hasIndex() ? readVarint(data) : 0;
+			trace.append(op, index, readVarint(data));
+		}
+	}
+
+	/**
+	 * Read a number written by {@linkplain TracingList#writeVarint}.
+	 */
+	static int readVarint(DataInputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException("Trace ends in the middle of a record.");
+			}
+			value |= (b & 0x7f) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Varint is too long.");
+	}
+
+	private void append(Op op, int index, int sizeBefore) {
+		if (length == ops.length) {
+			ops = Arrays.copyOf(ops, length * 2);
+			indexes = Arrays.copyOf(indexes, length * 2);
+			sizes = Arrays.copyOf(sizes, length * 2);
+		}
+		ops[length] = (byte) op.ordinal();
+		indexes[length] = index;
+		sizes[length] = sizeBefore;
+		length++;
+	}
+
+	/**
+	 * @return how many operations are in the trace.
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @param i which record.
+	 * @return the operation of record i.
+	 */
+	public Op op(int i) {
+		return OPS[ops[i]];
+	}
+
+	/**
+	 * @param i which record.
+	 * @return the index of record i, or 0 if its operation doesn't take one.
+	 */
+	public int index(int i) {
+		return indexes[i];
+	}
+
+	/**
+	 * @param i which record.
+	 * @return the size of the list just before record i.
+	 */
+	public int sizeBefore(int i) {
+		return sizes[i];
+	}
+
+	/**
+	 * @return how many items the list held when recording started; a replay
+	 *         fills the list with this many before the first record.
+	 */
+	public int initialSize() {
+		return length == 0 ? 0 : sizes[0];
+	}
+
+	/**
+	 * @return room for the largest the list ever got (one more than the
+	 *         biggest size we saw before an operation).
+	 */
+	public int maxSize() {
+		int max = 0;
+		for (int i = 0; i < length; i++) {
+			max = Math.max(max, sizes[i] + 1);
+		}
+		return max;
+	}
+
+	/**
+	 * @param op which operation.
+	 * @return how many records are that operation.
+	 */
+	public int count(Op op) {
+		int found = 0;
+		for (int i = 0; i < length; i++) {
+			if (ops[i] == op.ordinal()) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
@@ -0,0 +1,379 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import edu.smith.cs.csc212.p6.TracingList.Op;
+
+/**
+ * Replays a trace recorded by {@linkplain TracingList} against every P6List we
+ * have, and ranks them for that workload.
+ *
+ * Run it as {@code TraceReplay path/to/trace}; with no arguments it records and
+ * replays a small made-up workload so you can see what the report looks like.
+ *
+ * Before the table it reports what the trace asks of the two basic shapes of
+ * list, counted from each operation's position and the size at the time: how
+ * many items an array would move (everything after an add or remove), how many
+ * nodes a walk from the front would visit, and how many a walk from the nearer
+ * end would visit. These come from the trace alone, so they say why a list
+ * won or lost without putting counters in every list's hot path, which would
+ * slow down exactly the code being timed.
+ *
+ * For each implementation it reports nanoseconds per operation (the best of a
+ * few rounds, after warming up), bytes allocated per operation, and how many
+ * operations failed. A failure means that list threw where the original one
+ * didn't, e.g. {@linkplain ChunkyLinkedList#addIndex} on a full chunk; such a
+ * list is ranked last no matter how fast it was.
+ */
+public class TraceReplay {
+	static final int WARMUP_ROUNDS = 3;
+	static final int MEASURED_ROUNDS = 5;
+	/**
+	 * Replays only need some value to store; one shared object keeps boxing out
+	 * of the allocation numbers.
+	 */
+	static final Object VALUE = "x";
+
+	/**
+	 * One implementation to try: a name for the report and a way to make it.
+	 */
+	public static class Candidate {
+		final String name;
+		final Supplier<P6List<Object>> factory;
+
+		public Candidate(String name, Supplier<P6List<Object>> factory) {
+			this.name = name;
+			this.factory = factory;
+		}
+	}
+
+	/**
+	 * What one implementation cost on one trace.
+	 */
+	public static class Result implements Comparable<Result> {
+		final String name;
+		final double nanosPerOp;
+		final double bytesPerOp;
+		final int failures;
+
+		Result(String name, double nanosPerOp, double bytesPerOp, int failures) {
+			this.name = name;
+			this.nanosPerOp = nanosPerOp;
+			this.bytesPerOp = bytesPerOp;
+			this.failures = failures;
+		}
+
+		/**
+		 * Lists that can run the trace come first, then the fastest.
+		 */
+		@Override
+		public int compareTo(Result other) {
+			if ((failures == 0) != (other.failures == 0)) {
+				return failures == 0 ? -1 : 1;
+			}
+			return Double.compare(nanosPerOp, other.nanosPerOp);
+		}
+	}
+
+	/**
+	 * The work a trace asks for, in elements moved and nodes visited, counted
+	 * for an array list and for linked lists walked from one or both ends.
+	 */
+	public static class Work {
+		/**
+		 * Items after the position of each add or remove: what an array shifts.
+		 */
+		final long arrayMoves;
+		/**
+		 * Items before the position of each positional operation: what a walk
+		 * from the front visits, as in {@linkplain SinglyLinkedList}.
+		 */
+		final long frontSteps;
+		/**
+		 * The smaller of the two: what a walk from the nearer end visits, as in
+		 * {@linkplain DoublyLinkedList}.
+		 */
+		final long nearerEndSteps;
+
+		Work(long arrayMoves, long frontSteps, long nearerEndSteps) {
+			this.arrayMoves = arrayMoves;
+			this.frontSteps = frontSteps;
+			this.nearerEndSteps = nearerEndSteps;
+		}
+
+		/**
+		 * Add up the work of every operation in a trace.
+		 * Complexity: O(trace length)
+		 *
+		 * @param trace the operations.
+		 * @return the totals.
+		 */
+		public static Work of(Trace trace) {
+			long moves = 0;
+			long front = 0;
+			long nearer = 0;
+			for (int i = 0; i < trace.length(); i++) {
+				Op op = trace.op(i);
+				int n = trace.sizeBefore(i);
+				int position;
+				// how many items end up after the position (adds) or were after it.
+				int after;
+				switch (op) {
+				case ADD_FRONT:
+					position = 0;
+					after = n;
+					break;
+				case ADD_BACK:
+					position = n;
+					after = 0;
+					break;
+				case ADD_INDEX:
+					position = trace.index(i);
+					after = n - position;
+					break;
+				case REMOVE_FRONT:
+				case GET_FRONT:
+					position = 0;
+					after = n - 1;
+					break;
+				case REMOVE_BACK:
+				case GET_BACK:
+					position = n - 1;
+					after = 0;
+					break;
+				case REMOVE_INDEX:
+				case GET_INDEX:
+					position = trace.index(i);
+					after = n - position - 1;
+					break;
+				default:
+					continue;
+				}
+				if (op != Op.GET_FRONT && op != Op.GET_BACK && op != Op.GET_INDEX) {
+					moves += after;
+				}
+				front += position;
+				nearer += Math.min(position, after);
+			}
+			return new Work(moves, front, nearer);
+		}
+	}
+
+	/**
+	 * @param maxSize how big the trace gets, for the fixed-size list.
+	 * @return every implementation worth trying, with a few chunk sizes.
+	 */
+	public static List<Candidate> candidates(int maxSize) {
+		List<Candidate> all = new ArrayList<>();
+		all.add(new Candidate("GrowableList", GrowableList::new));
+		all.add(new Candidate("FixedSizeList", () -> new FixedSizeList<>(Math.max(1, maxSize))));
+		all.add(new Candidate("SinglyLinkedList", SinglyLinkedList::new));
+		all.add(new Candidate("ArenaSinglyLinkedList", ArenaSinglyLinkedList::new));
+		all.add(new Candidate("DoublyLinkedList", DoublyLinkedList::new));
+		all.add(new Candidate("ArenaDoublyLinkedList", ArenaDoublyLinkedList::new));
+		for (int chunkSize : new int[] { 8, 32, 128 }) {
+			all.add(new Candidate("ChunkyLinkedList(" + chunkSize + ")", () -> new ChunkyLinkedList<>(chunkSize)));
+		}
+		all.add(new Candidate("RingBufferList", RingBufferList::new));
+		all.add(new Candidate("GapBufferList", GapBufferList::new));
+		all.add(new Candidate("TieredVector", TieredVector::new));
+		all.add(new Candidate("SkipList", () -> new SkipList<>(212)));
+		all.add(new Candidate("TreapList", () -> new TreapList<>(212)));
+		all.add(new Candidate("AdaptiveList", AdaptiveList::new));
+		return all;
+	}
+
+	/**
+	 * Make a list the size it was when recording started.
+	 */
+	static P6List<Object> prepare(Trace trace, Candidate candidate) {
+		P6List<Object> list = candidate.factory.get();
+		for (int i = 0; i < trace.initialSize(); i++) {
+			list.addBack(VALUE);
+		}
+		return list;
+	}
+
+	/**
+	 * Run the trace once.
+	 *
+	 * @param trace the operations.
+	 * @param list  a list from {@linkplain #prepare}.
+	 * @return how many operations threw.
+	 */
+	static int replay(Trace trace, P6List<Object> list) {
+		int failures = 0;
+		for (int i = 0; i < trace.length(); i++) {
+			try {
+				apply(list, trace.op(i), trace.index(i));
+			} catch (RuntimeException e) {
+				failures++;
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Do one recorded operation.
+	 */
+	static void apply(P6List<Object> list, Op op, int index) {
+		switch (op) {
+		case ADD_FRONT:
+			list.addFront(VALUE);
+			break;
+		case ADD_BACK:
+			list.addBack(VALUE);
+			break;
+		case ADD_INDEX:
+			list.addIndex(VALUE, index);
+			break;
+		case REMOVE_FRONT:
+			list.removeFront();
+			break;
+		case REMOVE_BACK:
+			list.removeBack();
+			break;
+		case REMOVE_INDEX:
+			list.removeIndex(index);
+			break;
+		case GET_FRONT:
+			list.getFront();
+			break;
+		case GET_BACK:
+			list.getBack();
+			break;
+		case GET_INDEX:
+			list.getIndex(index);
+			break;
+		case SIZE:
+			list.size();
+			break;
+		case IS_EMPTY:
+			list.isEmpty();
+			break;
+		}
+	}
+
+	/**
+	 * Warm up, then time a few rounds of the trace and keep the best.
+	 *
+	 * @param trace     the operations.
+	 * @param candidate which list to run them on.
+	 * @param meter     for allocation; may be null if the JVM can't count it.
+	 * @return the cost of this candidate.
+	 */
+	public static Result measure(Trace trace, Candidate candidate, AllocationMeter meter) {
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			replay(trace, prepare(trace, candidate));
+		}
+		long bestNanos = Long.MAX_VALUE;
+		long bestBytes = Long.MAX_VALUE;
+		int failures = 0;
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			// don't charge making and filling the list to the trace.
+			P6List<Object> list = prepare(trace, candidate);
+			long mark = meter == null ? 0 : meter.mark();
+			long start = System.nanoTime();
+			failures = replay(trace, list);
+			long nanos = System.nanoTime() - start;
+			long bytes = meter == null ? 0 : meter.since(mark);
+			bestNanos = Math.min(bestNanos, nanos);
+			bestBytes = Math.min(bestBytes, bytes);
+		}
+		int ops = Math.max(1, trace.length());
+		return new Result(candidate.name, (double) bestNanos / ops, (double) bestBytes / ops, failures);
+	}
+
+	/**
+	 * Print the operation mix, then every candidate from best to worst.
+	 *
+	 * @param trace the operations.
+	 * @return the results, best first.
+	 */
+	public static List<Result> rank(Trace trace) {
+		System.out.printf("%d operations, starting at size %d, up to size %d%n", trace.length(),
+				trace.initialSize(), trace.maxSize());
+		for (Op op : Op.values()) {
+			int count = trace.count(op);
+			if (count > 0) {
+				System.out.printf("  %-13s %9d  %5.1f%%%n", op, count, 100.0 * count / trace.length());
+			}
+		}
+		Work work = Work.of(trace);
+		double ops = Math.max(1, trace.length());
+		System.out.printf("per operation: %.1f items moved by an array, %.1f nodes visited from the front,"
+				+ " %.1f from the nearer end%n", work.arrayMoves / ops, work.frontSteps / ops, work.nearerEndSteps / ops);
+
+		AllocationMeter meter = AllocationMeter.isSupported() ? new AllocationMeter() : null;
+		List<Result> results = new ArrayList<>();
+		for (Candidate candidate : candidates(trace.maxSize())) {
+			results.add(measure(trace, candidate, meter));
+		}
+		results.sort(null);
+
+		System.out.printf("%n%-22s %12s %12s %9s%n", "list", "ns/op", "bytes/op", "failures");
+		for (Result r : results) {
+			System.out.printf("%-22s %12.1f %12.2f %9d%n", r.name, r.nanosPerOp, r.bytesPerOp, r.failures);
+		}
+		if (!results.isEmpty() && results.get(0).failures == 0) {
+			System.out.println("\nBest fit for this trace: " + results.get(0).name);
+		}
+		return results;
+	}
+
+	/**
+	 * Record a made-up workload: mostly reads, a queue at the ends, and some
+	 * edits in the middle.
+	 */
+	static Trace demoTrace() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Random rand = new Random(212);
+		try (TracingList<Integer> list = new TracingList<>(new GrowableList<>(), bytes)) {
+			for (int i = 0; i < 2000; i++) {
+				list.addBack(i);
+			}
+			int n = 2000;
+			for (int i = 0; i < 20000; i++) {
+				int roll = rand.nextInt(100);
+				if (roll < 40) {
+					list.getIndex(rand.nextInt(n));
+				} else if (roll < 60) {
+					list.addBack(i);
+					n++;
+				} else if (roll < 75) {
+					list.removeFront();
+					n--;
+				} else if (roll < 85) {
+					list.addIndex(i, rand.nextInt(n + 1));
+					n++;
+				} else if (roll < 95) {
+					list.removeIndex(rand.nextInt(n));
+					n--;
+				} else {
+					list.getFront();
+				}
+			}
+		}
+		return Trace.read(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	public static void main(String[] args) throws IOException {
+		Trace trace;
+		if (args.length == 0) {
+			trace = demoTrace();
+		} else {
+			try (InputStream in = new FileInputStream(args[0])) {
+				trace = Trace.read(in);
+			}
+		}
+		rank(trace);
+	}
+}
@@ -0,0 +1,456 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A wrapper that records every operation on a list to a compact binary trace,
+ * so that {@linkplain TraceReplay} can later run the exact same sequence
+ * against every implementation and tell us which one fits the workload.
+ *
+ * The trace is the bytes "P6TR", a version byte, and then one record per
+ * successful operation: the {@linkplain Op} as one byte, the index (only for
+ * addIndex/removeIndex/getIndex), and the size of the list just before the
+ * operation. Numbers are varints: 7 bits per byte, high bit set means "more",
+ * so small indexes cost one byte. The values themselves are not recorded.
+ *
+ * The trace only has the single-item operations in {@linkplain Op}. Bulk
+ * edits (addAll, addAllBack, removeRange, removeIf, removeIndices) run as one
+ * call on the wrapped list, but they are recorded as one addIndex, addBack or
+ * removeIndex per item, so a replay goes through the same sizes one item at a
+ * time and a list's fast bulk path doesn't show up in the timings. Searches
+ * (indexOf, lastIndexOf, contains), sort and toArray are not recorded at all:
+ * the trace has no values to search for or compare, and none of them changes
+ * the size.
+ *
+ * Operations that throw (e.g. removeFront on an empty list) are not recorded.
+ * This class is not thread-safe; wrap it in a lock if you need one.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class TracingList<T> implements P6List<T>, Closeable {
+	/**
+	 * The first bytes of every trace.
+	 */
+	static final byte[] MAGIC = { 'P', '6', 'T', 'R' };
+	static final int VERSION = 1;
+
+	/**
+	 * One of the P6List methods; the ordinal is what goes in the trace.
+	 */
+	public enum Op {
+		ADD_FRONT, ADD_BACK, ADD_INDEX, REMOVE_FRONT, REMOVE_BACK, REMOVE_INDEX, GET_FRONT, GET_BACK, GET_INDEX,
+		SIZE, IS_EMPTY;
+
+		/**
+		 * @return true if records of this operation carry an index.
+		 */
+		public boolean hasIndex() {
+			return this == ADD_INDEX || this == REMOVE_INDEX || this == GET_INDEX;
+		}
+	}
+
+	private final P6List<T> list;
+	private final DataOutputStream out;
+	/**
+	 * Our own count, so that recording the size is O(1) even for the linked
+	 * lists, whose size() walks every node.
+	 */
+	private int size;
+	private long recorded;
+
+	/**
+	 * @param list the list to trace; nobody else should change it directly.
+	 * @param out  where the trace goes; it is buffered for you.
+	 */
+	public TracingList(P6List<T> list, OutputStream out) {
+		this.list = list;
+		this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.size = list.size();
+		try {
+			this.out.write(MAGIC);
+			this.out.writeByte(VERSION);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Write one record.
+	 */
+	private void record(Op op, int index, int sizeBefore) {
+		try {
+			out.writeByte(op.ordinal());
+			if (op.hasIndex()) {
+				writeVarint(out, index);
+			}
+			writeVarint(out, sizeBefore);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		recorded++;
+	}
+
+	/**
+	 * Write a non-negative number 7 bits at a time, low bits first.
+	 */
+	static void writeVarint(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7f) != 0) {
+			out.writeByte((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * @return how many operations have been written to the trace.
+	 */
+	public long getRecordedCount() {
+		return recorded;
+	}
+
+	/**
+	 * Push any buffered records out to the stream.
+	 */
+	public void flush() {
+		try {
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Flush and close the trace. Don't use this wrapper afterwards.
+	 */
+	@Override
+	public void close() {
+		try {
+			out.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		T removed = list.removeFront();
+		record(Op.REMOVE_FRONT, 0, size--);
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		T removed = list.removeBack();
+		record(Op.REMOVE_BACK, 0, size--);
+		return removed;
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		T removed = list.removeIndex(index);
+		record(Op.REMOVE_INDEX, index, size--);
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		list.addFront(item);
+		record(Op.ADD_FRONT, 0, size++);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		list.addBack(item);
+		record(Op.ADD_BACK, 0, size++);
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		list.addIndex(item, index);
+		record(Op.ADD_INDEX, index, size++);
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		T found = list.getFront();
+		record(Op.GET_FRONT, 0, size);
+		return found;
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		T found = list.getBack();
+		record(Op.GET_BACK, 0, size);
+		return found;
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public T getIndex(int index) {
+		T found = list.getIndex(index);
+		record(Op.GET_INDEX, index, size);
+		return found;
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		int found = list.size();
+		record(Op.SIZE, 0, size);
+		return found;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: same as the wrapped list, plus O(1).
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		boolean found = list.isEmpty();
+		record(Op.IS_EMPTY, 0, size);
+		return found;
+	}
+
+	/**
+	 * Find the first index of an item in the wrapped list. Searches are not
+	 * recorded: the trace has no values in it, so a replay would have nothing
+	 * to search for. (The default indexOf would have recorded one getIndex per
+	 * position, which is worse than nothing.)
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		return list.indexOf(item);
+	}
+
+	/**
+	 * Find the last index of an item in the wrapped list; not recorded.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		return list.lastIndexOf(item);
+	}
+
+	/**
+	 * Ask the wrapped list whether it has an item; not recorded.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param item what to look for.
+	 * @return true if the item is in the list.
+	 */
+	@Override
+	public boolean contains(T item) {
+		return list.contains(item);
+	}
+
+	/**
+	 * Sort the wrapped list. This isn't recorded either: the trace format has
+	 * no sort operation, and the size doesn't change.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	public void sort(Comparator<? super T> order) {
+		list.sort(order);
+	}
+
+	/**
+	 * Copy the items out of the wrapped list; not recorded.
+	 * Complexity: same as the wrapped list.
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public Object[] toArray() {
+		return list.toArray();
+	}
+
+	/**
+	 * Add every item of source to the wrapped list in one call. The trace
+	 * format has no bulk add, so this is recorded as one addIndex per item,
+	 * which leaves a replay with the same sizes as the original.
+	 * Complexity: same as the wrapped list, plus O(k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		P6List<T> from = source == this ? list : source;
+		int count = from.size();
+		list.addAll(index, from);
+		for (int i = 0; i < count; i++) {
+			record(Op.ADD_INDEX, index + i, size++);
+		}
+	}
+
+	/**
+	 * Add every item of source to the back of the wrapped list in one call,
+	 * recorded as one addBack per item.
+	 * Complexity: same as the wrapped list, plus O(k) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		P6List<T> from = source == this ? list : source;
+		int count = from.size();
+		list.addAllBack(from);
+		for (int i = 0; i < count; i++) {
+			record(Op.ADD_BACK, 0, size++);
+		}
+	}
+
+	/**
+	 * Delete the items at indexes [from, to) from the wrapped list in one
+	 * call, recorded as one removeIndex(from) per item.
+	 * Complexity: same as the wrapped list, plus O(to - from).
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		list.removeRange(from, to);
+		for (int i = from; i < to; i++) {
+			record(Op.REMOVE_INDEX, from, size--);
+		}
+	}
+
+	/**
+	 * Delete every item that filter says yes to. The trace needs to know which
+	 * indexes went, so filter is run over a copy of the items first and the
+	 * matches go to the wrapped list in one removeIndices.
+	 * Complexity: O(n) plus the wrapped list's removeIndices.
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public int removeIf(Predicate<? super T> filter) {
+		Object[] items = list.toArray();
+		int[] doomed = new int[items.length];
+		int count = 0;
+		for (int i = 0; i < items.length; i++) {
+			if (filter.test((T) items[i])) {
+				doomed[count++] = i;
+			}
+		}
+		if (count > 0) {
+			removeIndices(Arrays.copyOf(doomed, count));
+		}
+		return count;
+	}
+
+	/**
+	 * Delete the items at all of these indexes from the wrapped list in one
+	 * call, recorded as one removeIndex per item, front to back (so each index
+	 * is shifted down by the removes before it).
+	 * Complexity: same as the wrapped list, plus O(k) for k indexes.
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public void removeIndices(int[] sortedIndices) {
+		list.removeIndices(sortedIndices);
+		for (int j = 0; j < sortedIndices.length; j++) {
+			record(Op.REMOVE_INDEX, sortedIndices[j] - j, size--);
+		}
+	}
+}
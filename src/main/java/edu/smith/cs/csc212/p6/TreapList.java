@@ -0,0 +1,659 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list for lots of inserts and deletes in the middle of a big list.
+ *
+ * Like {@linkplain ChunkyLinkedList}, items are kept in small arrays ("leaves"),
+ * but instead of a chain the leaves are nodes of a balanced binary tree, and
+ * every node knows how many items are under it. To find index i we go left or
+ * right by comparing against those counts, so finding anything is O(log n).
+ *
+ * The tree is a treap: every node gets a random priority and parents always
+ * have a higher priority than their children. That keeps the tree balanced
+ * (expected depth O(log n)) without any of the AVL or red-black bookkeeping.
+ * Pass a seed to get the same tree shape every run.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class TreapList<T> implements P6List<T>, Iterable<T> {
+	/**
+	 * How many items fit in one node before it splits.
+	 */
+	public static int LEAF_SIZE = 64;
+
+	private Node root;
+	private final Random random;
+	/**
+	 * Where remove() leaves the item it took out.
+	 */
+	private Object removed;
+
+	public TreapList() {
+		this(new Random());
+	}
+
+	/**
+	 * @param seed - makes the tree shape (and so the timing) repeatable.
+	 */
+	public TreapList(long seed) {
+		this(new Random(seed));
+	}
+
+	private TreapList(Random random) {
+		this.root = null;
+		this.random = random;
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(log n)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(log n)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size() - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(log n + LEAF_SIZE)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		root = remove(root, index);
+		T found = (T) removed;
+		removed = null;
+		return found;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(log n)
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(log n)
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/**
+	 * Add an item to an index in this list.
+	 * Complexity: O(log n + LEAF_SIZE)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		root = insert(root, index, item);
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(log n)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(log n)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size() - 1);
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(log n)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		Node n = root;
+		while (true) {
+			int leftSize = total(n.left);
+			if (index < leftSize) {
+				n = n.left;
+			} else if (index < leftSize + n.count) {
+				return (T) n.items[index - leftSize];
+			} else {
+				index -= leftSize + n.count;
+				n = n.right;
+			}
+		}
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return total(root);
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * Find the first index of an item with an in-order walk, instead of
+	 * searching down from the root for every index.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int indexOf(T item) {
+		int at = 0;
+		for (T value : this) {
+			if (Objects.equals(item, value)) {
+				return at;
+			}
+			at++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the last index of an item: one in-order walk, remembering the last
+	 * match.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public int lastIndexOf(T item) {
+		int found = -1;
+		int at = 0;
+		for (T value : this) {
+			if (Objects.equals(item, value)) {
+				found = at;
+			}
+			at++;
+		}
+		return found;
+	}
+
+	/**
+	 * Cut this list in two: this list keeps [0, index) and the items from index
+	 * on are moved to the list that is returned.
+	 * Complexity: O(log n + LEAF_SIZE)
+	 *
+	 * @param index a number from 0 to size (including size).
+	 * @return a new list with the back part.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public TreapList<T> split(int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		Node[] parts = split(root, index);
+		root = parts[0];
+		TreapList<T> back = new TreapList<>(new Random(random.nextLong()));
+		back.root = parts[1];
+		return back;
+	}
+
+	/**
+	 * Move every item of other onto the back of this list; other ends up empty.
+	 * Complexity: O(log n)
+	 *
+	 * @param other the list to take items from.
+	 */
+	public void concat(TreapList<T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("can't concat a list onto itself");
+		}
+		root = merge(root, other.root);
+		other.root = null;
+	}
+
+	/**
+	 * Add every item of source so that the first one ends up at index: build
+	 * a treap of the new items, then split this one at index and join the
+	 * three parts, instead of going down from the root once per item.
+	 * Complexity: O(log n + k)
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it is not changed.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		Node middle = build(items, 0, items.length);
+		Node[] parts = split(root, index);
+		root = merge(merge(parts[0], middle), parts[1]);
+	}
+
+	/**
+	 * Add every item of source to the back of this list.
+	 * Complexity: O(log n + k)
+	 *
+	 * @param source the items to add; it is not changed.
+	 */
+	@Override
+	public void addAllBack(P6List<T> source) {
+		Object[] items = source.toArray();
+		root = merge(root, build(items, 0, items.length));
+	}
+
+	/**
+	 * Delete the items at indexes [from, to): split twice and join the outer
+	 * parts, so the deleted nodes are never visited one by one.
+	 * Complexity: O(log n + LEAF_SIZE)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size());
+		Node[] back = split(root, to);
+		Node[] front = split(back[0], from);
+		root = merge(front[0], back[1]);
+	}
+
+	/**
+	 * Delete every item that filter says yes to: ask about every item first,
+	 * then build a new tree of the rest. If filter throws, nothing is deleted.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public int removeIf(Predicate<? super T> filter) {
+		Object[] kept = new Object[size()];
+		int count = 0;
+		for (T value : this) {
+			if (!filter.test(value)) {
+				kept[count++] = value;
+			}
+		}
+		int removed = size() - count;
+		if (removed > 0) {
+			root = build(kept, 0, count);
+		}
+		return removed;
+	}
+
+	/**
+	 * Loop over the items in order.
+	 * @return an object that understands "next()" and "hasNext()".
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter<>(root);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	private Node newNode() {
+		return new Node(random.nextInt());
+	}
+
+	private static int total(Node n) {
+		return n == null ? 0 : n.total;
+	}
+
+	private static void update(Node n) {
+		n.total = total(n.left) + n.count + total(n.right);
+	}
+
+	private static Node rotateRight(Node n) {
+		Node l = n.left;
+		n.left = l.right;
+		l.right = n;
+		update(n);
+		update(l);
+		return l;
+	}
+
+	private static Node rotateLeft(Node n) {
+		Node r = n.right;
+		n.right = r.left;
+		r.left = n;
+		update(n);
+		update(r);
+		return r;
+	}
+
+	/**
+	 * Insert item at index i of the subtree under n; returns the new subtree root.
+	 */
+	private Node insert(Node n, int i, Object item) {
+		if (n == null) {
+			n = newNode();
+			n.items[0] = item;
+			n.count = 1;
+			update(n);
+			return n;
+		}
+		int leftSize = total(n.left);
+		if (i < leftSize) {
+			n.left = insert(n.left, i, item);
+			if (n.left.priority > n.priority) {
+				return rotateRight(n);
+			}
+		} else if (i <= leftSize + n.count) {
+			int at = i - leftSize;
+			if (n.count == n.items.length) {
+				// full: move the back half into a new node that goes right after this one.
+				int half = n.count / 2;
+				Node next = newNode();
+				next.count = n.count - half;
+				System.arraycopy(n.items, half, next.items, 0, next.count);
+				for (int j = half; j < n.count; j++) {
+					n.items[j] = null;
+				}
+				n.count = half;
+				if (at > half) {
+					next.insertLocal(at - half, item);
+				} else {
+					n.insertLocal(at, item);
+				}
+				update(next);
+				n.right = insertLeftmost(n.right, next);
+				if (n.right.priority > n.priority) {
+					return rotateLeft(n);
+				}
+			} else {
+				n.insertLocal(at, item);
+			}
+		} else {
+			n.right = insert(n.right, i - leftSize - n.count, item);
+			if (n.right.priority > n.priority) {
+				return rotateLeft(n);
+			}
+		}
+		update(n);
+		return n;
+	}
+
+	/**
+	 * Hang the node m before everything in the subtree under n.
+	 */
+	private static Node insertLeftmost(Node n, Node m) {
+		if (n == null) {
+			return m;
+		}
+		n.left = insertLeftmost(n.left, m);
+		if (n.left.priority > n.priority) {
+			return rotateRight(n);
+		}
+		update(n);
+		return n;
+	}
+
+	/**
+	 * Remove index i of the subtree under n into this.removed; returns the new
+	 * subtree root.
+	 */
+	private Node remove(Node n, int i) {
+		int leftSize = total(n.left);
+		if (i < leftSize) {
+			n.left = remove(n.left, i);
+		} else if (i < leftSize + n.count) {
+			removed = n.removeLocal(i - leftSize);
+			if (n.count == 0) {
+				return merge(n.left, n.right);
+			}
+		} else {
+			n.right = remove(n.right, i - leftSize - n.count);
+		}
+		update(n);
+		return n;
+	}
+
+	/**
+	 * Join two treaps where everything in a comes before everything in b.
+	 */
+	private static Node merge(Node a, Node b) {
+		if (a == null) {
+			return b;
+		}
+		if (b == null) {
+			return a;
+		}
+		if (a.priority > b.priority) {
+			a.right = merge(a.right, b);
+			update(a);
+			return a;
+		}
+		b.left = merge(a, b.left);
+		update(b);
+		return b;
+	}
+
+	/**
+	 * Cut the treap under n into the first k items and the rest.
+	 */
+	private Node[] split(Node n, int k) {
+		if (n == null) {
+			return new Node[] { null, null };
+		}
+		int leftSize = total(n.left);
+		if (k <= leftSize) {
+			Node[] parts = split(n.left, k);
+			n.left = parts[1];
+			update(n);
+			return new Node[] { parts[0], n };
+		}
+		if (k >= leftSize + n.count) {
+			Node[] parts = split(n.right, k - leftSize - n.count);
+			n.right = parts[0];
+			update(n);
+			return new Node[] { n, parts[1] };
+		}
+		// the cut is inside this node's items.
+		int at = k - leftSize;
+		Node tail = newNode();
+		tail.count = n.count - at;
+		System.arraycopy(n.items, at, tail.items, 0, tail.count);
+		for (int j = at; j < n.count; j++) {
+			n.items[j] = null;
+		}
+		n.count = at;
+		update(tail);
+		Node rest = n.right;
+		n.right = null;
+		update(n);
+		return new Node[] { n, merge(tail, rest) };
+	}
+
+	/**
+	 * Make a treap of items[from, to) with full nodes, joined one after the
+	 * other; each join only walks down the right edge.
+	 */
+	private Node build(Object[] items, int from, int to) {
+		Node built = null;
+		for (int start = from; start < to; start += LEAF_SIZE) {
+			Node leaf = newNode();
+			leaf.count = Math.min(leaf.items.length, to - start);
+			System.arraycopy(items, start, leaf.items, 0, leaf.count);
+			update(leaf);
+			built = merge(built, leaf);
+		}
+		return built;
+	}
+
+	/**
+	 * A tree node holding a small array of items.
+	 */
+	private static class Node {
+		final Object[] items;
+		int count;
+		final int priority;
+		Node left;
+		Node right;
+		/**
+		 * How many items are in this node and everything under it.
+		 */
+		int total;
+
+		Node(int priority) {
+			this.items = new Object[LEAF_SIZE];
+			this.count = 0;
+			this.priority = priority;
+		}
+
+		void insertLocal(int at, Object item) {
+			System.arraycopy(items, at, items, at + 1, count - at);
+			items[at] = item;
+			count++;
+		}
+
+		Object removeLocal(int at) {
+			Object found = items[at];
+			System.arraycopy(items, at + 1, items, at, count - at - 1);
+			count--;
+			items[count] = null;
+			return found;
+		}
+	}
+
+	/**
+	 * In-order walk with an explicit stack of the nodes still to visit.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Iter<T> implements Iterator<T> {
+		private final ArrayDeque<Node> stack = new ArrayDeque<>();
+		private Node current;
+		private int position;
+
+		Iter(Node root) {
+			pushLeft(root);
+			advance();
+		}
+
+		private void pushLeft(Node n) {
+			for (; n != null; n = n.left) {
+				stack.push(n);
+			}
+		}
+
+		private void advance() {
+			if (stack.isEmpty()) {
+				current = null;
+				return;
+			}
+			current = stack.pop();
+			position = 0;
+			pushLeft(current.right);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			T found = (T) current.items[position++];
+			if (position == current.count) {
+				advance();
+			}
+			return found;
+		}
+	}
+}
@@ -0,0 +1,900 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.ReadOnlyError;
+
+/**
+ * A {@linkplain ChunkyLinkedList} that can hand out snapshots (MVCC: multi-
+ * version concurrency control) so that long scans never race with a writer.
+ *
+ * Instead of a linked list of chunks we keep an array "directory" of chunks,
+ * and every chunk remembers the version in which it was made. A snapshot just
+ * keeps the current directory and size, and bumps the version. Afterwards a
+ * writer that wants to change a chunk (or the directory) that a live snapshot
+ * might still see copies it first; chunks made after the newest live snapshot
+ * are changed in place as usual. So:
+ * <ul>
+ * <li>snapshot readers never lock and never see a change,</li>
+ * <li>the writer pays one copy per shared chunk, not per write,</li>
+ * <li>old chunks become garbage as soon as no snapshot holds them, after
+ * {@link Snapshot#release()}.</li>
+ * </ul>
+ *
+ * Writes (and reads of the live list) lock this object; only one writer at a
+ * time makes sense.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class VersionedChunkyList<T> implements P6List<T> {
+	private final int chunkSize;
+	/**
+	 * Chunks in order; only the first chunkCount slots are used.
+	 */
+	private Chunk<T>[] directory;
+	private int chunkCount;
+	/**
+	 * The version the directory array was made in.
+	 */
+	private long directoryVersion;
+	private int size;
+	/**
+	 * Anything made now gets this version; every snapshot bumps it.
+	 */
+	private long version;
+	/**
+	 * Version to count, for every snapshot that has not been released.
+	 */
+	private final TreeMap<Long, Integer> liveSnapshots;
+	private long chunkCopies;
+
+	public VersionedChunkyList(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+		this.directory = newDirectory(4);
+		this.chunkCount = 0;
+		this.directoryVersion = 0;
+		this.size = 0;
+		this.version = 0;
+		this.liveSnapshots = new TreeMap<>();
+		this.chunkCopies = 0;
+	}
+
+	/**
+	 * Freeze the list as it is right now.
+	 * Complexity: O(log s) for s live snapshots; nothing is copied.
+	 *
+	 * @return a read-only view that keeps its contents until released.
+	 */
+	public synchronized Snapshot<T> snapshot() {
+		Snapshot<T> snap = new Snapshot<>(this, version, directory, chunkCount, size);
+		liveSnapshots.merge(version, 1, Integer::sum);
+		version++;
+		return snap;
+	}
+
+	/**
+	 * Called once by each snapshot when it is released.
+	 */
+	private synchronized void release(long snapshotVersion) {
+		Integer count = liveSnapshots.get(snapshotVersion);
+		if (count == 1) {
+			liveSnapshots.remove(snapshotVersion);
+		} else {
+			liveSnapshots.put(snapshotVersion, count - 1);
+		}
+	}
+
+	/**
+	 * Could a live snapshot see something made in this version?
+	 */
+	private boolean isShared(long madeIn) {
+		return liveSnapshots.ceilingKey(madeIn) != null;
+	}
+
+	/**
+	 * Copy the directory if a live snapshot holds it.
+	 */
+	private void makeDirectoryWritable() {
+		if (isShared(directoryVersion)) {
+			directory = Arrays.copyOf(directory, directory.length);
+			directoryVersion = version;
+		}
+	}
+
+	/**
+	 * Get chunk i, copying it first if a live snapshot holds it.
+	 */
+	private Chunk<T> writableChunk(int i) {
+		Chunk<T> chunk = directory[i];
+		if (isShared(chunk.version)) {
+			Chunk<T> copy = new Chunk<>(chunkSize, version);
+			for (int j = 0; j < chunk.items.size(); j++) {
+				copy.items.addBack(chunk.items.getIndex(j));
+			}
+			makeDirectoryWritable();
+			directory[i] = copy;
+			chunkCopies++;
+			return copy;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Put a new empty chunk into the directory at position i.
+	 */
+	private Chunk<T> insertChunk(int i) {
+		makeDirectoryWritable();
+		if (chunkCount == directory.length) {
+			directory = Arrays.copyOf(directory, directory.length * 2);
+			directoryVersion = version;
+		}
+		System.arraycopy(directory, i, directory, i + 1, chunkCount - i);
+		Chunk<T> chunk = new Chunk<>(chunkSize, version);
+		directory[i] = chunk;
+		chunkCount++;
+		return chunk;
+	}
+
+	/**
+	 * Take the (now empty) chunk at position i out of the directory.
+	 */
+	private void removeChunk(int i) {
+		makeDirectoryWritable();
+		System.arraycopy(directory, i + 1, directory, i, chunkCount - i - 1);
+		chunkCount--;
+		directory[chunkCount] = null;
+	}
+
+	/**
+	 * Keep only the first kept chunks of the (already writable) directory.
+	 */
+	private void truncateDirectory(int kept) {
+		Arrays.fill(directory, kept, chunkCount, null);
+		chunkCount = kept;
+	}
+
+	/**
+	 * Which chunk holds index? Returns the chunk position; offsetOut[0] gets the
+	 * start index of that chunk.
+	 */
+	private int findChunk(int index, int[] offsetOut) {
+		int start = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			int end = start + directory[i].items.size();
+			if (index < end) {
+				offsetOut[0] = start;
+				return i;
+			}
+			start = end;
+		}
+		throw new BadIndexError();
+	}
+
+	/**
+	 * Delete the item at the front of the list.
+	 * Complexity: O(chunkSize)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public synchronized T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * Delete the item at the back of the list.
+	 * Complexity: O(n/chunkSize)
+	 *
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public synchronized T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	/**
+	 * Delete the item at the specified index in the list.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 *
+	 * @param index a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public synchronized T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		int[] start = new int[1];
+		int i = findChunk(index, start);
+		Chunk<T> chunk = writableChunk(i);
+		T removed = chunk.items.removeIndex(index - start[0]);
+		if (chunk.items.isEmpty()) {
+			removeChunk(i);
+		}
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Add an item to the front of this list.
+	 * Complexity: O(chunkSize)
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public synchronized void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * Complexity: O(1), or O(chunkSize) the first time after a snapshot.
+	 *
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public synchronized void addBack(T item) {
+		Chunk<T> last;
+		if (chunkCount == 0 || directory[chunkCount - 1].items.size() == chunkSize) {
+			last = insertChunk(chunkCount);
+		} else {
+			last = writableChunk(chunkCount - 1);
+		}
+		last.items.addBack(item);
+		size++;
+	}
+
+	/**
+	 * Add an item to an index in this list. A full chunk is split in half.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 *
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public synchronized void addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == size) {
+			addBack(item);
+			return;
+		}
+		int[] start = new int[1];
+		int i = findChunk(index, start);
+		int offset = index - start[0];
+		Chunk<T> chunk = writableChunk(i);
+		if (chunk.items.size() == chunkSize) {
+			int half = chunkSize / 2;
+			Chunk<T> right = insertChunk(i + 1);
+			for (int j = half; j < chunkSize; j++) {
+				right.items.addBack(chunk.items.getIndex(j));
+			}
+			while (chunk.items.size() > half) {
+				chunk.items.removeBack();
+			}
+			if (offset > half) {
+				chunk = right;
+				offset -= half;
+			}
+		}
+		chunk.items.addIndex(item, offset);
+		size++;
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public synchronized T getFront() {
+		checkNotEmpty();
+		return directory[0].items.getFront();
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public synchronized T getBack() {
+		checkNotEmpty();
+		return directory[chunkCount - 1].items.getBack();
+	}
+
+	/**
+	 * Find the index-th element of this list.
+	 * Complexity: O(n/chunkSize)
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public synchronized T getIndex(int index) {
+		return find(directory, chunkCount, size, index);
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * Complexity: O(1)
+	 *
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * Complexity: O(1)
+	 *
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Find the first index of an item, in one pass over the chunks while
+	 * holding the lock.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the smallest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public synchronized int indexOf(T item) {
+		return indexOf(directory, chunkCount, item);
+	}
+
+	/**
+	 * Find the last index of an item, in one pass over the chunks while holding
+	 * the lock.
+	 * Complexity: O(n)
+	 *
+	 * @param item what to look for.
+	 * @return the largest index holding an equal item, or -1 if there is none.
+	 */
+	@Override
+	public synchronized int lastIndexOf(T item) {
+		return lastIndexOf(directory, chunkCount, size, item);
+	}
+
+	/**
+	 * Sort the live list, holding the lock throughout so no other writer sees
+	 * it half sorted. The items are copied out and sorted as one array, then
+	 * poured into new, full chunks under a new directory, all made in the
+	 * current version. Snapshots keep the old directory and chunks, so they
+	 * keep the old order, and nothing has to be copied chunk by chunk. This is
+	 * stable.
+	 * Complexity: O(n log n)
+	 *
+	 * @param order how to compare items, e.g. Comparator.naturalOrder().
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void sort(Comparator<? super T> order) {
+		T[] items = (T[]) toArray();
+		Arrays.sort(items, order);
+		int made = (size + chunkSize - 1) / chunkSize;
+		Chunk<T>[] sorted = newDirectory(Math.max(4, made));
+		for (int i = 0; i < size; i++) {
+			if (i % chunkSize == 0) {
+				sorted[i / chunkSize] = new Chunk<>(chunkSize, version);
+			}
+			sorted[i / chunkSize].items.addBack(items[i]);
+		}
+		directory = sorted;
+		directoryVersion = version;
+		chunkCount = made;
+	}
+
+	/**
+	 * Copy the items out in one pass over the chunks while holding the lock.
+	 * Complexity: O(n)
+	 *
+	 * @return a new array of size() items, in list order.
+	 */
+	@Override
+	public synchronized Object[] toArray() {
+		return toArray(directory, chunkCount, size);
+	}
+
+	/**
+	 * Add every item of source so the first lands at index, holding the lock
+	 * throughout. The items after index come out of their chunk (copying it
+	 * first if a snapshot holds it); then the new items and those are poured in,
+	 * topping up that chunk and then filling whole new chunks, which go into
+	 * the directory with one shift.
+	 * Complexity: O(n/chunkSize + chunkSize + k) for k new items.
+	 *
+	 * @param index  where the first new item goes, from 0 to size().
+	 * @param source the items to add; it may be this list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void addAll(int index, P6List<T> source) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] items = source.toArray();
+		if (items.length == 0) {
+			return;
+		}
+		int i;
+		Chunk<T> chunk;
+		Object[] rest;
+		if (index == size) {
+			// top up the last chunk, if there is one with room.
+			i = chunkCount - 1;
+			chunk = i < 0 || directory[i].items.size() == chunkSize ? null : writableChunk(i);
+			rest = new Object[0];
+		} else {
+			int[] start = new int[1];
+			i = findChunk(index, start);
+			chunk = writableChunk(i);
+			rest = new Object[chunk.items.size() - (index - start[0])];
+			for (int j = rest.length - 1; j >= 0; j--) {
+				rest[j] = chunk.items.removeBack();
+			}
+		}
+		int total = items.length + rest.length;
+		int room = chunk == null ? 0 : chunkSize - chunk.items.size();
+		int made = Math.max(0, (total - room + chunkSize - 1) / chunkSize);
+		Chunk<T>[] added = newDirectory(made);
+		for (int j = 0; j < made; j++) {
+			added[j] = new Chunk<>(chunkSize, version);
+		}
+		int next = 0;
+		for (Object[] from : new Object[][] { items, rest }) {
+			for (Object item : from) {
+				if (chunk == null || chunk.items.size() == chunkSize) {
+					chunk = added[next++];
+				}
+				chunk.items.addBack((T) item);
+			}
+		}
+		makeDirectoryWritable();
+		if (chunkCount + made > directory.length) {
+			directory = Arrays.copyOf(directory, Math.max(directory.length * 2, chunkCount + made));
+			directoryVersion = version;
+		}
+		System.arraycopy(directory, i + 1, directory, i + 1 + made, chunkCount - i - 1);
+		System.arraycopy(added, 0, directory, i + 1, made);
+		chunkCount += made;
+		size += items.length;
+	}
+
+	/**
+	 * Add every item of source to the back, holding the lock throughout.
+	 * Complexity: O(k) for k new items.
+	 *
+	 * @param source the items to add; it may be this list.
+	 */
+	@Override
+	public synchronized void addAllBack(P6List<T> source) {
+		addAll(size, source);
+	}
+
+	/**
+	 * Delete the items at indexes [from, to), holding the lock throughout.
+	 * Chunks wholly inside the range leave the directory without being
+	 * copied, even if a snapshot holds them; only the chunks at the two edges
+	 * are made writable and trimmed. The directory is compacted in the same
+	 * pass.
+	 * Complexity: O(n/chunkSize + chunkSize)
+	 *
+	 * @param from the first index to delete.
+	 * @param to   one past the last index to delete.
+	 * @throws BadIndexError unless 0 &lt;= from &lt;= to &lt;= size().
+	 */
+	@Override
+	public synchronized void removeRange(int from, int to) {
+		BulkRemoval.checkRange(from, to, size);
+		if (from == to) {
+			return;
+		}
+		makeDirectoryWritable();
+		int kept = 0;
+		int start = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			Chunk<T> chunk = directory[i];
+			int end = start + chunk.items.size();
+			if (end > from && start < to) {
+				if (from <= start && end <= to) {
+					start = end;
+					continue;
+				}
+				chunk = writableChunk(i);
+				chunk.items.removeRange(Math.max(from, start) - start, Math.min(to, end) - start);
+			}
+			directory[kept++] = chunk;
+			start = end;
+		}
+		truncateDirectory(kept);
+		size -= to - from;
+	}
+
+	/**
+	 * Delete every item that filter says yes to, holding the lock throughout.
+	 * Filter sees every item before anything changes, so if it throws, the
+	 * list is as it was; then the matches go in one {@linkplain #removeIndices}.
+	 * Complexity: O(n)
+	 *
+	 * @param filter which items to delete.
+	 * @return how many items were deleted.
+	 */
+	@Override
+	public synchronized int removeIf(Predicate<? super T> filter) {
+		int[] doomed = new int[size];
+		int count = 0;
+		int at = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			FixedSizeList<T> items = directory[i].items;
+			for (int j = 0; j < items.size(); j++, at++) {
+				if (filter.test(items.getIndex(j))) {
+					doomed[count++] = at;
+				}
+			}
+		}
+		if (count > 0) {
+			removeIndices(Arrays.copyOf(doomed, count));
+		}
+		return count;
+	}
+
+	/**
+	 * Delete the items at all of these indexes, holding the lock throughout.
+	 * Each chunk that loses items is made writable once and compacts itself;
+	 * chunks left empty leave the directory, which is compacted in the same
+	 * pass.
+	 * Complexity: O(n)
+	 *
+	 * @param sortedIndices strictly increasing indexes that exist.
+	 * @throws BadIndexError            if an index does not exist.
+	 * @throws IllegalArgumentException if the indexes are not strictly
+	 *                                  increasing.
+	 */
+	@Override
+	public synchronized void removeIndices(int[] sortedIndices) {
+		BulkRemoval.checkIndices(sortedIndices, size);
+		if (sortedIndices.length == 0) {
+			return;
+		}
+		makeDirectoryWritable();
+		int kept = 0;
+		int start = 0;
+		int j = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			Chunk<T> chunk = directory[i];
+			int end = start + chunk.items.size();
+			int first = j;
+			while (j < sortedIndices.length && sortedIndices[j] < end) {
+				j++;
+			}
+			if (j > first) {
+				int[] local = new int[j - first];
+				for (int k = 0; k < local.length; k++) {
+					local[k] = sortedIndices[first + k] - start;
+				}
+				chunk = writableChunk(i);
+				chunk.items.removeIndices(local);
+			}
+			if (!chunk.items.isEmpty()) {
+				directory[kept++] = chunk;
+			}
+			start = end;
+		}
+		truncateDirectory(kept);
+		size -= sortedIndices.length;
+	}
+
+	/**
+	 * @return how many snapshots have not been released yet.
+	 */
+	public synchronized int liveSnapshotCount() {
+		int total = 0;
+		for (int count : liveSnapshots.values()) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * @return how many chunks writers had to copy because a snapshot held them.
+	 */
+	public synchronized long getChunkCopies() {
+		return chunkCopies;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (size == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * The shared getIndex for the live list and for snapshots.
+	 */
+	private static <T> T find(Chunk<T>[] directory, int chunkCount, int size, int index) {
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		int start = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			FixedSizeList<T> chunk = directory[i].items;
+			int end = start + chunk.size();
+			if (index < end) {
+				return chunk.getIndex(index - start);
+			}
+			start = end;
+		}
+		throw new BadIndexError();
+	}
+
+	/**
+	 * The shared indexOf for the live list and for snapshots.
+	 */
+	private static <T> int indexOf(Chunk<T>[] directory, int chunkCount, T item) {
+		int start = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			FixedSizeList<T> chunk = directory[i].items;
+			int found = chunk.indexOf(item);
+			if (found >= 0) {
+				return start + found;
+			}
+			start += chunk.size();
+		}
+		return -1;
+	}
+
+	/**
+	 * The shared lastIndexOf: the directory is an array, so this can walk the
+	 * chunks from the back.
+	 */
+	private static <T> int lastIndexOf(Chunk<T>[] directory, int chunkCount, int size, T item) {
+		int end = size;
+		for (int i = chunkCount - 1; i >= 0; i--) {
+			FixedSizeList<T> chunk = directory[i].items;
+			end -= chunk.size();
+			int found = chunk.lastIndexOf(item);
+			if (found >= 0) {
+				return end + found;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * The shared toArray for the live list and for snapshots.
+	 */
+	private static <T> Object[] toArray(Chunk<T>[] directory, int chunkCount, int size) {
+		Object[] items = new Object[size];
+		int at = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			FixedSizeList<T> chunk = directory[i].items;
+			for (int j = 0; j < chunk.size(); j++) {
+				items[at++] = chunk.getIndex(j);
+			}
+		}
+		return items;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Chunk<T>[] newDirectory(int length) {
+		return (Chunk<T>[]) new Chunk<?>[length];
+	}
+
+	/**
+	 * One chunk of items and the version it was made in.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Chunk<T> {
+		final FixedSizeList<T> items;
+		final long version;
+
+		Chunk(int chunkSize, long version) {
+			this.items = new FixedSizeList<>(chunkSize);
+			this.version = version;
+		}
+	}
+
+	/**
+	 * A read-only view pinned to the list as it was when snapshot() was called.
+	 * Reads never lock. Call {@link #release()} (or use try-with-resources) when
+	 * done, so the writer can stop copying and old chunks can be collected.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	public static class Snapshot<T> implements P6List<T>, AutoCloseable {
+		private final VersionedChunkyList<T> owner;
+		private final long version;
+		private final Chunk<T>[] directory;
+		private final int chunkCount;
+		private final int size;
+		private volatile boolean released;
+
+		private Snapshot(VersionedChunkyList<T> owner, long version, Chunk<T>[] directory, int chunkCount,
+				int size) {
+			this.owner = owner;
+			this.version = version;
+			this.directory = directory;
+			this.chunkCount = chunkCount;
+			this.size = size;
+			this.released = false;
+		}
+
+		/**
+		 * Let go of this snapshot; it can't be read afterwards. Releasing twice
+		 * does nothing.
+		 */
+		public void release() {
+			boolean first;
+			synchronized (this) {
+				first = !released;
+				released = true;
+			}
+			if (first) {
+				owner.release(version);
+			}
+		}
+
+		@Override
+		public void close() {
+			release();
+		}
+
+		private void checkLive() {
+			if (released) {
+				throw new IllegalStateException("snapshot was released");
+			}
+		}
+
+		@Override
+		public T removeFront() {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public T removeBack() {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public T removeIndex(int index) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addFront(T item) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addBack(T item) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addIndex(T item, int index) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addAll(int index, P6List<T> source) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void addAllBack(P6List<T> source) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void removeRange(int from, int to) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public int removeIf(Predicate<? super T> filter) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public void removeIndices(int[] sortedIndices) {
+			throw new ReadOnlyError();
+		}
+
+		@Override
+		public T getFront() {
+			if (size == 0) {
+				throw new EmptyListError();
+			}
+			return getIndex(0);
+		}
+
+		@Override
+		public T getBack() {
+			if (size == 0) {
+				throw new EmptyListError();
+			}
+			return getIndex(size - 1);
+		}
+
+		/**
+		 * Complexity: O(n/chunkSize), without locking.
+		 */
+		@Override
+		public T getIndex(int index) {
+			checkLive();
+			return find(directory, chunkCount, size, index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * Complexity: O(n), without locking.
+		 */
+		@Override
+		public int indexOf(T item) {
+			checkLive();
+			return VersionedChunkyList.indexOf(directory, chunkCount, item);
+		}
+
+		/**
+		 * Complexity: O(n), without locking.
+		 */
+		@Override
+		public int lastIndexOf(T item) {
+			checkLive();
+			return VersionedChunkyList.lastIndexOf(directory, chunkCount, size, item);
+		}
+
+		/**
+		 * Complexity: O(n), without locking.
+		 */
+		@Override
+		public Object[] toArray() {
+			checkLive();
+			return VersionedChunkyList.toArray(directory, chunkCount, size);
+		}
+	}
+}
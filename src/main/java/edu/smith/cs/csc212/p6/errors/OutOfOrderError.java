@@ -0,0 +1,14 @@
+package edu.smith.cs.csc212.p6.errors;
+
+/**
+ * This is an error for {@link edu.smith.cs.csc212.p6.SortedList} and
+ * {@link edu.smith.cs.csc212.p6.SortedChunkyList}: an add at a position where
+ * the item would not be in sorted order.
+ *
+ */
+@SuppressWarnings("serial")
+public class OutOfOrderError extends RuntimeException {
+	public OutOfOrderError() {
+		super("OutOfOrderError");
+	}
+}
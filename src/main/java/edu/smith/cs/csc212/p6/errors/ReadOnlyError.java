@@ -0,0 +1,13 @@
+package edu.smith.cs.csc212.p6.errors;
+
+/**
+ * This class defines our own special error for when an add or remove operation
+ * is called on a read-only view of a list, such as a snapshot.
+ *
+ */
+@SuppressWarnings("serial")
+public class ReadOnlyError extends RuntimeException {
+	public ReadOnlyError() {
+		super("ReadOnlyError");
+	}
+}
@@ -0,0 +1,200 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class AdaptiveListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new AdaptiveList<String>().removeFront();
+	}
+
+	@Test
+	public void testStaysArrayForBackAndReads() {
+		AdaptiveList<Integer> data = new AdaptiveList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+			data.getIndex(i / 2);
+		}
+		Assert.assertEquals(AdaptiveList.Representation.ARRAY, data.getRepresentation());
+		Assert.assertEquals(0, data.getMigrationCount());
+	}
+
+	@Test
+	public void testQueueBecomesRing() {
+		AdaptiveList<Integer> data = new AdaptiveList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+			if (i % 2 == 1) {
+				data.removeFront();
+			}
+		}
+		Assert.assertEquals(AdaptiveList.Representation.RING, data.getRepresentation());
+		Assert.assertEquals(500, data.size());
+		Assert.assertEquals(Integer.valueOf(500), data.getFront());
+	}
+
+	@Test
+	public void testMiddleBecomesTieredAndBack() {
+		AdaptiveList<Integer> data = new AdaptiveList<>();
+		List<AdaptiveList.Representation> seen = new ArrayList<>();
+		data.setMigrationListener((from, to) -> seen.add(to));
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			data.addIndex(i, data.size() / 2);
+			expected.add(expected.size() / 2, i);
+		}
+		Assert.assertEquals(AdaptiveList.Representation.TIERED, data.getRepresentation());
+		for (int i = 0; i < 5000; i++) {
+			data.addBack(i);
+			data.removeBack();
+		}
+		Assert.assertEquals(AdaptiveList.Representation.ARRAY, data.getRepresentation());
+		Assert.assertEquals(2, data.getMigrationCount());
+		Assert.assertEquals(AdaptiveList.Representation.TIERED, seen.get(0));
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testAddAllToItselfAfterMigrating() {
+		AdaptiveList<Integer> data = new AdaptiveList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+			expected.add(i);
+			if (i % 2 == 1) {
+				data.removeFront();
+				expected.remove(0);
+			}
+		}
+		Assert.assertEquals(AdaptiveList.Representation.RING, data.getRepresentation());
+		// the list is copied out of the ring before it is added back to it.
+		data.addAll(3, data);
+		expected.addAll(3, new ArrayList<>(expected));
+		data.addAllBack(data);
+		expected.addAll(new ArrayList<>(expected));
+		data.addAll(0, ListChecks.listOf(-1, -2));
+		expected.addAll(0, Arrays.asList(-1, -2));
+		ListChecks.assertSameItems(expected, data);
+	}
+
+	/**
+	 * Drive a new list into the wanted representation with the edits that
+	 * pick it, filling expected to match. Values repeat every 100 items.
+	 */
+	private static AdaptiveList<Integer> migratedTo(AdaptiveList.Representation wanted, List<Integer> expected) {
+		AdaptiveList<Integer> data = new AdaptiveList<>();
+		for (int i = 0; i < 1000; i++) {
+			switch (wanted) {
+			case RING:
+				data.addBack(i % 100);
+				expected.add(i % 100);
+				if (i % 2 == 1) {
+					data.removeFront();
+					expected.remove(0);
+				}
+				break;
+			case TIERED:
+				data.addIndex(i % 100, data.size() / 2);
+				expected.add(expected.size() / 2, i % 100);
+				break;
+			default:
+				data.addBack(i % 100);
+				expected.add(i % 100);
+				break;
+			}
+		}
+		Assert.assertEquals(wanted, data.getRepresentation());
+		return data;
+	}
+
+	@Test
+	public void testSearchesForward() {
+		for (AdaptiveList.Representation kind : AdaptiveList.Representation.values()) {
+			List<Integer> expected = new ArrayList<>();
+			AdaptiveList<Integer> data = migratedTo(kind, expected);
+			for (int v = 0; v < 101; v++) {
+				Assert.assertEquals(expected.indexOf(v), data.indexOf(v));
+				Assert.assertEquals(expected.lastIndexOf(v), data.lastIndexOf(v));
+				Assert.assertEquals(expected.contains(v), data.contains(v));
+			}
+			Assert.assertArrayEquals(expected.toArray(), data.toArray());
+			// reads alone never switch.
+			Assert.assertEquals(kind, data.getRepresentation());
+		}
+	}
+
+	@Test
+	public void testSortForwards() {
+		for (AdaptiveList.Representation kind : AdaptiveList.Representation.values()) {
+			List<Integer> expected = new ArrayList<>();
+			AdaptiveList<Integer> data = migratedTo(kind, expected);
+			data.sort(Comparator.reverseOrder());
+			expected.sort(Comparator.reverseOrder());
+			ListChecks.assertSameItems(expected, data);
+			Assert.assertEquals(kind, data.getRepresentation());
+		}
+		ListChecks.checkStableSort(new AdaptiveList<>());
+	}
+
+	@Test
+	public void testBulkEditsForward() {
+		for (AdaptiveList.Representation kind : AdaptiveList.Representation.values()) {
+			List<Integer> expected = new ArrayList<>();
+			AdaptiveList<Integer> data = migratedTo(kind, expected);
+			data.addAll(data.size() / 3, data);
+			expected.addAll(expected.size() / 3, new ArrayList<>(expected));
+			data.addAllBack(data);
+			expected.addAll(new ArrayList<>(expected));
+			data.removeRange(10, 1010);
+			expected.subList(10, 1010).clear();
+			Assert.assertEquals(expected.size(), data.size());
+			int before = expected.size();
+			expected.removeIf(x -> x % 7 == 0);
+			Assert.assertEquals(before - expected.size(), data.removeIf(x -> x % 7 == 0));
+			int[] picks = { 0, 5, expected.size() - 1 };
+			data.removeIndices(picks);
+			expected.remove(picks[2]);
+			expected.remove(picks[1]);
+			expected.remove(picks[0]);
+			ListChecks.assertSameItems(expected, data);
+		}
+	}
+
+	@Test
+	public void testBulkRemovesCountAsMiddleEdits() {
+		AdaptiveList<Integer> data = new AdaptiveList<>();
+		for (int i = 0; i < 100; i++) {
+			data.addBack(i);
+		}
+		for (int i = 0; i < 200; i++) {
+			Assert.assertEquals(0, data.removeIf(x -> x < 0));
+		}
+		Assert.assertEquals(AdaptiveList.Representation.TIERED, data.getRepresentation());
+		data.removeIndices(new int[] { 0, 99 });
+		Assert.assertEquals(98, data.size());
+		Assert.assertEquals(Integer.valueOf(1), data.getFront());
+		Assert.assertEquals(Integer.valueOf(98), data.getBack());
+	}
+
+	@Test
+	public void testSharedChecks() {
+		ListChecks.checkIndexOf(new AdaptiveList<>());
+		ListChecks.checkAddAll(new AdaptiveList<>());
+		ListChecks.checkRemoveRange(new AdaptiveList<>());
+		ListChecks.checkRemoveIf(new AdaptiveList<>());
+		ListChecks.checkRemoveIndices(new AdaptiveList<>());
+		ListChecks.checkBulkRemovesCheckFirst(new AdaptiveList<>());
+		ListChecks.checkBulkEdits(new AdaptiveList<>());
+	}
+}
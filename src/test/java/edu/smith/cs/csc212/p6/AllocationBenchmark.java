@@ -0,0 +1,139 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import edu.smith.cs.csc212.p6.TracingList.Op;
+
+/**
+ * Not a unit test: run main() by hand (or from a CI script) to see how many
+ * bytes each operation of each P6List allocates. Garbage means GC pauses, so
+ * the operations we expect to be allocation-free are checked, and the exit code
+ * is 1 if any of them allocates.
+ *
+ * Output is CSV on stdout, one row per (list, operation):
+ *
+ * <pre>
+ * list,operation,size,reps,cold_bytes_per_op,bytes_per_op,allocation_free,result
+ * </pre>
+ *
+ * where result is "ok", "ALLOCATES" (expected allocation-free but wasn't), or
+ * "threw" (the list can't do that operation here, e.g. a known bug).
+ *
+ * Each operation runs REPS times on a list of SIZE items (SIZE + REPS for
+ * removes) at index SIZE / 2. cold_bytes_per_op is the very first round, before
+ * the JIT compiler has looked at it; bytes_per_op is the best round after
+ * warming up, and is what gets checked. The two differ when the JIT's escape
+ * analysis removes a short-lived object, like a for-each loop's iterator:
+ * that only happens once the code is hot, so the cold number is what you pay
+ * meanwhile (and always, with -XX:-DoEscapeAnalysis).
+ *
+ * Anything under one byte per operation counts as allocation-free: the
+ * smallest object is 16 bytes, so that can't be an allocation in every call.
+ */
+public class AllocationBenchmark {
+	static final int SIZE = 1000;
+	static final int REPS = 10000;
+	static final int WARMUP_ROUNDS = 5;
+	static final int MEASURED_ROUNDS = 3;
+
+	/**
+	 * For each list, the operations that must not allocate. Reads never should;
+	 * removes shouldn't for the arrays and plain linked lists. Adds on linked
+	 * lists make nodes and array growth is amortized garbage, so those are only
+	 * reported.
+	 */
+	static final Map<String, Set<Op>> ALLOCATION_FREE = new HashMap<>();
+	static {
+		Set<Op> reads = EnumSet.of(Op.GET_FRONT, Op.GET_BACK, Op.GET_INDEX, Op.SIZE, Op.IS_EMPTY);
+		Set<Op> readsAndRemoves = EnumSet.copyOf(reads);
+		readsAndRemoves.addAll(EnumSet.of(Op.REMOVE_FRONT, Op.REMOVE_BACK, Op.REMOVE_INDEX));
+
+		ALLOCATION_FREE.put("GrowableList", readsAndRemoves);
+		ALLOCATION_FREE.put("FixedSizeList", readsAndRemoves);
+		ALLOCATION_FREE.put("SinglyLinkedList", readsAndRemoves);
+		ALLOCATION_FREE.put("ArenaSinglyLinkedList", readsAndRemoves);
+		ALLOCATION_FREE.put("DoublyLinkedList", readsAndRemoves);
+		ALLOCATION_FREE.put("ArenaDoublyLinkedList", readsAndRemoves);
+		ALLOCATION_FREE.put("RingBufferList", readsAndRemoves);
+		ALLOCATION_FREE.put("GapBufferList", readsAndRemoves);
+		ALLOCATION_FREE.put("TieredVector", reads);
+		ALLOCATION_FREE.put("SkipList", reads);
+		ALLOCATION_FREE.put("TreapList", reads);
+		ALLOCATION_FREE.put("AdaptiveList", reads);
+		ALLOCATION_FREE.put("ChunkyLinkedList(32)", readsAndRemoves);
+	}
+
+	public static void main(String[] args) {
+		if (!AllocationMeter.isSupported()) {
+			System.err.println("This JVM can't count allocations per thread.");
+			System.exit(2);
+		}
+		AllocationMeter meter = new AllocationMeter();
+		List<TraceReplay.Candidate> lists = new ArrayList<>();
+		for (TraceReplay.Candidate c : TraceReplay.candidates(SIZE + REPS)) {
+			if (!c.name.startsWith("ChunkyLinkedList") || c.name.equals("ChunkyLinkedList(32)")) {
+				lists.add(c);
+			}
+		}
+
+		System.out.println("list,operation,size,reps,cold_bytes_per_op,bytes_per_op,allocation_free,result");
+		int failures = 0;
+		for (TraceReplay.Candidate candidate : lists) {
+			Set<Op> free = ALLOCATION_FREE.getOrDefault(candidate.name, EnumSet.noneOf(Op.class));
+			for (Op op : Op.values()) {
+				double[] bytes = measure(candidate, op, meter);
+				double bytesPerOp = bytes[1];
+				boolean expectFree = free.contains(op);
+				String result;
+				if (Double.isNaN(bytesPerOp)) {
+					result = "threw";
+				} else if (expectFree && bytesPerOp >= 1.0) {
+					result = "ALLOCATES";
+					failures++;
+				} else {
+					result = "ok";
+				}
+				System.out.printf("%s,%s,%d,%d,%.2f,%.2f,%b,%s%n", candidate.name, op, SIZE, REPS, bytes[0],
+						bytesPerOp, expectFree, result);
+			}
+		}
+		System.exit(failures == 0 ? 0 : 1);
+	}
+
+	/**
+	 * @return bytes per operation in the first round and the fewest in any
+	 *         measured round; both NaN if the operation threw.
+	 */
+	static double[] measure(TraceReplay.Candidate candidate, Op op, AllocationMeter meter) {
+		long cold = 0;
+		long best = Long.MAX_VALUE;
+		for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+			P6List<Object> list = candidate.factory.get();
+			boolean removes = op == Op.REMOVE_FRONT || op == Op.REMOVE_BACK || op == Op.REMOVE_INDEX;
+			int fill = removes ? SIZE + REPS : SIZE;
+			for (int i = 0; i < fill; i++) {
+				list.addBack(TraceReplay.VALUE);
+			}
+			long mark = meter.mark();
+			try {
+				for (int i = 0; i < REPS; i++) {
+					TraceReplay.apply(list, op, SIZE / 2);
+				}
+			} catch (RuntimeException e) {
+				return new double[] { Double.NaN, Double.NaN };
+			}
+			long bytes = meter.since(mark);
+			if (round == 0) {
+				cold = bytes;
+			} else if (round >= WARMUP_ROUNDS) {
+				best = Math.min(best, bytes);
+			}
+		}
+		return new double[] { (double) cold / REPS, (double) best / REPS };
+	}
+}
@@ -0,0 +1,31 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class AllocationMeterTest {
+
+	@Test
+	public void testCountsAnArray() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		AllocationMeter meter = new AllocationMeter();
+		long mark = meter.mark();
+		Object[] big = new Object[100000];
+		long bytes = meter.since(mark);
+		Assert.assertEquals(100000, big.length);
+		Assert.assertTrue(bytes >= 4 * 100000);
+	}
+
+	@Test
+	public void testNothingIsZero() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		AllocationMeter meter = new AllocationMeter();
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 100; i++) {
+			long mark = meter.mark();
+			best = Math.min(best, meter.since(mark));
+		}
+		Assert.assertEquals(0, best);
+	}
+}
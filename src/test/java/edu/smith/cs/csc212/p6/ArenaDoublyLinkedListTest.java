@@ -0,0 +1,218 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class ArenaDoublyLinkedListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new ArenaDoublyLinkedList<String>().removeBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexCrash() {
+		new ArenaDoublyLinkedList<String>().addIndex("a", 1);
+	}
+
+	@Test
+	public void testSlotsAreReused() {
+		ArenaDoublyLinkedList<Integer> data = new ArenaDoublyLinkedList<>(4);
+		for (int round = 0; round < 100; round++) {
+			data.addBack(round);
+			data.addFront(round);
+			data.removeBack();
+			data.removeFront();
+		}
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(4, data.capacity());
+	}
+
+	@Test
+	public void testRandomEditsAndCompact() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		ArenaDoublyLinkedList<Integer> data = new ArenaDoublyLinkedList<>();
+		for (int step = 0; step < 5000; step++) {
+			int op = rand.nextInt(7);
+			if (op == 0 || expected.isEmpty()) {
+				expected.add(0, step);
+				data.addFront(step);
+			} else if (op == 1) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				data.addIndex(step, at);
+			} else if (op == 2) {
+				expected.add(step);
+				data.addBack(step);
+			} else if (op == 3) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			} else if (op == 4) {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			} else if (op == 5) {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			} else {
+				data.compact();
+				Assert.assertEquals(Math.max(1, expected.size()), data.capacity());
+			}
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		int i = 0;
+		for (Integer x : data) {
+			Assert.assertEquals(expected.get(i++), x);
+		}
+		Assert.assertEquals(expected.size(), i);
+	}
+
+	@Test
+	public void testLessMemory() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		int n = 10000;
+		AllocationMeter meter = new AllocationMeter();
+		long mark = meter.mark();
+		DoublyLinkedList<Object> nodes = new DoublyLinkedList<>();
+		for (int i = 0; i < n; i++) {
+			nodes.addFront(meter);
+		}
+		long nodeBytes = meter.since(mark);
+
+		ArenaDoublyLinkedList<Object> arena = new ArenaDoublyLinkedList<>();
+		for (int i = 0; i < n; i++) {
+			arena.addFront(meter);
+		}
+		// compact() allocates exactly the arrays the list keeps.
+		mark = meter.mark();
+		arena.compact();
+		long arenaBytes = meter.since(mark);
+
+		Assert.assertEquals(n, nodes.size());
+		// 12 bytes per item against 24, plus the three array headers.
+		Assert.assertTrue(arenaBytes + " vs " + nodeBytes, arenaBytes * 5 <= nodeBytes * 3);
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new ArenaDoublyLinkedList<>());
+	}
+
+	@Test
+	public void testSortReusedSlots() {
+		// removes put slots on the free-list and the next adds reuse them, so
+		// list order and slot order differ; the sort has to follow the links.
+		ArenaDoublyLinkedList<Integer> data = new ArenaDoublyLinkedList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		for (int i = 0; i < 6; i++) {
+			data.removeIndex(2 * i);
+			expected.remove(2 * i);
+		}
+		for (int i = 0; i < 6; i++) {
+			data.addFront(50 - i);
+			expected.add(0, 50 - i);
+		}
+		data.sort(Comparator.reverseOrder());
+		expected.sort(Comparator.reverseOrder());
+		ListChecks.assertSameItems(expected, data);
+		// removing from the back follows the before links and end.
+		for (int i = expected.size() - 1; i >= 0; i--) {
+			Assert.assertEquals(expected.get(i), data.removeBack());
+		}
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new ArenaDoublyLinkedList<>());
+	}
+
+	@Test
+	public void testAddAllGrowsOnceAndLinksBothWays() {
+		ArenaDoublyLinkedList<Integer> data = new ArenaDoublyLinkedList<>(4);
+		data.addBack(0);
+		data.addBack(21);
+		P6List<Integer> batch = new GrowableList<>();
+		for (int i = 1; i <= 20; i++) {
+			batch.addBack(i);
+		}
+		data.addAll(1, batch);
+		Assert.assertEquals(22, data.capacity());
+		// removing from the back follows the before links of the new slots.
+		for (int i = 21; i >= 0; i--) {
+			Assert.assertEquals(i, (int) data.removeBack());
+		}
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new ArenaDoublyLinkedList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new ArenaDoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new ArenaDoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new ArenaDoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new ArenaDoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesReuseSlots() {
+		ArenaDoublyLinkedList<Integer> data = new ArenaDoublyLinkedList<>(16);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// a run at the back moves end.
+		data.removeRange(12, 16);
+		expected.subList(12, 16).clear();
+		Assert.assertEquals(11, (int) data.getBack());
+		Assert.assertEquals(4, data.removeIf(x -> x % 3 == 0));
+		expected.removeIf(x -> x % 3 == 0);
+		data.removeIndices(new int[] { 0, 7 });
+		expected.remove(7);
+		expected.remove(0);
+		ListChecks.assertSameItems(expected, data);
+		// all ten freed slots come back before the arrays grow.
+		for (int i = 0; i < 5; i++) {
+			data.addFront(-i);
+			expected.add(0, -i);
+			data.addIndex(100 + i, 3);
+			expected.add(3, 100 + i);
+		}
+		Assert.assertEquals(16, data.capacity());
+		ListChecks.assertSameItems(expected, data);
+		Assert.assertEquals(expected.get(15), data.getBack());
+		data.compact();
+		ListChecks.assertSameItems(expected, data);
+	}
+}
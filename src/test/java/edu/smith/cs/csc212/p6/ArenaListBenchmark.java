@@ -0,0 +1,103 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Not a unit test: run main() by hand to compare {@linkplain ArenaDoublyLinkedList}
+ * with the object-node {@linkplain DoublyLinkedList} (and a
+ * {@linkplain RingBufferList} as the plain-array best case).
+ *
+ * Each list is built by randomly adding to the front or the back, so the list
+ * order has nothing to do with the order the nodes were made in. Then we time:
+ * <ul>
+ * <li>scan: a for-each over the whole list, ns per item,</li>
+ * <li>scan again after {@linkplain ArenaDoublyLinkedList#compact()},</li>
+ * <li>ends: addBack + removeFront pairs (a queue), ns per pair,</li>
+ * <li>memory: bytes allocated to build the list, and bytes per item that the
+ * arena keeps after compacting (for the others, kept is just built again).</li>
+ * </ul>
+ */
+public class ArenaListBenchmark {
+	static final int N = 1000000;
+	static final int SCANS = 20;
+	static final int END_OPS = 2000000;
+
+	/**
+	 * Boxed once up front, so that building a list only allocates the list.
+	 */
+	static final Integer[] VALUES = new Integer[N];
+
+	public static void main(String[] args) {
+		for (int i = 0; i < N; i++) {
+			VALUES[i] = i;
+		}
+		AllocationMeter meter = AllocationMeter.isSupported() ? new AllocationMeter() : null;
+		for (int round = 0; round < 3; round++) {
+			System.out.println("round " + round);
+			report("ring", RingBufferList::new, meter);
+			report("doubly", DoublyLinkedList::new, meter);
+			report("arena", ArenaDoublyLinkedList::new, meter);
+		}
+	}
+
+	static void report(String name, Supplier<P6List<Integer>> factory, AllocationMeter meter) {
+		Random rand = new Random(N);
+		long mark = meter == null ? 0 : meter.mark();
+		P6List<Integer> list = factory.get();
+		for (int i = 0; i < N; i++) {
+			if (rand.nextBoolean()) {
+				list.addFront(VALUES[i]);
+			} else {
+				list.addBack(VALUES[i]);
+			}
+		}
+		long built = meter == null ? 0 : meter.since(mark);
+		long kept = built;
+
+		double scan = scan(list);
+		String after = "";
+		if (list instanceof ArenaDoublyLinkedList) {
+			mark = meter == null ? 0 : meter.mark();
+			((ArenaDoublyLinkedList<Integer>) list).compact();
+			kept = meter == null ? 0 : meter.since(mark);
+			after = String.format(" compacted %6.2f ns/item", scan(list));
+		}
+
+		Integer x = 7;
+		long start = System.nanoTime();
+		for (int i = 0; i < END_OPS; i++) {
+			list.addBack(x);
+			list.removeFront();
+		}
+		double ends = (double) (System.nanoTime() - start) / END_OPS;
+
+		System.out.printf("%-9s scan %6.2f ns/item%s  ends %6.2f ns/pair  built %6.1f B/item  kept %6.1f B/item%n",
+				name, scan, after, ends, (double) built / N, (double) kept / N);
+	}
+
+	/**
+	 * RingBufferList isn't Iterable, but its getIndex is O(1).
+	 */
+	@SuppressWarnings("unchecked")
+	static double scan(P6List<Integer> list) {
+		long sum = 0;
+		long start = System.nanoTime();
+		for (int s = 0; s < SCANS; s++) {
+			if (list instanceof Iterable) {
+				for (Integer x : (Iterable<Integer>) list) {
+					sum += x;
+				}
+			} else {
+				for (int i = 0; i < N; i++) {
+					sum += list.getIndex(i);
+				}
+			}
+		}
+		double nanos = (double) (System.nanoTime() - start) / SCANS / N;
+		if (sum == 42) {
+			System.out.println();
+		}
+		return nanos;
+	}
+}
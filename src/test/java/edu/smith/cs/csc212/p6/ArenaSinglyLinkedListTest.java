@@ -0,0 +1,219 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class ArenaSinglyLinkedListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new ArenaSinglyLinkedList<String>().removeBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexCrash() {
+		new ArenaSinglyLinkedList<String>().addIndex("a", 1);
+	}
+
+	@Test
+	public void testSlotsAreReused() {
+		ArenaSinglyLinkedList<Integer> data = new ArenaSinglyLinkedList<>(4);
+		for (int round = 0; round < 100; round++) {
+			data.addBack(round);
+			data.addFront(round);
+			data.removeBack();
+			data.removeFront();
+		}
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(4, data.capacity());
+	}
+
+	@Test
+	public void testRandomEditsAndCompact() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		ArenaSinglyLinkedList<Integer> data = new ArenaSinglyLinkedList<>();
+		for (int step = 0; step < 5000; step++) {
+			int op = rand.nextInt(7);
+			if (op == 0 || expected.isEmpty()) {
+				expected.add(0, step);
+				data.addFront(step);
+			} else if (op == 1) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				data.addIndex(step, at);
+			} else if (op == 2) {
+				expected.add(step);
+				data.addBack(step);
+			} else if (op == 3) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			} else if (op == 4) {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			} else if (op == 5) {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			} else {
+				data.compact();
+				Assert.assertEquals(Math.max(1, expected.size()), data.capacity());
+			}
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		int i = 0;
+		for (Integer x : data) {
+			Assert.assertEquals(expected.get(i++), x);
+		}
+		Assert.assertEquals(expected.size(), i);
+	}
+
+	@Test
+	public void testHalfTheMemory() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		int n = 10000;
+		AllocationMeter meter = new AllocationMeter();
+		long mark = meter.mark();
+		SinglyLinkedList<Object> nodes = new SinglyLinkedList<>();
+		for (int i = 0; i < n; i++) {
+			nodes.addFront(meter);
+		}
+		long nodeBytes = meter.since(mark);
+
+		ArenaSinglyLinkedList<Object> arena = new ArenaSinglyLinkedList<>();
+		for (int i = 0; i < n; i++) {
+			arena.addFront(meter);
+		}
+		// compact() allocates exactly the arrays the list keeps.
+		mark = meter.mark();
+		arena.compact();
+		long arenaBytes = meter.since(mark);
+
+		Assert.assertEquals(n, nodes.size());
+		Assert.assertTrue(arenaBytes + " vs " + nodeBytes, arenaBytes * 2 <= nodeBytes);
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new ArenaSinglyLinkedList<>());
+	}
+
+	@Test
+	public void testSortReusedSlots() {
+		// removes put slots on the free-list and the next adds reuse them, so
+		// list order and slot order differ; the sort has to follow the links.
+		ArenaSinglyLinkedList<Integer> data = new ArenaSinglyLinkedList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		for (int i = 0; i < 6; i++) {
+			data.removeIndex(2 * i);
+			expected.remove(2 * i);
+		}
+		for (int i = 0; i < 6; i++) {
+			data.addFront(50 - i);
+			expected.add(0, 50 - i);
+		}
+		data.sort(Comparator.reverseOrder());
+		expected.sort(Comparator.reverseOrder());
+		ListChecks.assertSameItems(expected, data);
+		data.compact();
+		ListChecks.assertSameItems(expected, data);
+		Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new ArenaSinglyLinkedList<>());
+	}
+
+	@Test
+	public void testAddAllGrowsOnceAndKeepsEnd() {
+		ArenaSinglyLinkedList<Integer> data = new ArenaSinglyLinkedList<>(4);
+		data.addBack(0);
+		P6List<Integer> batch = new GrowableList<>();
+		for (int i = 1; i <= 20; i++) {
+			batch.addBack(i);
+		}
+		data.addAllBack(batch);
+		// one resize to fit, not a doubling per slot.
+		Assert.assertEquals(21, data.capacity());
+		// the last new slot is the end, so addBack goes after it.
+		data.addBack(21);
+		Assert.assertEquals(21, (int) data.getBack());
+		data.addAll(0, ListChecks.listOf(-1));
+		for (int i = 0; i < 23; i++) {
+			Assert.assertEquals(i - 1, (int) data.getIndex(i));
+		}
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new ArenaSinglyLinkedList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new ArenaSinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new ArenaSinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new ArenaSinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new ArenaSinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesReuseSlots() {
+		ArenaSinglyLinkedList<Integer> data = new ArenaSinglyLinkedList<>(16);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// a run at the back moves end.
+		data.removeRange(12, 16);
+		expected.subList(12, 16).clear();
+		Assert.assertEquals(11, (int) data.getBack());
+		Assert.assertEquals(4, data.removeIf(x -> x % 3 == 0));
+		expected.removeIf(x -> x % 3 == 0);
+		data.removeIndices(new int[] { 0, 7 });
+		expected.remove(7);
+		expected.remove(0);
+		ListChecks.assertSameItems(expected, data);
+		// all ten freed slots come back before the arrays grow.
+		for (int i = 0; i < 5; i++) {
+			data.addFront(-i);
+			expected.add(0, -i);
+			data.addIndex(100 + i, 3);
+			expected.add(3, 100 + i);
+		}
+		Assert.assertEquals(16, data.capacity());
+		ListChecks.assertSameItems(expected, data);
+		Assert.assertEquals(expected.get(15), data.getBack());
+		data.compact();
+		ListChecks.assertSameItems(expected, data);
+	}
+}
@@ -0,0 +1,127 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class BlockingFixedSizeQueueTest {
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testZeroCapacity() {
+		new BlockingFixedSizeQueue<String>(0);
+	}
+
+	@Test
+	public void testFifoWrapAround() throws InterruptedException {
+		BlockingFixedSizeQueue<String> q = new BlockingFixedSizeQueue<>(3);
+		q.put("a");
+		q.put("b");
+		Assert.assertEquals("a", q.take());
+		q.put("c");
+		q.put("d");
+		Assert.assertEquals(3, q.size());
+		Assert.assertFalse(q.offer("e"));
+		Assert.assertEquals("b", q.take());
+		Assert.assertEquals("c", q.take());
+		Assert.assertEquals("d", q.take());
+		Assert.assertTrue(q.isEmpty());
+		Assert.assertNull(q.poll());
+		Assert.assertEquals(3, q.getMaxDepth());
+		Assert.assertEquals(4, q.getPutCount());
+		Assert.assertEquals(4, q.getTakeCount());
+	}
+
+	@Test
+	public void testTimeouts() throws InterruptedException {
+		BlockingFixedSizeQueue<String> q = new BlockingFixedSizeQueue<>(1);
+		Assert.assertNull(q.poll(10, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(q.offer("a", 10, TimeUnit.MILLISECONDS));
+		Assert.assertFalse(q.offer("b", 10, TimeUnit.MILLISECONDS));
+		Assert.assertTrue(q.getPutBlockedTime(TimeUnit.NANOSECONDS) > 0);
+		Assert.assertTrue(q.getTakeBlockedTime(TimeUnit.NANOSECONDS) > 0);
+	}
+
+	@Test
+	public void testDrainTo() throws InterruptedException {
+		BlockingFixedSizeQueue<String> q = new BlockingFixedSizeQueue<>(4);
+		q.put("a");
+		q.put("b");
+		q.put("c");
+		P6List<String> out = new DoublyLinkedList<>();
+		Assert.assertEquals(2, q.drainTo(out, 2));
+		Assert.assertEquals(2, out.size());
+		Assert.assertEquals("a", out.getFront());
+		Assert.assertEquals("b", out.getBack());
+		Assert.assertEquals(1, q.drainTo(out, 10));
+		Assert.assertEquals("c", out.getBack());
+		Assert.assertEquals(0, q.drainTo(out, 10));
+	}
+
+	@Test
+	public void testDrainToFullTarget() throws InterruptedException {
+		BlockingFixedSizeQueue<String> q = new BlockingFixedSizeQueue<>(4);
+		q.put("a");
+		q.put("b");
+		P6List<String> out = new FixedSizeList<>(1);
+		try {
+			q.drainTo(out, 2);
+			Assert.fail("expected RanOutOfSpaceError");
+		} catch (RanOutOfSpaceError expected) {
+			// "b" must not be lost.
+		}
+		Assert.assertEquals("a", out.getFront());
+		Assert.assertEquals(1, q.size());
+		Assert.assertEquals("b", q.take());
+	}
+
+	@Test
+	public void testProducerConsumer() throws InterruptedException {
+		final BlockingFixedSizeQueue<Integer> q = new BlockingFixedSizeQueue<>(2);
+		final int total = 1000;
+		Thread producer = new Thread(() -> {
+			try {
+				for (int i = 0; i < total; i++) {
+					q.put(i);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		producer.start();
+		for (int i = 0; i < total; i++) {
+			Assert.assertEquals(Integer.valueOf(i), q.take());
+		}
+		producer.join();
+		Assert.assertTrue(q.isEmpty());
+		Assert.assertTrue(q.getMaxDepth() <= 2);
+	}
+
+	@Test
+	public void testRejectsNull() throws InterruptedException {
+		BlockingFixedSizeQueue<String> q = new BlockingFixedSizeQueue<>(2);
+		try {
+			q.put(null);
+			Assert.fail("put(null) should throw");
+		} catch (NullPointerException npe) {
+			// good
+		}
+		try {
+			q.offer(null);
+			Assert.fail("offer(null) should throw");
+		} catch (NullPointerException npe) {
+			// good
+		}
+		try {
+			q.offer(null, 10, TimeUnit.MILLISECONDS);
+			Assert.fail("timed offer(null) should throw");
+		} catch (NullPointerException npe) {
+			// good
+		}
+		Assert.assertTrue(q.isEmpty());
+		Assert.assertEquals(0, q.getPutCount());
+		Assert.assertNull(q.poll());
+	}
+}
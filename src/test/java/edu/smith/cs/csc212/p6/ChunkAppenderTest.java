@@ -0,0 +1,83 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChunkAppenderTest {
+
+	@Test
+	public void testSingleThread() {
+		ChunkAppender<String> appender = new ChunkAppender<>(4);
+		for (int i = 0; i < 10; i++) {
+			appender.append("s" + i);
+		}
+		// two full chunks went out, the last two items are still buffered.
+		Assert.assertEquals(8, appender.size());
+		Assert.assertEquals(2, appender.pending());
+		appender.flush();
+		Assert.assertEquals(0, appender.pending());
+		ChunkyLinkedList<String> list = appender.getTarget();
+		Assert.assertEquals(10, list.size());
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals("s" + i, list.getIndex(i));
+		}
+		Assert.assertEquals("s0", list.removeFront());
+		Assert.assertEquals("s9", list.removeBack());
+	}
+
+	@Test
+	public void testFlushEmpty() {
+		ChunkAppender<String> appender = new ChunkAppender<>(4);
+		appender.flush();
+		Assert.assertEquals(0, appender.size());
+		Assert.assertTrue(appender.getTarget().isEmpty());
+	}
+
+	@Test
+	public void testChunkSizeComesFromTarget() {
+		ChunkAppender<Integer> appender = new ChunkAppender<>(new ChunkyLinkedList<>(64));
+		for (int i = 0; i < 64; i++) {
+			appender.append(i);
+		}
+		// one full chunk of the target's size went out.
+		Assert.assertEquals(0, appender.pending());
+		ChunkyLinkedList<Integer> list = appender.getTarget();
+		Assert.assertEquals(1, list.chunkCount());
+		list.addBack(64);
+		Assert.assertEquals(2, list.chunkCount());
+		Assert.assertEquals(64, (int) list.getBack());
+		Assert.assertEquals(65, list.size());
+	}
+
+	@Test
+	public void testPerThreadFifo() throws InterruptedException {
+		final ChunkAppender<int[]> appender = new ChunkAppender<>(16);
+		final int threads = 4;
+		final int perThread = 1000;
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final int id = t;
+			workers[t] = new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					appender.append(new int[] {id, i});
+				}
+				appender.flush();
+			});
+			workers[t].start();
+		}
+		for (Thread w : workers) {
+			w.join();
+		}
+		ChunkyLinkedList<int[]> list = appender.getTarget();
+		Assert.assertEquals(threads * perThread, list.size());
+		int[] next = new int[threads];
+		while (!list.isEmpty()) {
+			int[] item = list.removeFront();
+			Assert.assertEquals(next[item[0]], item[1]);
+			next[item[0]]++;
+		}
+		for (int t = 0; t < threads; t++) {
+			Assert.assertEquals(perThread, next[t]);
+		}
+	}
+}
@@ -1,15 +1,23 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Test;
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
-import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 
 
 
 
 import org.junit.Assert;
+import org.junit.Assume;
 
 public class ChunkyLinkedListTest {
 	
@@ -129,9 +137,31 @@ public class ChunkyLinkedListTest {
 //		makeFullList().addFront("no space");
 //	}
 	
-	@Test (expected=RanOutOfSpaceError.class)
+	@Test
 	public void testAddIndexFull() {
-		makeFullList().addIndex("no space",2 );
+		// the full chunk splits in two, and the item goes in only once.
+		ChunkyLinkedList<String> data = (ChunkyLinkedList<String>) makeFullList();
+		data.addIndex("split", 2);
+		data.addIndex("after", 4);
+		ListChecks.assertSameItems(Arrays.asList("a", "b", "split", "c", "after", "d"), data);
+		Assert.assertEquals(2, data.chunkCount());
+	}
+	
+	@Test (expected=BadIndexError.class)
+	public void testRemoveIndexAtSize() {
+		makeFullList().removeIndex(4);
+	}
+	
+	@Test
+	public void testRemoveIndexUnlinksEmptyChunk() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(2);
+		for (int i = 0; i < 6; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(3, (int) data.removeIndex(3));
+		Assert.assertEquals(2, (int) data.removeIndex(2));
+		Assert.assertEquals(2, data.chunkCount());
+		ListChecks.assertSameItems(Arrays.asList(0, 1, 4, 5), data);
 	}
 	
 	@Test
@@ -175,4 +205,317 @@ public class ChunkyLinkedListTest {
 		Assert.assertEquals(0, data.size());
 		
 	}
+	
+	@Test
+	public void testGetIndexAllocatesNothing() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<Integer>(num);
+		for (int i = 0; i < 100; i++) {
+			data.addBack(i);
+		}
+		AllocationMeter meter = new AllocationMeter();
+		Object last = null;
+		// once to load every class involved.
+		for (int i = 0; i < 100; i++) {
+			last = data.getIndex(i);
+		}
+		long mark = meter.mark();
+		for (int i = 0; i < 100; i++) {
+			last = data.getIndex(i);
+		}
+		Assert.assertEquals(0, meter.since(mark));
+		Assert.assertEquals(99, last);
+	}
+	
+	@Test
+	public void testAddAndRemoveIndexAllocateNothing() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<Integer>(num);
+		for (int i = 0; i < 100; i++) {
+			data.addBack(i);
+		}
+		AllocationMeter meter = new AllocationMeter();
+		// once to load every class involved, then measured; each round takes
+		// the first item out of every full chunk and puts it back, so no chunk
+		// has to split or be made.
+		long bytes = 0;
+		for (int round = 0; round < 2; round++) {
+			long mark = meter.mark();
+			for (int c = 0; c < 100 / num; c++) {
+				Assert.assertEquals(c * num, (int) data.removeIndex(c * (num - 1)));
+			}
+			for (int c = 0; c < 100 / num; c++) {
+				data.addIndex(c * num, c * num);
+			}
+			bytes = meter.since(mark);
+		}
+		Assert.assertEquals(0, bytes);
+		Assert.assertEquals(100 / num, data.chunkCount());
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testIndexOf() {
+		P6List<String> data = new ChunkyLinkedList<>(2);
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		data.addBack("c");
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertEquals(1, data.lastIndexOf("b"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(4, data.lastIndexOf("c"));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertEquals(-1, data.lastIndexOf("z"));
+		Assert.assertTrue(data.contains("c"));
+		Assert.assertFalse(data.contains("z"));
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new ChunkyLinkedList<>(8));
+	}
+
+	@Test
+	public void testSortPartlyFullChunks() {
+		// removes from both ends leave the outer chunks part full, so the merge
+		// has runs of different lengths and has to pack them into full chunks.
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			data.addFront(i * 7 % 30);
+			expected.add(0, i * 7 % 30);
+		}
+		for (int i = 0; i < 3; i++) {
+			data.removeFront();
+			expected.remove(0);
+			data.removeBack();
+			expected.remove(expected.size() - 1);
+		}
+		data.sort(Comparator.reverseOrder());
+		expected.sort(Comparator.reverseOrder());
+		ListChecks.assertSameItems(expected, data);
+		data.addFront(100);
+		data.addBack(-1);
+		Assert.assertEquals(100, (int) data.getFront());
+		Assert.assertEquals(-1, (int) data.getBack());
+		Assert.assertEquals(expected.size() + 2, data.size());
+	}
+	
+	@Test
+	public void testParallelSort() throws Exception {
+		// by length only, so equal lengths also check that the sort is stable.
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		ChunkyLinkedList<String> data = new ChunkyLinkedList<>(8);
+		data.parallelSort(byLength, 5);
+		Assert.assertTrue(data.isEmpty());
+		
+		List<String> expected = new ArrayList<>();
+		Random rand = new Random(48);
+		for (int i = 0; i < 3000; i++) {
+			String item = Integer.toString(rand.nextInt(100000));
+			data.addBack(item);
+			expected.add(item);
+		}
+		expected.sort(byLength);
+		// a small cutoff and a pool of our own, so there are plenty of tasks.
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			pool.submit(() -> data.parallelSort(byLength, 5)).get();
+		} finally {
+			pool.shutdown();
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		data.addBack("x");
+		Assert.assertEquals("x", data.getBack());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testParallelSortBadCutoff() {
+		ChunkyLinkedList<String> data = new ChunkyLinkedList<>(8);
+		data.addBack("a");
+		data.parallelSort(Comparator.naturalOrder(), 0);
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new ChunkyLinkedList<>(8));
+	}
+
+	@Test
+	public void testAddAllAfterEmptying() {
+		// emptying the list with removeFront or removeBack keeps its last chunk.
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(3);
+		data.addBack(1);
+		data.removeFront();
+		data.addAllBack(ListChecks.listOf(1, 2, 3, 4));
+		Assert.assertEquals(4, data.size());
+		while (!data.isEmpty()) {
+			data.removeBack();
+		}
+		data.addAll(0, ListChecks.listOf(5, 6));
+		ListChecks.assertSameItems(Arrays.asList(5, 6), data);
+	}
+
+	@Test
+	public void testAddAfterRemovingOnlyItem() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		data.addBack(1);
+		data.removeFront();
+		data.addBack(2);
+		Assert.assertEquals(2, (int) data.getFront());
+		data.removeBack();
+		data.addFront(3);
+		Assert.assertEquals(3, (int) data.getBack());
+		data.removeIndex(0);
+		data.addIndex(4, 0);
+		Assert.assertEquals(4, (int) data.getFront());
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals(1, data.chunkCount());
+	}
+
+	@Test
+	public void testAddAllAtChunkEdges() {
+		// with full chunks of 4, these indexes are the start of a chunk, the
+		// end of one, and the very end; each batch spills into new chunks.
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 11; i >= 0; i--) {
+			data.addFront(i);
+			expected.add(0, i);
+		}
+		int[] at = { 4, 8, 0, data.size() };
+		for (int round = 0; round < at.length; round++) {
+			List<Integer> items = new ArrayList<>();
+			for (int i = 0; i < 5 + round; i++) {
+				items.add(100 * (round + 1) + i);
+			}
+			data.addAll(Math.min(at[round], expected.size()), ListChecks.listOf(items.toArray(new Integer[0])));
+			expected.addAll(Math.min(at[round], expected.size()), items);
+			ListChecks.assertSameItems(expected, data);
+		}
+		data.addFront(-1);
+		data.addBack(-2);
+		Assert.assertEquals(-1, (int) data.getFront());
+		Assert.assertEquals(-2, (int) data.getBack());
+	}
+
+	@Test
+	public void testAddAllPastEndChangesNothing() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		data.addBack(1);
+		data.addBack(2);
+		try {
+			data.addAll(3, ListChecks.listOf(7, 8));
+			Assert.fail("index past the end");
+		} catch (BadIndexError expected) {
+			// good
+		}
+		ListChecks.assertSameItems(Arrays.asList(1, 2), data);
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new ChunkyLinkedList<>(8);
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new ChunkyLinkedList<>(8));
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new ChunkyLinkedList<>(8));
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new ChunkyLinkedList<>(8));
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new ChunkyLinkedList<>(8));
+	}
+	
+	@Test
+	public void testRemoveRangeDropsAndMergesChunks() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(8);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		Assert.assertEquals(8, data.chunkCount());
+		// the edges keep 7 items each, too many to merge.
+		data.removeRange(7, 9);
+		expected.subList(7, 9).clear();
+		Assert.assertEquals(8, data.chunkCount());
+		// six whole chunks go; what is left of the two edges fits in one.
+		data.removeRange(4, 58);
+		expected.subList(4, 58).clear();
+		Assert.assertEquals(1, data.chunkCount());
+		ListChecks.assertSameItems(expected, data);
+		data.addBack(64);
+		Assert.assertEquals(2, data.chunkCount());
+		Assert.assertEquals(64, (int) data.getBack());
+	}
+
+	@Test
+	public void testRemoveIfAndIndicesDropEmptyChunks() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		for (int i = 0; i < 16; i++) {
+			data.addBack(i);
+		}
+		// empties the first and third chunks.
+		Assert.assertEquals(8, data.removeIf(x -> x < 4 || (x >= 8 && x < 12)));
+		Assert.assertEquals(2, data.chunkCount());
+		data.removeIndices(new int[] { 0, 1, 2, 3 });
+		Assert.assertEquals(1, data.chunkCount());
+		ListChecks.assertSameItems(Arrays.asList(12, 13, 14, 15), data);
+		data.removeIndices(new int[] { 0, 1, 2, 3 });
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(1, data.chunkCount());
+		data.addFront(1);
+		Assert.assertEquals(1, (int) data.getBack());
+	}
+
+	@Test
+	public void testBackAfterRelinking() {
+		// every change to the chain of chunks has to keep the last one known.
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		for (int i = 9; i >= 0; i--) {
+			data.addBack(i);
+		}
+		data.sort(Comparator.naturalOrder());
+		Assert.assertEquals(9, (int) data.getBack());
+		data.addBack(10);
+		data.parallelSort(Comparator.reverseOrder());
+		Assert.assertEquals(0, (int) data.getBack());
+		data.addAllBack(ListChecks.listOf(-1, -2, -3, -4, -5));
+		Assert.assertEquals(-5, (int) data.getBack());
+		data.removeRange(12, 16);
+		Assert.assertEquals(-1, (int) data.getBack());
+		data.removeIf(x -> x < 0);
+		Assert.assertEquals(0, (int) data.getBack());
+		data.addIndex(99, data.size() - 1);
+		Assert.assertEquals(0, (int) data.removeBack());
+		Assert.assertEquals(99, (int) data.getBack());
+		while (data.size() > 1) {
+			data.removeBack();
+		}
+		Assert.assertEquals(10, (int) data.getBack());
+		Assert.assertEquals(1, data.chunkCount());
+	}
 }
@@ -0,0 +1,167 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.ReadOnlyError;
+
+public class CopyOnWriteGrowableListTest {
+
+	public CopyOnWriteGrowableList<String> makeFullList() {
+		CopyOnWriteGrowableList<String> data = new CopyOnWriteGrowableList<String>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new CopyOnWriteGrowableList<String>().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		makeFullList().getIndex(4);
+	}
+
+	@Test
+	public void testAddRemove() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		data.addFront("0");
+		data.addIndex("x", 2);
+		Assert.assertEquals(6, data.size());
+		Assert.assertEquals("0", data.getFront());
+		Assert.assertEquals("x", data.getIndex(2));
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("x", data.removeIndex(2));
+		Assert.assertEquals("0", data.removeFront());
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals(3, data.size());
+	}
+
+	@Test
+	public void testSnapshotIsStable() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		CopyOnWriteGrowableList.Snapshot<String> snap = data.snapshot();
+		Iterator<String> it = data.iterator();
+		data.removeFront();
+		data.addBack("e");
+		Assert.assertEquals(4, snap.size());
+		Assert.assertEquals("a", snap.getFront());
+		Assert.assertEquals("d", snap.getBack());
+		Assert.assertEquals("a", it.next());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("e", data.getBack());
+	}
+
+	@Test(expected=ReadOnlyError.class)
+	public void testSnapshotReadOnly() {
+		makeFullList().snapshot().addBack("e");
+	}
+
+	@Test
+	public void testBatch() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		data.batch(list -> {
+			list.removeFront();
+			for (int i = 0; i < 10; i++) {
+				list.addBack("n" + i);
+			}
+		});
+		Assert.assertEquals(13, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("n9", data.getBack());
+	}
+
+	@Test
+	public void testBatchFailurePublishesNothing() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		try {
+			data.batch(list -> {
+				list.removeFront();
+				list.getIndex(100);
+			});
+			Assert.fail("expected BadIndexError");
+		} catch (BadIndexError expected) {
+			// the half-done batch must be thrown away.
+		}
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+	}
+	
+	@Test
+	public void testBulkRemovesLeaveSnapshot() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		data.addBack("e");
+		data.addBack("f");
+		CopyOnWriteGrowableList.Snapshot<String> snap = data.snapshot();
+		data.removeRange(1, 3);
+		Assert.assertEquals(1, data.removeIf(s -> s.equals("e")));
+		Assert.assertEquals(0, data.removeIf(s -> s.equals("z")));
+		data.removeIndices(new int[] { 0, 2 });
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals("d", data.getFront());
+		Assert.assertEquals(6, snap.size());
+		Assert.assertEquals("b", snap.getIndex(1));
+		Assert.assertEquals("f", snap.getBack());
+	}
+
+	@Test(expected=ReadOnlyError.class)
+	public void testSnapshotRemoveIfReadOnly() {
+		makeFullList().snapshot().removeIf(s -> true);
+	}
+
+	@Test
+	public void testSortPublishesCopy() {
+		CopyOnWriteGrowableList<String> data = new CopyOnWriteGrowableList<>();
+		for (String s : new String[] {"d", "b", "a", "c"}) {
+			data.addBack(s);
+		}
+		CopyOnWriteGrowableList.Snapshot<String> snap = data.snapshot();
+		Iterator<String> it = data.iterator();
+		data.sort(Comparator.naturalOrder());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		// readers from before the sort keep the old order.
+		Assert.assertEquals("d", snap.getFront());
+		Assert.assertEquals("c", snap.getBack());
+		Assert.assertEquals("d", it.next());
+		Assert.assertEquals("b", it.next());
+	}
+
+	@Test(expected=ReadOnlyError.class)
+	public void testSnapshotSortReadOnly() {
+		makeFullList().snapshot().sort(Comparator.naturalOrder());
+	}
+
+	@Test
+	public void testAddAllPublishesOneArray() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		CopyOnWriteGrowableList.Snapshot<String> snap = data.snapshot();
+		long before = data.getPublishCount();
+		data.addAll(1, ListChecks.listOf("x", "y", "z"));
+		Assert.assertEquals(before + 1, data.getPublishCount());
+		data.addAllBack(ListChecks.listOf("p", "q"));
+		Assert.assertEquals(before + 2, data.getPublishCount());
+		// adding the list to itself reads the old array, then publishes once.
+		data.addAll(0, data);
+		Assert.assertEquals(before + 3, data.getPublishCount());
+		data.addAllBack(data);
+		Assert.assertEquals(before + 4, data.getPublishCount());
+
+		String[] once = { "a", "x", "y", "z", "b", "c", "d", "p", "q" };
+		Assert.assertEquals(36, data.size());
+		for (int i = 0; i < data.size(); i++) {
+			Assert.assertEquals(once[i % 9], data.getIndex(i));
+		}
+		Assert.assertEquals(4, snap.size());
+		Assert.assertEquals("b", snap.getIndex(1));
+	}
+}
@@ -1,11 +1,17 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import org.junit.Test;
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 
 import org.junit.Assert;
+import org.junit.Assume;
 
 public class DoublyLinkedListTest {
 	@Test
@@ -192,4 +198,190 @@ public class DoublyLinkedListTest {
 		Assert.assertEquals(0, data.size());
 		
 	}
+	
+	@Test
+	public void testIterator() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>();
+		data.addBack("b");
+		data.addBack("c");
+		data.addFront("a");
+		StringBuilder seen = new StringBuilder();
+		for (String x : data) {
+			seen.append(x);
+		}
+		Assert.assertEquals("abc", seen.toString());
+	}
+	
+	@Test
+	public void testPoolRecycles() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<>(4);
+		for (int i = 0; i < 10; i++) {
+			data.addBack("x" + i);
+		}
+		Assert.assertEquals(0, data.getPoolHits());
+		Assert.assertEquals(10, data.getPoolMisses());
+		Assert.assertEquals("x0", data.removeFront());
+		Assert.assertEquals("x9", data.removeBack());
+		Assert.assertEquals("x5", data.removeIndex(4));
+		for (int i = 0; i < 7; i++) {
+			data.removeFront();
+		}
+		// only 4 of the 10 removed nodes fit.
+		Assert.assertEquals(4, data.getPoolSize());
+		for (int i = 0; i < 6; i++) {
+			data.addFront("y" + i);
+		}
+		Assert.assertEquals(0, data.getPoolSize());
+		Assert.assertEquals(4, data.getPoolHits());
+		Assert.assertEquals(12, data.getPoolMisses());
+		Assert.assertEquals(0.25, data.getPoolHitRate(), 1e-9);
+		Assert.assertEquals(6, data.size());
+		Assert.assertEquals("y5", data.getFront());
+		Assert.assertEquals("y0", data.getBack());
+	}
+	
+	@Test
+	public void testPooledQueueAllocatesNothing() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		DoublyLinkedList<String> data = new DoublyLinkedList<>(8);
+		for (int i = 0; i < 100; i++) {
+			data.addBack("x");
+			data.addBack("x");
+			data.removeFront();
+		}
+		for (int i = 0; i < 100; i++) {
+			data.removeFront();
+		}
+		AllocationMeter meter = new AllocationMeter();
+		long mark = meter.mark();
+		for (int i = 0; i < 100; i++) {
+			data.addBack("x");
+			data.removeFront();
+		}
+		Assert.assertEquals(0, meter.since(mark));
+	}
+	
+	@Test
+	public void testIndexOf() {
+		P6List<String> data = new DoublyLinkedList<>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		data.addBack("c");
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertEquals(1, data.lastIndexOf("b"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(4, data.lastIndexOf("c"));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertEquals(-1, data.lastIndexOf("z"));
+		Assert.assertTrue(data.contains("c"));
+		Assert.assertFalse(data.contains("z"));
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new DoublyLinkedList<>());
+	}
+
+	@Test
+	public void testSortFixesBeforeLinks() {
+		// the merge only relinks after; removing from the back walks the before
+		// links and end, so they have to be right too.
+		for (int n = 1; n <= 17; n++) {
+			DoublyLinkedList<Integer> data = new DoublyLinkedList<>();
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 0; i < n; i++) {
+				data.addBack(i * 13 % 7);
+				expected.add(i * 13 % 7);
+			}
+			data.sort(Comparator.naturalOrder());
+			expected.sort(Comparator.naturalOrder());
+			for (int i = n - 1; i >= 0; i--) {
+				Assert.assertEquals(expected.get(i), data.getBack());
+				Assert.assertEquals(expected.get(i), data.removeBack());
+			}
+			Assert.assertTrue(data.isEmpty());
+		}
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new DoublyLinkedList<>());
+	}
+
+	@Test
+	public void testAddAllBackAfterEmptying() {
+		// removeFront of the last item leaves end pointing at the old node, so
+		// addAllBack has to go by start, not end.
+		DoublyLinkedList<Integer> data = new DoublyLinkedList<>();
+		data.addBack(9);
+		data.removeFront();
+		data.addAllBack(ListChecks.listOf(1, 2, 3));
+		data.addAll(0, ListChecks.listOf(0));
+		Assert.assertEquals(4, data.size());
+		// the before links and end go back to front.
+		for (int i = 3; i >= 0; i--) {
+			Assert.assertEquals(i, (int) data.removeBack());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new DoublyLinkedList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new DoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new DoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new DoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new DoublyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesKeepBackLinks() {
+		DoublyLinkedList<Integer> data = new DoublyLinkedList<>(50);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// a run at the back moves end, one at the front moves start.
+		data.removeRange(15, 20);
+		expected.subList(15, 20).clear();
+		Assert.assertEquals(14, (int) data.getBack());
+		data.removeRange(0, 3);
+		expected.subList(0, 3).clear();
+		data.removeIf(x -> x == 3 || x == 14 || x % 5 == 0);
+		expected.removeIf(x -> x == 3 || x == 14 || x % 5 == 0);
+		data.removeIndices(new int[] { 0, expected.size() - 1 });
+		expected.remove(expected.size() - 1);
+		expected.remove(0);
+		ListChecks.assertSameItems(expected, data);
+		Assert.assertEquals(20 - expected.size(), data.getPoolSize());
+
+		// removeBack follows the before links, so this checks they were fixed.
+		for (int i = expected.size() - 1; i >= 0; i--) {
+			Assert.assertEquals(expected.get(i), data.removeBack());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
 }
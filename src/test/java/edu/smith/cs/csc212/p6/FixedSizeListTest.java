@@ -1,8 +1,12 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import org.junit.Test;
 
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
@@ -147,4 +151,138 @@ public class FixedSizeListTest {
 		Assert.assertEquals("a", data.removeIndex(0));
 		Assert.assertEquals(0, data.size());
 	}
+	
+	@Test
+	public void testIndexOf() {
+		P6List<String> data = new FixedSizeList<>(8);
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		data.addBack("c");
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertEquals(1, data.lastIndexOf("b"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(4, data.lastIndexOf("c"));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertEquals(-1, data.lastIndexOf("z"));
+		Assert.assertTrue(data.contains("c"));
+		Assert.assertFalse(data.contains("z"));
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new FixedSizeList<>(200));
+	}
+
+	@Test
+	public void testSortOnlyLiveSlots() {
+		// most of the array is empty (null); naturalOrder would throw on those.
+		FixedSizeList<Integer> data = new FixedSizeList<>(50);
+		for (int i = 9; i >= 0; i--) {
+			data.addBack(i);
+		}
+		data.removeBack();
+		data.sort(Comparator.naturalOrder());
+		Assert.assertEquals(9, data.size());
+		for (int i = 0; i < 9; i++) {
+			Assert.assertEquals(i + 1, (int) data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new FixedSizeList<>(10000));
+	}
+
+	@Test
+	public void testAddAllExactlyFull() {
+		FixedSizeList<Integer> data = new FixedSizeList<>(5);
+		data.addBack(0);
+		data.addBack(4);
+		data.addAll(1, ListChecks.listOf(1, 2, 3));
+		Assert.assertEquals(5, data.size());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+		data.addAll(2, ListChecks.listOf());
+		Assert.assertEquals(5, data.size());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new FixedSizeList<>(10000);
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testAddAllTooBig() {
+		P6List<String> data = new FixedSizeList<>(4);
+		data.addBack("a");
+		data.addBack("b");
+		P6List<String> more = new GrowableList<>();
+		more.addBack("x");
+		more.addBack("y");
+		more.addBack("z");
+		try {
+			data.addAll(1, more);
+			Assert.fail("three more don't fit in four");
+		} catch (RanOutOfSpaceError expected) {
+			// nothing was added.
+			Assert.assertEquals(2, data.size());
+			Assert.assertEquals("b", data.getIndex(1));
+		}
+		more.removeBack();
+		data.addAll(1, more);
+		Assert.assertEquals("a", data.getIndex(0));
+		Assert.assertEquals("x", data.getIndex(1));
+		Assert.assertEquals("y", data.getIndex(2));
+		Assert.assertEquals("b", data.getIndex(3));
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new FixedSizeList<>(10000));
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new FixedSizeList<>(10000));
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new FixedSizeList<>(10000));
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new FixedSizeList<>(3));
+	}
+	
+	@Test
+	public void testRemovesMakeRoom() {
+		P6List<Integer> data = new FixedSizeList<>(10);
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		data.removeRange(2, 5);
+		Assert.assertEquals(2, data.removeIf(x -> x == 0 || x == 9));
+		data.removeIndices(new int[] { 0, 4 });
+		ListChecks.assertSameItems(Arrays.asList(5, 6, 7), data);
+		for (int i = 0; i < 7; i++) {
+			data.addFront(-i);
+		}
+		Assert.assertEquals(10, data.size());
+		Assert.assertEquals(7, (int) data.getBack());
+		try {
+			data.addBack(11);
+			Assert.fail("the list is full again");
+		} catch (RanOutOfSpaceError expected) {
+			// good
+		}
+	}
 }
@@ -0,0 +1,184 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class GapBufferListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new GapBufferList<String>().removeBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexCrash() {
+		new GapBufferList<String>().addIndex("a", 1);
+	}
+
+	@Test
+	public void testTyping() {
+		GapBufferList<Character> text = new GapBufferList<>();
+		for (char c : "helo world".toCharArray()) {
+			text.addBack(c);
+		}
+		text.addIndex('l', 3);
+		Assert.assertEquals(4, text.gapPosition());
+		// backspace right behind the gap, then type again.
+		Assert.assertEquals(Character.valueOf('l'), text.removeIndex(3));
+		text.addIndex('L', 3);
+		StringBuilder out = new StringBuilder();
+		for (int i = 0; i < text.size(); i++) {
+			out.append(text.getIndex(i));
+		}
+		Assert.assertEquals("helLo world", out.toString());
+		Assert.assertEquals(Character.valueOf('h'), text.getFront());
+		Assert.assertEquals(Character.valueOf('d'), text.getBack());
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		GapBufferList<Integer> data = new GapBufferList<>();
+		int cursor = 0;
+		for (int step = 0; step < 20000; step++) {
+			// mostly small moves, sometimes a jump.
+			cursor += rand.nextInt(7) - 3;
+			if (rand.nextInt(50) == 0) {
+				cursor = rand.nextInt(expected.size() + 1);
+			}
+			cursor = Math.max(0, Math.min(cursor, expected.size()));
+			if (rand.nextInt(10) < 6 || expected.isEmpty()) {
+				expected.add(cursor, step);
+				data.addIndex(step, cursor);
+			} else {
+				int at = Math.min(cursor, expected.size() - 1);
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		while (!expected.isEmpty()) {
+			Assert.assertEquals(expected.remove(0), data.removeFront());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new GapBufferList<>());
+	}
+
+	@Test
+	public void testSortWithGapInTheMiddle() {
+		GapBufferList<Integer> data = new GapBufferList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			// every add in the middle leaves the gap there.
+			int at = expected.size() / 2;
+			data.addIndex(i * 11 % 30, at);
+			expected.add(at, i * 11 % 30);
+		}
+		data.sort(Comparator.naturalOrder());
+		expected.sort(Comparator.naturalOrder());
+		ListChecks.assertSameItems(expected, data);
+		data.addIndex(-5, 10);
+		Assert.assertEquals(-5, (int) data.getIndex(10));
+		Assert.assertEquals(9, (int) data.getIndex(9));
+		Assert.assertEquals(10, (int) data.getIndex(11));
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new GapBufferList<>());
+	}
+
+	@Test
+	public void testAddAllBiggerThanGap() {
+		GapBufferList<Integer> data = new GapBufferList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// move the gap to the front first, then add more than it holds elsewhere.
+		data.addIndex(-1, 0);
+		expected.add(0, -1);
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			items.add(100 + i);
+		}
+		data.addAll(4, ListChecks.listOf(items.toArray(new Integer[0])));
+		expected.addAll(4, items);
+		ListChecks.assertSameItems(expected, data);
+		data.addIndex(-2, 5);
+		expected.add(5, -2);
+		ListChecks.assertSameItems(expected, data);
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new GapBufferList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new GapBufferList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new GapBufferList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new GapBufferList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new GapBufferList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesMoveTheGap() {
+		GapBufferList<Integer> data = new GapBufferList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// the range becomes part of the gap, right where it was.
+		data.removeRange(5, 10);
+		expected.subList(5, 10).clear();
+		Assert.assertEquals(5, data.gapPosition());
+		data.addIndex(99, 5);
+		expected.add(5, 99);
+		ListChecks.assertSameItems(expected, data);
+		// the others compact everything in front of the gap, so it ends up last.
+		data.removeIf(x -> x % 2 == 0);
+		expected.removeIf(x -> x % 2 == 0);
+		Assert.assertEquals(data.size(), data.gapPosition());
+		data.removeIndices(new int[] { 0, 2 });
+		expected.remove(2);
+		expected.remove(0);
+		Assert.assertEquals(data.size(), data.gapPosition());
+		ListChecks.assertSameItems(expected, data);
+		data.addFront(-1);
+		Assert.assertEquals(-1, (int) data.getFront());
+		Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+	}
+}
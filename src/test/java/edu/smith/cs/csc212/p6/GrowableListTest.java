@@ -1,8 +1,16 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import org.junit.Test;
 
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 
@@ -138,4 +146,174 @@ public class GrowableListTest {
 		Assert.assertEquals("a", data.removeIndex(0));
 		Assert.assertEquals(0, data.size());
 	}
+	
+	@Test
+	public void testGrowPastStartSize() {
+		P6List<Integer> data = new GrowableList<Integer>();
+		for (int i=0; i<100; i++) {
+			data.addBack(i);
+		}
+		data.addFront(-1);
+		data.addIndex(50, 50);
+		Assert.assertEquals(102, data.size());
+		Assert.assertEquals(Integer.valueOf(-1), data.getFront());
+		Assert.assertEquals(Integer.valueOf(50), data.getIndex(50));
+		Assert.assertEquals(Integer.valueOf(99), data.getBack());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+	
+	@Test
+	public void testIndexOf() {
+		P6List<String> data = new GrowableList<>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		data.addBack("c");
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertEquals(1, data.lastIndexOf("b"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(4, data.lastIndexOf("c"));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertEquals(-1, data.lastIndexOf("z"));
+		Assert.assertTrue(data.contains("c"));
+		Assert.assertFalse(data.contains("z"));
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new GrowableList<>());
+	}
+
+	@Test
+	public void testSortOnlyLiveSlots() {
+		// the array is bigger than the list, and the empty slots hold null;
+		// naturalOrder would throw if the sort looked at them.
+		GrowableList<Integer> data = new GrowableList<>();
+		for (int i = 0; i < 12; i++) {
+			data.addFront(i);
+		}
+		for (int i = 0; i < 5; i++) {
+			data.removeFront();
+		}
+		data.sort(Comparator.naturalOrder());
+		for (int i = 0; i < 7; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testParallelSort() throws Exception {
+		// by length only, so equal lengths also check that the sort is stable.
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		GrowableList<String> data = new GrowableList<>();
+		data.parallelSort(byLength, 5);
+		Assert.assertTrue(data.isEmpty());
+		
+		List<String> expected = new ArrayList<>();
+		Random rand = new Random(48);
+		for (int i = 0; i < 3000; i++) {
+			String item = Integer.toString(rand.nextInt(100000));
+			data.addBack(item);
+			expected.add(item);
+		}
+		expected.sort(byLength);
+		// a small cutoff and a pool of our own, so there are plenty of tasks.
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			pool.submit(() -> data.parallelSort(byLength, 5)).get();
+		} finally {
+			pool.shutdown();
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		data.addBack("x");
+		Assert.assertEquals("x", data.getBack());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testParallelSortBadCutoff() {
+		GrowableList<String> data = new GrowableList<>();
+		data.addBack("a");
+		data.parallelSort(Comparator.naturalOrder(), 0);
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new GrowableList<>());
+	}
+
+	@Test
+	public void testAddAllPastCapacity() {
+		// one batch bigger than the array and the doubling: it must grow to fit.
+		GrowableList<Integer> data = new GrowableList<>();
+		data.addBack(0);
+		data.addBack(41);
+		P6List<Integer> batch = new GrowableList<>();
+		for (int i = 1; i <= 40; i++) {
+			batch.addBack(i);
+		}
+		data.addAll(1, batch);
+		Assert.assertEquals(42, data.size());
+		for (int i = 0; i < 42; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new GrowableList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new GrowableList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new GrowableList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new GrowableList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new GrowableList<>());
+	}
+	
+	@Test
+	public void testRemovesLeaveNoStaleItems() {
+		P6List<Integer> data = new GrowableList<>();
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		data.removeRange(0, 5);
+		Assert.assertEquals(1, data.removeIf(x -> x == 9));
+		data.removeIndices(new int[] { 0 });
+		ListChecks.assertSameItems(Arrays.asList(6, 7, 8), data);
+		// the slots the items moved out of are past the end now, and stay hidden.
+		Assert.assertEquals(-1, data.lastIndexOf(9));
+		Assert.assertEquals(-1, data.indexOf(0));
+		for (int i = 10; i < 20; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(13, data.size());
+		Assert.assertEquals(10, (int) data.getIndex(3));
+		Assert.assertEquals(19, (int) data.getBack());
+	}
 }
@@ -0,0 +1,204 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class HashIndexedGrowableListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new HashIndexedGrowableList<String>().removeBack();
+	}
+
+	@Test
+	public void testIndexOf() {
+		HashIndexedGrowableList<String> data = new HashIndexedGrowableList<>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertTrue(data.contains("b"));
+		Assert.assertFalse(data.contains("z"));
+	}
+
+	@Test
+	public void testIndexIsLazy() {
+		HashIndexedGrowableList<Integer> data = new HashIndexedGrowableList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		Assert.assertFalse(data.isIndexed());
+		Assert.assertEquals(500, data.indexOf(500));
+		Assert.assertTrue(data.isIndexed());
+		Assert.assertEquals(1, data.getRebuildCount());
+
+		// back edits keep the index.
+		data.addBack(7);
+		Assert.assertEquals(1000, data.lastIndexOf(7));
+		Assert.assertEquals(Integer.valueOf(7), data.removeBack());
+		Assert.assertEquals(7, data.lastIndexOf(7));
+		data.removeIndex(data.size() - 1);
+		Assert.assertFalse(data.contains(999));
+		Assert.assertEquals(1, data.getRebuildCount());
+
+		// a front edit moves every position, and the index moves them too.
+		data.addFront(-1);
+		Assert.assertTrue(data.isIndexed());
+		Assert.assertEquals(501, data.indexOf(500));
+		Assert.assertEquals(0, data.indexOf(-1));
+		Assert.assertEquals(-1, (int) data.removeFront());
+		Assert.assertEquals(500, data.indexOf(500));
+		Assert.assertEquals(1, data.getRebuildCount());
+	}
+
+	@Test
+	public void testMatchesScan() {
+		HashIndexedGrowableList<Integer> data = new HashIndexedGrowableList<>();
+		GrowableList<Integer> expected = new GrowableList<>();
+		Random rand = new Random(212);
+		for (int i = 0; i < 5000; i++) {
+			int roll = rand.nextInt(10);
+			Integer value = rand.nextInt(20);
+			if (roll < 4) {
+				data.addBack(value);
+				expected.addBack(value);
+			} else if (roll < 5) {
+				int at = rand.nextInt(expected.size() + 1);
+				data.addIndex(value, at);
+				expected.addIndex(value, at);
+			} else if (roll < 7 && !expected.isEmpty()) {
+				Assert.assertEquals(expected.removeBack(), data.removeBack());
+			} else if (roll < 8 && !expected.isEmpty()) {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.removeIndex(at), data.removeIndex(at));
+			} else {
+				Assert.assertEquals(expected.indexOf(value), data.indexOf(value));
+				Assert.assertEquals(expected.lastIndexOf(value), data.lastIndexOf(value));
+				Assert.assertEquals(expected.contains(value), data.contains(value));
+			}
+		}
+	}
+	
+	@Test
+	public void testAddAllKeepsIndex() {
+		HashIndexedGrowableList<String> data = new HashIndexedGrowableList<>();
+		data.addBack("a");
+		data.addBack("b");
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertTrue(data.isIndexed());
+		
+		data.addAllBack(data);
+		Assert.assertEquals(3, data.lastIndexOf("b"));
+		
+		// a c a b a b
+		data.addAll(1, ListChecks.listOf("c", "a"));
+		Assert.assertEquals(1, data.indexOf("c"));
+		Assert.assertEquals(4, data.lastIndexOf("a"));
+		Assert.assertEquals(5, data.lastIndexOf("b"));
+		data.addAll(0, data);
+		Assert.assertEquals(3, data.indexOf("b"));
+		Assert.assertEquals(7, data.lastIndexOf("c"));
+		Assert.assertEquals(11, data.lastIndexOf("b"));
+		Assert.assertTrue(data.isIndexed());
+		Assert.assertEquals(1, data.getRebuildCount());
+	}
+	
+	@Test
+	public void testRemovesKeepIndex() {
+		HashIndexedGrowableList<String> data = new HashIndexedGrowableList<>();
+		for (String s : new String[] {"a", "b", "c", "d", "e", "f"}) {
+			data.addBack(s);
+		}
+		Assert.assertEquals(5, data.indexOf("f"));
+		Assert.assertEquals(0, data.removeIf(s -> s.equals("z")));
+		
+		data.removeRange(1, 3);
+		Assert.assertEquals(3, data.indexOf("f"));
+		Assert.assertEquals(-1, data.indexOf("b"));
+		
+		data.removeIndices(new int[] { 0, 2 });
+		Assert.assertEquals(0, data.indexOf("d"));
+		Assert.assertEquals(1, data.indexOf("f"));
+		
+		Assert.assertEquals(1, data.removeIf(s -> s.equals("d")));
+		Assert.assertEquals(0, data.indexOf("f"));
+		Assert.assertFalse(data.contains("d"));
+		Assert.assertEquals(1, data.getRebuildCount());
+	}
+	
+	@Test
+	public void testSortRebuildsIndex() {
+		HashIndexedGrowableList<Integer> data = new HashIndexedGrowableList<>();
+		for (int i = 0; i < 100; i++) {
+			data.addBack(99 - i);
+		}
+		data.sort(Comparator.naturalOrder());
+		Assert.assertFalse(data.isIndexed());
+		Assert.assertEquals(10, data.indexOf(10));
+		data.sort(Comparator.reverseOrder());
+		Assert.assertEquals(89, data.indexOf(10));
+		data.parallelSort(Comparator.naturalOrder(), 8);
+		Assert.assertEquals(10, data.indexOf(10));
+		Assert.assertEquals(3, data.getRebuildCount());
+	}
+	
+	@Test
+	public void testMiddleEditsMatchScan() {
+		HashIndexedGrowableList<Integer> data = new HashIndexedGrowableList<>();
+		GrowableList<Integer> expected = new GrowableList<>();
+		Random rand = new Random(45);
+		data.indexOf(0);
+		for (int step = 0; step < 3000; step++) {
+			int roll = rand.nextInt(8);
+			Integer value = rand.nextInt(20);
+			int at = rand.nextInt(expected.size() + 1);
+			if (roll < 2 || expected.isEmpty()) {
+				data.addIndex(value, at);
+				expected.addIndex(value, at);
+			} else if (roll < 3) {
+				P6List<Integer> batch = ListChecks.listOf(value, value + 1, value);
+				data.addAll(at, batch);
+				expected.addAll(at, batch);
+			} else if (roll < 4) {
+				data.addAll(at, data);
+				expected.addAll(at, expected);
+				int cut = expected.size() / 2;
+				data.removeRange(cut / 2, cut / 2 + cut);
+				expected.removeRange(cut / 2, cut / 2 + cut);
+			} else if (roll < 5) {
+				int to = Math.min(expected.size(), at + rand.nextInt(5));
+				data.removeRange(at, to);
+				expected.removeRange(at, to);
+			} else if (roll < 6) {
+				int pick = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.removeIndex(pick), data.removeIndex(pick));
+			} else if (roll < 7) {
+				Assert.assertEquals(expected.removeIf(x -> x.equals(value)), data.removeIf(x -> x.equals(value)));
+			} else {
+				int[] picks = { 0, expected.size() / 3, expected.size() - 1 };
+				if (picks[1] > 0 && picks[1] < picks[2]) {
+					data.removeIndices(picks);
+					expected.removeIndices(picks);
+				}
+			}
+			for (int v = 0; v < 21; v++) {
+				Assert.assertEquals(expected.indexOf(v), data.indexOf(v));
+				Assert.assertEquals(expected.lastIndexOf(v), data.lastIndexOf(v));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.getIndex(i), data.getIndex(i));
+		}
+		Assert.assertEquals(1, data.getRebuildCount());
+	}
+}
@@ -0,0 +1,189 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class IntrusiveListTest {
+	static class Session extends AbstractLinked<Session> {
+		final int id;
+
+		Session(int id) {
+			this.id = id;
+		}
+	}
+
+	private static Session[] sessions(int n) {
+		Session[] made = new Session[n];
+		for (int i = 0; i < n; i++) {
+			made[i] = new Session(i);
+		}
+		return made;
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new IntrusiveList<Session>().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		data.addBack(new Session(0));
+		data.getIndex(1);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testAddTwiceCrash() {
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		Session s = new Session(0);
+		data.addBack(s);
+		new IntrusiveList<Session>().addFront(s);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testRemoveOtherListCrash() {
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		Session s = new Session(0);
+		new IntrusiveList<Session>().addFront(s);
+		data.remove(s);
+	}
+
+	@Test
+	public void testRemoveAnywhere() {
+		Session[] s = sessions(5);
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		for (Session x : s) {
+			data.addBack(x);
+		}
+		data.remove(s[2]);
+		data.remove(s[0]);
+		data.remove(s[4]);
+		Assert.assertEquals(2, data.size());
+		Assert.assertSame(s[1], data.getFront());
+		Assert.assertSame(s[3], data.getBack());
+		Assert.assertFalse(data.contains(s[2]));
+		Assert.assertNull(s[2].getBefore());
+		Assert.assertNull(s[2].getAfter());
+
+		// it can go in another list now.
+		IntrusiveList<Session> other = new IntrusiveList<>();
+		other.addBack(s[2]);
+		Assert.assertTrue(other.contains(s[2]));
+	}
+
+	@Test
+	public void testRemoveWhileLooping() {
+		Session[] s = sessions(10);
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		for (Session x : s) {
+			data.addBack(x);
+		}
+		for (Session x : data) {
+			if (x.id % 2 == 0) {
+				data.remove(x);
+			}
+		}
+		Assert.assertEquals(5, data.size());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(2 * i + 1, data.getIndex(i).id);
+		}
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Session> expected = new ArrayList<>();
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		for (int step = 0; step < 5000; step++) {
+			int op = rand.nextInt(6);
+			Session added = new Session(step);
+			if (op == 0 || expected.isEmpty()) {
+				expected.add(0, added);
+				data.addFront(added);
+			} else if (op == 1) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, added);
+				data.addIndex(added, at);
+			} else if (op == 2) {
+				expected.add(added);
+				data.addBack(added);
+			} else if (op == 3) {
+				Assert.assertSame(expected.remove(0), data.removeFront());
+			} else if (op == 4) {
+				int at = rand.nextInt(expected.size());
+				Assert.assertSame(expected.remove(at), data.removeIndex(at));
+			} else {
+				data.remove(expected.remove(rand.nextInt(expected.size())));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		int i = 0;
+		for (Session x : data) {
+			Assert.assertSame(expected.get(i++), x);
+		}
+	}
+
+	@Test
+	public void testAddAllocatesNothing() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		Session[] s = sessions(100);
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		data.addBack(s[0]);
+		data.removeBack();
+		AllocationMeter meter = new AllocationMeter();
+		long mark = meter.mark();
+		for (Session x : s) {
+			data.addBack(x);
+		}
+		Assert.assertEquals(0, meter.since(mark));
+		Assert.assertEquals(100, data.size());
+	}
+
+	@Test
+	public void testIndexOfIsByIdentity() {
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		Session[] s = sessions(5);
+		for (Session x : s) {
+			data.addBack(x);
+		}
+		Assert.assertEquals(3, data.indexOf(s[3]));
+		Assert.assertEquals(3, data.lastIndexOf(s[3]));
+		Assert.assertEquals(0, data.indexOf(s[0]));
+		Assert.assertEquals(-1, data.indexOf(new Session(3)));
+		Assert.assertFalse(data.contains(null));
+		data.remove(s[1]);
+		Assert.assertEquals(2, data.indexOf(s[3]));
+		Assert.assertEquals(-1, data.indexOf(s[1]));
+	}
+
+	@Test
+	public void testBulkRemovesFreeItems() {
+		Session[] s = sessions(8);
+		IntrusiveList<Session> data = new IntrusiveList<>();
+		for (Session x : s) {
+			data.addBack(x);
+		}
+		Assert.assertEquals(4, data.removeIf(x -> x.id % 2 == 1));
+		data.removeRange(1, 2);
+		data.removeIndices(new int[] { 1 });
+		Assert.assertEquals(2, data.size());
+		Assert.assertSame(s[0], data.getFront());
+		Assert.assertSame(s[6], data.getBack());
+		
+		// everything that came out can go into another list.
+		IntrusiveList<Session> other = new IntrusiveList<>();
+		for (int i : new int[] { 1, 2, 3, 4, 5, 7 }) {
+			Assert.assertFalse(data.contains(s[i]));
+			other.addBack(s[i]);
+		}
+		Assert.assertEquals(6, other.size());
+	}
+}
@@ -0,0 +1,124 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LRUCacheTest {
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testZeroCapacityCrash() {
+		new LRUCache<String, Integer>(0);
+	}
+
+	@Test
+	public void testGetPut() {
+		LRUCache<String, Integer> cache = new LRUCache<>(3);
+		Assert.assertNull(cache.put("a", 1));
+		Assert.assertNull(cache.put("b", 2));
+		Assert.assertEquals(Integer.valueOf(1), cache.put("a", 10));
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(Integer.valueOf(10), cache.get("a"));
+		Assert.assertNull(cache.get("c"));
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+		Assert.assertEquals(0, cache.getEvictions());
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		LRUCache<String, Integer> cache = new LRUCache<>(3);
+		List<String> evicted = new ArrayList<>();
+		cache.setEvictionListener((k, v) -> evicted.add(k + "=" + v));
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		Assert.assertEquals("a", cache.eldestKey());
+		// using "a" makes "b" the oldest.
+		cache.get("a");
+		Assert.assertEquals("b", cache.eldestKey());
+		cache.put("d", 4);
+		Assert.assertEquals(3, cache.size());
+		Assert.assertFalse(cache.containsKey("b"));
+		Assert.assertTrue(cache.containsKey("a"));
+		// replacing a value also counts as using it.
+		cache.put("c", 30);
+		cache.put("e", 5);
+		Assert.assertFalse(cache.containsKey("a"));
+		Assert.assertEquals(2, cache.getEvictions());
+		Assert.assertEquals("[b=2, a=1]", evicted.toString());
+	}
+
+	@Test
+	public void testContainsKeyDoesNotTouch() {
+		LRUCache<String, Integer> cache = new LRUCache<>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		Assert.assertTrue(cache.containsKey("a"));
+		cache.put("c", 3);
+		Assert.assertFalse(cache.containsKey("a"));
+		Assert.assertEquals(0, cache.getHits() + cache.getMisses());
+	}
+
+	@Test
+	public void testRemove() {
+		LRUCache<String, Integer> cache = new LRUCache<>(2);
+		List<String> evicted = new ArrayList<>();
+		cache.setEvictionListener((k, v) -> evicted.add(k));
+		cache.put("a", 1);
+		cache.put("b", 2);
+		Assert.assertEquals(Integer.valueOf(1), cache.remove("a"));
+		Assert.assertNull(cache.remove("a"));
+		Assert.assertEquals(1, cache.size());
+		cache.put("c", 3);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertTrue(evicted.isEmpty());
+		Assert.assertEquals("b", cache.eldestKey());
+	}
+
+	@Test
+	public void testCapacityOne() {
+		LRUCache<Integer, Integer> cache = new LRUCache<>(1);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+			Assert.assertEquals(1, cache.size());
+			Assert.assertEquals(Integer.valueOf(i), cache.get(i));
+		}
+		Assert.assertEquals(9, cache.getEvictions());
+	}
+
+	@Test
+	public void testMatchesLinkedHashMap() {
+		final int capacity = 16;
+		LRUCache<Integer, Integer> cache = new LRUCache<>(capacity);
+		Map<Integer, Integer> expected = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+				return size() > capacity;
+			}
+		};
+		Random rand = new Random(212);
+		for (int i = 0; i < 10000; i++) {
+			int key = rand.nextInt(40);
+			int roll = rand.nextInt(10);
+			if (roll < 5) {
+				Assert.assertEquals(expected.get(key), cache.get(key));
+			} else if (roll < 9) {
+				Assert.assertEquals(expected.put(key, i), cache.put(key, i));
+			} else {
+				Assert.assertEquals(expected.remove(key), cache.remove(key));
+			}
+			Assert.assertEquals(expected.size(), cache.size());
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.keySet().iterator().next(), cache.eldestKey());
+			}
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+
+/**
+ * Checks that every P6List should pass, whatever it is made of. Each list's
+ * own test calls these once, and then tests the paths its implementation
+ * takes on its own (wrapped arrays, chunk edges, relinking, and so on).
+ */
+class ListChecks {
+
+	/**
+	 * Fail unless data holds exactly the items of expected, in order.
+	 */
+	static <T> void assertSameItems(List<T> expected, P6List<T> data) {
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	/**
+	 * Sort an empty list, then 200 random strings by length only, so equal
+	 * lengths also check that the sort is stable; then make sure the list still
+	 * works at both ends.
+	 *
+	 * @param data an empty list with room for 200 items.
+	 */
+	static void checkStableSort(P6List<String> data) {
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		data.sort(byLength);
+		Assert.assertTrue(data.isEmpty());
+
+		List<String> expected = new ArrayList<>();
+		Random rand = new Random(212);
+		for (int i = 0; i < 200; i++) {
+			String item = Integer.toString(rand.nextInt(1000));
+			data.addBack(item);
+			expected.add(item);
+		}
+		data.sort(byLength);
+		expected.sort(byLength);
+		assertSameItems(expected, data);
+		Assert.assertEquals(expected.get(0), data.getFront());
+		Assert.assertEquals(expected.get(199), data.getBack());
+		Assert.assertEquals(expected.get(199), data.removeBack());
+		data.addBack("x");
+		Assert.assertEquals("x", data.getBack());
+	}
+
+	/**
+	 * @return a GrowableList of the given items, to add from.
+	 */
+	@SafeVarargs
+	static <T> P6List<T> listOf(T... items) {
+		P6List<T> made = new GrowableList<>();
+		for (T item : items) {
+			made.addBack(item);
+		}
+		return made;
+	}
+
+	/**
+	 * Add 40 batches of up to 20 items at random indexes, then the list to
+	 * itself (which has to copy it first) in the middle and at the back, and
+	 * compare with an ArrayList doing the same.
+	 *
+	 * @param data an empty list with room for a few thousand items.
+	 */
+	static void checkAddAll(P6List<Integer> data) {
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(49);
+		for (int round = 0; round < 40; round++) {
+			P6List<Integer> batch = new GrowableList<>();
+			List<Integer> items = new ArrayList<>();
+			int count = rand.nextInt(20);
+			for (int i = 0; i < count; i++) {
+				batch.addBack(round * 100 + i);
+				items.add(round * 100 + i);
+			}
+			int at = rand.nextInt(expected.size() + 1);
+			data.addAll(at, batch);
+			expected.addAll(at, items);
+			Assert.assertEquals(count, batch.size());
+		}
+		data.addAll(3, data);
+		expected.addAll(3, new ArrayList<>(expected));
+		data.addAllBack(data);
+		expected.addAll(new ArrayList<>(expected));
+
+		assertSameItems(expected, data);
+		Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+		data.addBack(-1);
+		Assert.assertEquals(-1, (int) data.removeBack());
+	}
+
+	/**
+	 * indexOf, lastIndexOf and contains on a list with a repeat and a null.
+	 *
+	 * @param data an empty list with room for 5 items.
+	 */
+	static void checkIndexOf(P6List<String> data) {
+		Assert.assertEquals(-1, data.indexOf("a"));
+		Assert.assertEquals(-1, data.lastIndexOf("a"));
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		data.addBack("c");
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertEquals(1, data.lastIndexOf("b"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(4, data.lastIndexOf("c"));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertEquals(-1, data.lastIndexOf("z"));
+		Assert.assertTrue(data.contains("c"));
+		Assert.assertFalse(data.contains("z"));
+	}
+
+	/**
+	 * Mix random addAll, removeRange and removeIf calls (batches and ranges of
+	 * up to 300 items, so block and leaf sizes get crossed) with single adds
+	 * and removes, comparing with an ArrayList after every step. The single
+	 * edits catch a bulk edit that left the list's own bookkeeping wrong.
+	 *
+	 * @param data an empty list.
+	 */
+	static void checkBulkEdits(P6List<Integer> data) {
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(50);
+		int next = 0;
+		for (int round = 0; round < 300; round++) {
+			int kind = rand.nextInt(10);
+			if (kind < 5) {
+				P6List<Integer> batch = new GrowableList<>();
+				List<Integer> items = new ArrayList<>();
+				int count = rand.nextInt(300);
+				for (int i = 0; i < count; i++) {
+					batch.addBack(next);
+					items.add(next++);
+				}
+				int at = rand.nextInt(expected.size() + 1);
+				data.addAll(at, batch);
+				expected.addAll(at, items);
+			} else if (kind < 9) {
+				int from = rand.nextInt(expected.size() + 1);
+				int to = Math.min(expected.size(), from + rand.nextInt(300));
+				data.removeRange(from, to);
+				expected.subList(from, to).clear();
+			} else {
+				int mod = 2 + rand.nextInt(5);
+				int removed = data.removeIf(x -> x % mod == 0);
+				int before = expected.size();
+				expected.removeIf(x -> x % mod == 0);
+				Assert.assertEquals(before - expected.size(), removed);
+			}
+			int at = rand.nextInt(expected.size() + 1);
+			data.addIndex(next, at);
+			expected.add(at, next++);
+			at = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			Assert.assertEquals(expected.isEmpty(), data.isEmpty());
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+			}
+			assertSameItems(expected, data);
+		}
+	}
+
+	/**
+	 * Fill a list (and a copy to check it against) from both ends, so ring and
+	 * gap lists don't start out with everything in one straight run.
+	 */
+	private static void fillBothEnds(P6List<Integer> data, List<Integer> expected, int count) {
+		for (int i = 0; i < count; i++) {
+			if (i % 2 == 0) {
+				data.addBack(i);
+				expected.add(i);
+			} else {
+				data.addFront(i);
+				expected.add(0, i);
+			}
+		}
+	}
+
+	/**
+	 * Delete random ranges of up to 20 items until 20 are left, then the rest,
+	 * and make sure both ends still work.
+	 *
+	 * @param data an empty list with room for 200 items.
+	 */
+	static void checkRemoveRange(P6List<Integer> data) {
+		List<Integer> expected = new ArrayList<>();
+		fillBothEnds(data, expected, 200);
+		Random rand = new Random(50);
+		while (expected.size() > 20) {
+			int from = rand.nextInt(expected.size() + 1);
+			int to = from + rand.nextInt(Math.min(20, expected.size() - from) + 1);
+			data.removeRange(from, to);
+			expected.subList(from, to).clear();
+			assertSameItems(expected, data);
+		}
+		data.removeRange(0, data.size());
+		Assert.assertTrue(data.isEmpty());
+		data.addBack(7);
+		data.addFront(6);
+		Assert.assertEquals(6, (int) data.getFront());
+		Assert.assertEquals(7, (int) data.getBack());
+	}
+
+	/**
+	 * removeIf with a filter that takes a run and scattered items, one that
+	 * takes nothing, and one that takes everything.
+	 *
+	 * @param data an empty list with room for 300 items.
+	 */
+	static void checkRemoveIf(P6List<Integer> data) {
+		List<Integer> expected = new ArrayList<>();
+		fillBothEnds(data, expected, 300);
+		int before = expected.size();
+		expected.removeIf(x -> x % 3 == 0 || (x > 100 && x < 150));
+		Assert.assertEquals(before - expected.size(), data.removeIf(x -> x % 3 == 0 || (x > 100 && x < 150)));
+		assertSameItems(expected, data);
+		Assert.assertEquals(0, data.removeIf(x -> x < 0));
+		assertSameItems(expected, data);
+
+		Assert.assertEquals(expected.size(), data.removeIf(x -> true));
+		Assert.assertTrue(data.isEmpty());
+		data.addBack(1);
+		Assert.assertEquals(1, (int) data.getFront());
+	}
+
+	/**
+	 * removeIndices with both ends and about a third of the rest, then with
+	 * no indexes at all.
+	 *
+	 * @param data an empty list with room for 150 items.
+	 */
+	static void checkRemoveIndices(P6List<Integer> data) {
+		List<Integer> expected = new ArrayList<>();
+		fillBothEnds(data, expected, 150);
+		Random rand = new Random(51);
+		List<Integer> picked = new ArrayList<>();
+		for (int i = 0; i < expected.size(); i++) {
+			if (i == 0 || i == expected.size() - 1 || rand.nextInt(3) == 0) {
+				picked.add(i);
+			}
+		}
+		int[] indices = new int[picked.size()];
+		for (int j = indices.length - 1; j >= 0; j--) {
+			indices[j] = picked.get(j);
+			expected.remove(indices[j]);
+		}
+		data.removeIndices(indices);
+		assertSameItems(expected, data);
+		data.removeIndices(new int[0]);
+		assertSameItems(expected, data);
+	}
+
+	/**
+	 * A bad range, unsorted indexes and an index past the end all throw before
+	 * anything is deleted.
+	 *
+	 * @param data an empty list with room for 3 items.
+	 */
+	static void checkBulkRemovesCheckFirst(P6List<Integer> data) {
+		data.addBack(1);
+		data.addBack(2);
+		data.addBack(3);
+		try {
+			data.removeRange(2, 4);
+			Assert.fail("range past the end");
+		} catch (BadIndexError expected) {
+			// good
+		}
+		try {
+			data.removeIndices(new int[] { 0, 2, 1 });
+			Assert.fail("unsorted indices");
+		} catch (IllegalArgumentException expected) {
+			// good
+		}
+		try {
+			data.removeIndices(new int[] { 0, 3 });
+			Assert.fail("index past the end");
+		} catch (BadIndexError expected) {
+			// good
+		}
+		assertSameItems(Arrays.asList(1, 2, 3), data);
+	}
+}
@@ -0,0 +1,92 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Not a unit test: run main() by hand to see how {@linkplain
+ * GrowableList#parallelSort} and {@linkplain ChunkyLinkedList#parallelSort}
+ * scale. Each runs in a ForkJoinPool of 4, 8 and 16 threads, and is compared
+ * with the same list's sequential sort.
+ *
+ * Run it as {@code ParallelSortBenchmark [items] [cutoff]}; the defaults are
+ * 5 million items and a cutoff of 8192. Give the JVM enough heap for big runs
+ * (e.g. -Xmx8g for 50 million). A pool bigger than the machine has cores
+ * can't go any faster, so check availableProcessors in the first line.
+ */
+public class ParallelSortBenchmark {
+	static final int CHUNK_SIZE = 256;
+	static final int ROUNDS = 3;
+
+	public static void main(String[] args) throws InterruptedException, ExecutionException {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+		int cutoff = args.length > 1 ? Integer.parseInt(args[1]) : ParallelMergeSort.DEFAULT_CUTOFF;
+		System.out.printf("n=%d cutoff=%d availableProcessors=%d%n", n, cutoff,
+				Runtime.getRuntime().availableProcessors());
+		Integer[] data = randomData(n);
+		Comparator<Integer> order = Comparator.naturalOrder();
+
+		report("growable", data, GrowableList::new, list -> list.sort(order),
+				list -> list.parallelSort(order, cutoff));
+		report("chunky", data, () -> new ChunkyLinkedList<>(CHUNK_SIZE), list -> list.sort(order),
+				list -> list.parallelSort(order, cutoff));
+	}
+
+	static <L extends P6List<Integer>> void report(String name, Integer[] data, Supplier<L> factory,
+			Consumer<L> sequential, Consumer<L> parallel) throws InterruptedException, ExecutionException {
+		long base = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			L list = fill(factory.get(), data);
+			long start = System.nanoTime();
+			sequential.accept(list);
+			base = Math.min(base, System.nanoTime() - start);
+		}
+		System.out.printf("%-9s sequential    %9.1f ms%n", name, base / 1e6);
+
+		for (int threads : new int[] {4, 8, 16}) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			long best = Long.MAX_VALUE;
+			try {
+				for (int round = 0; round < ROUNDS; round++) {
+					L list = fill(factory.get(), data);
+					long start = System.nanoTime();
+					pool.submit(() -> parallel.accept(list)).get();
+					best = Math.min(best, System.nanoTime() - start);
+				}
+			} finally {
+				pool.shutdown();
+			}
+			System.out.printf("%-9s %2d threads    %9.1f ms   speedup %5.2fx%n", name, threads, best / 1e6,
+					(double) base / best);
+		}
+	}
+
+	static Integer[] randomData(int n) {
+		Random rand = new Random(n);
+		Integer[] data = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			data[i] = rand.nextInt();
+		}
+		return data;
+	}
+
+	/**
+	 * ChunkyLinkedList.addBack walks every chunk, so it is filled from the front.
+	 */
+	static <L extends P6List<Integer>> L fill(L list, Integer[] data) {
+		if (list instanceof ChunkyLinkedList) {
+			for (int i = data.length - 1; i >= 0; i--) {
+				list.addFront(data[i]);
+			}
+		} else {
+			for (Integer x : data) {
+				list.addBack(x);
+			}
+		}
+		return list;
+	}
+}
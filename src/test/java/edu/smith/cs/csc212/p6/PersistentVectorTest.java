@@ -0,0 +1,144 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class PersistentVectorTest {
+
+	/**
+	 * Make sure v holds exactly the items in expected, by index and by iterator.
+	 */
+	public static void assertSame(List<Integer> expected, PersistentVector<Integer> v) {
+		Assert.assertEquals(expected.size(), v.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), v.getIndex(i));
+		}
+		int i = 0;
+		for (Integer x : v) {
+			Assert.assertEquals(expected.get(i++), x);
+		}
+		Assert.assertEquals(expected.size(), i);
+	}
+
+	public static PersistentVector<Integer> build(int n) {
+		PersistentVector.Builder<Integer> b = PersistentVector.builder();
+		for (int i = 0; i < n; i++) {
+			b.addBack(i);
+		}
+		return b.build();
+	}
+
+	public static List<Integer> range(int from, int to) {
+		List<Integer> out = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			out.add(i);
+		}
+		return out;
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		PersistentVector.<String>empty().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		build(10).getIndex(10);
+	}
+
+	@Test
+	public void testOldVersionsUnchanged() {
+		PersistentVector<String> v0 = PersistentVector.empty();
+		PersistentVector<String> v1 = v0.addBack("a");
+		PersistentVector<String> v2 = v1.addFront("b");
+		PersistentVector<String> v3 = v2.setIndex(1, "c");
+		Assert.assertTrue(v0.isEmpty());
+		Assert.assertEquals("a", v1.getFront());
+		Assert.assertEquals(1, v1.size());
+		Assert.assertEquals("b", v2.getFront());
+		Assert.assertEquals("a", v2.getBack());
+		Assert.assertEquals("c", v3.getBack());
+		Assert.assertTrue(v3.removeBack().removeBack().isEmpty());
+	}
+
+	@Test
+	public void testBuilder() {
+		for (int n : new int[] {0, 1, 31, 32, 33, 40, 1024, 1040, 40000}) {
+			assertSame(range(0, n), build(n));
+		}
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		PersistentVector<Integer> v = PersistentVector.empty();
+		for (int step = 0; step < 20000; step++) {
+			int op = rand.nextInt(10);
+			if (op < 6 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				v = v.addIndex(step, at);
+			} else if (op < 9) {
+				int at = rand.nextInt(expected.size());
+				expected.remove(at);
+				v = v.removeIndex(at);
+			} else {
+				int at = rand.nextInt(expected.size());
+				expected.set(at, -step);
+				v = v.setIndex(at, -step);
+			}
+		}
+		assertSame(expected, v);
+		Assert.assertTrue(v.height() <= 3);
+	}
+
+	@Test
+	public void testConcat() {
+		int[] sizes = {0, 1, 17, 32, 33, 500, 1025, 40000};
+		for (int a : sizes) {
+			for (int b : sizes) {
+				PersistentVector<Integer> left = build(a);
+				PersistentVector<Integer> right = build(b + a).slice(a, a + b);
+				assertSame(range(0, a + b), left.concat(right));
+			}
+		}
+	}
+
+	@Test
+	public void testSlice() {
+		PersistentVector<Integer> v = build(5000);
+		Random rand = new Random(13);
+		for (int i = 0; i < 200; i++) {
+			int from = rand.nextInt(5001);
+			int to = from + rand.nextInt(5001 - from);
+			PersistentVector<Integer> s = v.slice(from, to);
+			assertSame(range(from, to), s);
+		}
+		assertSame(range(0, 5000), v);
+	}
+
+	@Test
+	public void testSliceAndConcatStayBalanced() {
+		Random rand = new Random(7);
+		PersistentVector<Integer> v = build(10000);
+		List<Integer> expected = range(0, 10000);
+		for (int i = 0; i < 300; i++) {
+			int cut = rand.nextInt(v.size() + 1);
+			// rotate the list around cut.
+			v = v.slice(cut, v.size()).concat(v.slice(0, cut));
+			List<Integer> rotated = new ArrayList<>(expected.subList(cut, expected.size()));
+			rotated.addAll(expected.subList(0, cut));
+			expected = rotated;
+		}
+		assertSame(expected, v);
+		Assert.assertTrue(v.height() <= 4);
+	}
+}
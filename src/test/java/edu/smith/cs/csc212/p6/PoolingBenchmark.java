@@ -0,0 +1,52 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.function.Supplier;
+
+/**
+ * Not a unit test: run main() by hand to see what node pools save on a queue
+ * workload. The queue holds QUEUE_SIZE items and we do addBack + removeFront
+ * pairs, with and without a pool, printing ns and bytes allocated per pair and
+ * the pool hit rate.
+ *
+ * The queue is kept short because SinglyLinkedList.addBack walks to the end.
+ */
+public class PoolingBenchmark {
+	static final int QUEUE_SIZE = 16;
+	static final int PAIRS = 5000000;
+	static final int POOL = 64;
+
+	public static void main(String[] args) {
+		AllocationMeter meter = AllocationMeter.isSupported() ? new AllocationMeter() : null;
+		for (int round = 0; round < 3; round++) {
+			report("singly", () -> new SinglyLinkedList<>(), meter);
+			report("singly+pool", () -> new SinglyLinkedList<>(POOL), meter);
+			report("doubly", () -> new DoublyLinkedList<>(), meter);
+			report("doubly+pool", () -> new DoublyLinkedList<>(POOL), meter);
+		}
+	}
+
+	static void report(String name, Supplier<P6List<Integer>> factory, AllocationMeter meter) {
+		P6List<Integer> list = factory.get();
+		Integer x = 7;
+		for (int i = 0; i < QUEUE_SIZE; i++) {
+			list.addBack(x);
+		}
+		long mark = meter == null ? 0 : meter.mark();
+		long start = System.nanoTime();
+		for (int i = 0; i < PAIRS; i++) {
+			list.addBack(x);
+			list.removeFront();
+		}
+		long nanos = System.nanoTime() - start;
+		long bytes = meter == null ? 0 : meter.since(mark);
+
+		double hitRate = 0;
+		if (list instanceof SinglyLinkedList) {
+			hitRate = ((SinglyLinkedList<Integer>) list).getPoolHitRate();
+		} else if (list instanceof DoublyLinkedList) {
+			hitRate = ((DoublyLinkedList<Integer>) list).getPoolHitRate();
+		}
+		System.out.printf("%-12s %8.2f ns/pair %8.2f B/pair  pool hits %5.1f%%%n", name, (double) nanos / PAIRS,
+				(double) bytes / PAIRS, 100 * hitRate);
+	}
+}
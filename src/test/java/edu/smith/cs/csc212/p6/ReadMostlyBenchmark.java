@@ -0,0 +1,91 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Not a unit test: run main() by hand to compare thread-safe wrappers for a
+ * read-mostly {@linkplain GrowableList}. Each thread does random getIndex calls
+ * with a small fraction of addBack/removeBack pairs mixed in.
+ * 
+ * Prints one line per (wrapper, write percent, thread count) with the total
+ * operations per second; with StampedLockList the read-heavy rows should grow
+ * roughly with the number of threads.
+ */
+public class ReadMostlyBenchmark {
+	static final int LIST_SIZE = 1024;
+	static final long RUN_MILLIS = 1000;
+
+	public static void main(String[] args) throws InterruptedException {
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		for (int writePercent : new int[] {5, 1}) {
+			for (int threads = 1; threads <= maxThreads; threads *= 2) {
+				report("synchronized", writePercent, threads, () -> new SynchronizedList<>(new GrowableList<>()));
+				report("stamped", writePercent, threads, () -> new StampedLockList<>(new GrowableList<>()));
+			}
+		}
+	}
+
+	static void report(String name, int writePercent, int threads, Supplier<P6List<Integer>> factory)
+			throws InterruptedException {
+		P6List<Integer> list = factory.get();
+		for (int i = 0; i < LIST_SIZE; i++) {
+			list.addBack(i);
+		}
+		long ops = run(list, writePercent, threads);
+		System.out.printf("%-12s writes=%d%% threads=%2d %,15d ops/s%n", name, writePercent, threads,
+				ops * 1000 / RUN_MILLIS);
+	}
+
+	static long run(P6List<Integer> list, int writePercent, int threads) throws InterruptedException {
+		AtomicLong total = new AtomicLong();
+		long deadline = System.currentTimeMillis() + RUN_MILLIS;
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Thread(() -> {
+				ThreadLocalRandom rand = ThreadLocalRandom.current();
+				long ops = 0;
+				long sink = 0;
+				while ((ops & 1023) != 0 || System.currentTimeMillis() < deadline) {
+					if (rand.nextInt(100) < writePercent) {
+						list.addBack(-1);
+						list.removeBack();
+					} else {
+						sink += list.getIndex(rand.nextInt(LIST_SIZE));
+					}
+					ops++;
+				}
+				total.addAndGet(ops + (sink == 42 ? 1 : 0));
+			});
+			workers[t].start();
+		}
+		for (Thread w : workers) {
+			w.join();
+		}
+		return total.get();
+	}
+
+	/**
+	 * The baseline: one monitor for readers and writers alike.
+	 */
+	static class SynchronizedList<T> implements P6List<T> {
+		private final P6List<T> list;
+
+		SynchronizedList(P6List<T> list) {
+			this.list = list;
+		}
+
+		public synchronized T removeFront() { return list.removeFront(); }
+		public synchronized T removeBack() { return list.removeBack(); }
+		public synchronized T removeIndex(int index) { return list.removeIndex(index); }
+		public synchronized void addFront(T item) { list.addFront(item); }
+		public synchronized void addBack(T item) { list.addBack(item); }
+		public synchronized void addIndex(T item, int index) { list.addIndex(item, index); }
+		public synchronized T getFront() { return list.getFront(); }
+		public synchronized T getBack() { return list.getBack(); }
+		public synchronized T getIndex(int index) { return list.getIndex(index); }
+		public synchronized int size() { return list.size(); }
+		public synchronized boolean isEmpty() { return list.isEmpty(); }
+	}
+}
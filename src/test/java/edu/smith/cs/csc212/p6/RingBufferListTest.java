@@ -0,0 +1,207 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class RingBufferListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new RingBufferList<String>().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		new RingBufferList<String>().getIndex(0);
+	}
+
+	@Test
+	public void testQueueWrapsAround() {
+		ArrayDeque<Integer> expected = new ArrayDeque<>();
+		RingBufferList<Integer> data = new RingBufferList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+			data.addBack(-i);
+			expected.addLast(i);
+			expected.addLast(-i);
+			Assert.assertEquals(expected.removeFirst(), data.removeFront());
+		}
+		Assert.assertEquals(1000, data.size());
+		Assert.assertEquals(expected.getFirst(), data.getFront());
+		Assert.assertEquals(Integer.valueOf(-999), data.getBack());
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		RingBufferList<Integer> data = new RingBufferList<>();
+		for (int step = 0; step < 20000; step++) {
+			int op = rand.nextInt(6);
+			if (op == 0 || expected.isEmpty()) {
+				expected.add(0, step);
+				data.addFront(step);
+			} else if (op == 1) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				data.addIndex(step, at);
+			} else if (op == 2) {
+				expected.add(step);
+				data.addBack(step);
+			} else if (op == 3) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			} else if (op == 4) {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new RingBufferList<>());
+	}
+
+	@Test
+	public void testSortWrapped() {
+		// adding at the front walks front backwards past slot 0, so the items
+		// wrap around the end of the array before the sort unwraps them.
+		RingBufferList<Integer> data = new RingBufferList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 13; i++) {
+			data.addFront(i * 7 % 13);
+			data.addBack(i * 5 % 13 + 100);
+			expected.add(i * 7 % 13);
+			expected.add(i * 5 % 13 + 100);
+		}
+		data.sort(Comparator.reverseOrder());
+		expected.sort(Comparator.reverseOrder());
+		ListChecks.assertSameItems(expected, data);
+		data.addFront(1000);
+		data.addBack(-1);
+		Assert.assertEquals(1000, (int) data.removeFront());
+		Assert.assertEquals(-1, (int) data.removeBack());
+		ListChecks.assertSameItems(expected, data);
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new RingBufferList<>());
+	}
+
+	@Test
+	public void testAddAllWrapped() {
+		// items that wrap are straightened into a new array with the batch in
+		// the middle; items that don't, with room after them, just shift.
+		RingBufferList<Integer> data = new RingBufferList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			data.addFront(i);
+			expected.add(0, i);
+		}
+		data.addAll(2, ListChecks.listOf(50, 51, 52));
+		expected.addAll(2, Arrays.asList(50, 51, 52));
+		ListChecks.assertSameItems(expected, data);
+		data.addAll(1, ListChecks.listOf(60));
+		expected.add(1, 60);
+		ListChecks.assertSameItems(expected, data);
+		Assert.assertEquals(3, (int) data.removeFront());
+		Assert.assertEquals(0, (int) data.removeBack());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new RingBufferList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new RingBufferList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new RingBufferList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new RingBufferList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new RingBufferList<>());
+	}
+	
+	/**
+	 * A full ring of 16 slots holding 6..19: slots 6-15, then 0-3, so index 10
+	 * is back at slot 0.
+	 */
+	private static RingBufferList<Integer> wrapped(List<Integer> expected) {
+		RingBufferList<Integer> data = new RingBufferList<>();
+		for (int i = 0; i < 16; i++) {
+			data.addBack(i);
+		}
+		for (int i = 0; i < 6; i++) {
+			data.removeFront();
+		}
+		for (int i = 16; i < 20; i++) {
+			data.addBack(i);
+		}
+		for (int i = 6; i < 20; i++) {
+			expected.add(i);
+		}
+		return data;
+	}
+
+	@Test
+	public void testBulkRemovesWhileWrapped() {
+		List<Integer> expected = new ArrayList<>();
+		RingBufferList<Integer> data = wrapped(expected);
+		data.removeRange(5, 12);
+		expected.subList(5, 12).clear();
+		ListChecks.assertSameItems(expected, data);
+
+		expected.clear();
+		data = wrapped(expected);
+		Assert.assertEquals(3, data.removeIf(x -> x % 4 == 0));
+		expected.removeIf(x -> x % 4 == 0);
+		ListChecks.assertSameItems(expected, data);
+
+		expected.clear();
+		data = wrapped(expected);
+		data.removeIndices(new int[] { 0, 9, 10, 13 });
+		expected.remove(13);
+		expected.remove(10);
+		expected.remove(9);
+		expected.remove(0);
+		ListChecks.assertSameItems(expected, data);
+		// after straightening, both ends still wrap the right way.
+		for (int i = 0; i < 8; i++) {
+			data.addFront(-i);
+			expected.add(0, -i);
+			data.addBack(100 + i);
+			expected.add(100 + i);
+		}
+		ListChecks.assertSameItems(expected, data);
+	}
+}
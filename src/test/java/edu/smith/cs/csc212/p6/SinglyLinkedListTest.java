@@ -1,11 +1,18 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
 import org.junit.Test;
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 
 import org.junit.Assert;
+import org.junit.Assume;
 
 public class SinglyLinkedListTest {
 	@Test
@@ -172,4 +179,175 @@ public class SinglyLinkedListTest {
 		Assert.assertEquals(0, data.size());
 		
 	}
+	
+	@Test
+	public void testPoolRecycles() {
+		SinglyLinkedList<String> data = new SinglyLinkedList<>(4);
+		for (int i = 0; i < 10; i++) {
+			data.addBack("x" + i);
+		}
+		Assert.assertEquals(0, data.getPoolHits());
+		Assert.assertEquals(10, data.getPoolMisses());
+		Assert.assertEquals("x0", data.removeFront());
+		Assert.assertEquals("x9", data.removeBack());
+		Assert.assertEquals("x5", data.removeIndex(4));
+		for (int i = 0; i < 7; i++) {
+			data.removeFront();
+		}
+		// only 4 of the 10 removed nodes fit.
+		Assert.assertEquals(4, data.getPoolSize());
+		for (int i = 0; i < 6; i++) {
+			data.addFront("y" + i);
+		}
+		Assert.assertEquals(0, data.getPoolSize());
+		Assert.assertEquals(4, data.getPoolHits());
+		Assert.assertEquals(12, data.getPoolMisses());
+		Assert.assertEquals(0.25, data.getPoolHitRate(), 1e-9);
+		Assert.assertEquals(6, data.size());
+		Assert.assertEquals("y5", data.getFront());
+		Assert.assertEquals("y0", data.getBack());
+	}
+	
+	@Test
+	public void testPooledQueueAllocatesNothing() {
+		Assume.assumeTrue(AllocationMeter.isSupported());
+		SinglyLinkedList<String> data = new SinglyLinkedList<>(8);
+		for (int i = 0; i < 100; i++) {
+			data.addBack("x");
+			data.addBack("x");
+			data.removeFront();
+		}
+		for (int i = 0; i < 100; i++) {
+			data.removeFront();
+		}
+		AllocationMeter meter = new AllocationMeter();
+		long mark = meter.mark();
+		for (int i = 0; i < 100; i++) {
+			data.addBack("x");
+			data.removeFront();
+		}
+		Assert.assertEquals(0, meter.since(mark));
+	}
+	
+	@Test
+	public void testIndexOf() {
+		P6List<String> data = new SinglyLinkedList<>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("a");
+		data.addBack(null);
+		data.addBack("c");
+		Assert.assertEquals(0, data.indexOf("a"));
+		Assert.assertEquals(2, data.lastIndexOf("a"));
+		Assert.assertEquals(1, data.indexOf("b"));
+		Assert.assertEquals(1, data.lastIndexOf("b"));
+		Assert.assertEquals(3, data.indexOf(null));
+		Assert.assertEquals(4, data.lastIndexOf("c"));
+		Assert.assertEquals(-1, data.indexOf("z"));
+		Assert.assertEquals(-1, data.lastIndexOf("z"));
+		Assert.assertTrue(data.contains("c"));
+		Assert.assertFalse(data.contains("z"));
+	}
+	
+	@Test
+	public void testSort() {
+		ListChecks.checkStableSort(new SinglyLinkedList<>());
+	}
+
+	@Test
+	public void testSortEveryLength() {
+		// the merge sort works in runs of 1, 2, 4...: lengths that aren't a power
+		// of two leave a short run (or none) at the end of each pass.
+		for (int n = 0; n <= 33; n++) {
+			SinglyLinkedList<Integer> data = new SinglyLinkedList<>();
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 0; i < n; i++) {
+				data.addFront(i * 17 % 11);
+				expected.add(0, i * 17 % 11);
+			}
+			data.sort(Comparator.naturalOrder());
+			expected.sort(Comparator.naturalOrder());
+			ListChecks.assertSameItems(expected, data);
+			data.addBack(99);
+			Assert.assertEquals(99, (int) data.getBack());
+		}
+	}
+	
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new SinglyLinkedList<>());
+	}
+
+	@Test
+	public void testAddAllReusesPooledNodes() {
+		SinglyLinkedList<Integer> data = new SinglyLinkedList<>(8);
+		data.addAll(0, ListChecks.listOf(1, 2, 3, 4));
+		for (int i = 0; i < 4; i++) {
+			data.removeFront();
+		}
+		long hits = data.getPoolHits();
+		// the chain is built back to front from the pool, then hooked on at index.
+		data.addAllBack(ListChecks.listOf(10, 40));
+		data.addAll(1, ListChecks.listOf(20, 30));
+		Assert.assertEquals(hits + 4, data.getPoolHits());
+		ListChecks.assertSameItems(Arrays.asList(10, 20, 30, 40), data);
+		Assert.assertEquals(40, (int) data.getBack());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testAddAllBadIndex() {
+		P6List<Integer> data = new SinglyLinkedList<>();
+		data.addBack(1);
+		data.addAll(2, data);
+	}
+	
+	@Test
+	public void testRemoveRange() {
+		ListChecks.checkRemoveRange(new SinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIf() {
+		ListChecks.checkRemoveIf(new SinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testRemoveIndices() {
+		ListChecks.checkRemoveIndices(new SinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesCheckFirst() {
+		ListChecks.checkBulkRemovesCheckFirst(new SinglyLinkedList<>());
+	}
+	
+	@Test
+	public void testBulkRemovesRelinkAndRecycle() {
+		SinglyLinkedList<Integer> data = new SinglyLinkedList<>(50);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// a run at the front moves start; the filter takes the new first and last.
+		data.removeRange(0, 3);
+		expected.subList(0, 3).clear();
+		data.removeIf(x -> x == 3 || x == 19 || x % 5 == 0);
+		expected.removeIf(x -> x == 3 || x == 19 || x % 5 == 0);
+		data.removeIndices(new int[] { 0, expected.size() - 1 });
+		expected.remove(expected.size() - 1);
+		expected.remove(0);
+		ListChecks.assertSameItems(expected, data);
+		Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+
+		int removed = 20 - expected.size();
+		Assert.assertEquals(removed, data.getPoolSize());
+		long hits = data.getPoolHits();
+		for (int i = 0; i < removed; i++) {
+			data.addFront(-i);
+		}
+		Assert.assertEquals(hits + removed, data.getPoolHits());
+		Assert.assertEquals(0, data.getPoolSize());
+		Assert.assertEquals(-(removed - 1), (int) data.getFront());
+	}
 }
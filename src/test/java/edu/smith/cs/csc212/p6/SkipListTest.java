@@ -0,0 +1,127 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class SkipListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new SkipList<String>().removeBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		SkipList<String> data = new SkipList<>(1);
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test
+	public void testEnds() {
+		SkipList<String> data = new SkipList<>(1);
+		data.addBack("b");
+		data.addFront("a");
+		data.addBack("c");
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getBack());
+		Assert.assertEquals("c", data.removeBack());
+		Assert.assertEquals("b", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeBack());
+		Assert.assertTrue(data.isEmpty());
+		data.addBack("d");
+		Assert.assertEquals("d", data.getBack());
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		SkipList<Integer> data = new SkipList<>(42);
+		for (int step = 0; step < 20000; step++) {
+			if (rand.nextInt(10) < 6 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				data.addIndex(step, at);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			}
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		int i = 0;
+		for (Integer x : data) {
+			Assert.assertEquals(expected.get(i++), x);
+		}
+	}
+
+	@Test
+	public void testIndexOf() {
+		ListChecks.checkIndexOf(new SkipList<>(1));
+	}
+
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new SkipList<>(2));
+	}
+
+	@Test
+	public void testBulkEdits() {
+		ListChecks.checkBulkEdits(new SkipList<>(3));
+	}
+
+	@Test
+	public void testRemoveRangeKeepsWidths() {
+		// a few thousand items so several levels are in use.
+		SkipList<Integer> data = new SkipList<>(4);
+		for (int i = 0; i < 4000; i++) {
+			data.addBack(i);
+		}
+		data.removeRange(1000, 3000);
+		Assert.assertEquals(2000, data.size());
+		for (int i = 0; i < 2000; i++) {
+			int expected = i < 1000 ? i : i + 2000;
+			Assert.assertEquals(Integer.valueOf(expected), data.getIndex(i));
+		}
+		data.removeRange(0, 2000);
+		Assert.assertTrue(data.isEmpty());
+		data.addBack(7);
+		Assert.assertEquals(Integer.valueOf(7), data.getFront());
+		Assert.assertEquals(Integer.valueOf(7), data.getBack());
+	}
+
+	@Test
+	public void testRemoveIfThrowingFilterChangesNothing() {
+		SkipList<Integer> data = new SkipList<>(5);
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		try {
+			data.removeIf(x -> {
+				if (x == 8) {
+					throw new IllegalStateException();
+				}
+				return x % 2 == 0;
+			});
+			Assert.fail("the filter threw");
+		} catch (IllegalStateException expected) {
+			// nothing was deleted.
+		}
+		Assert.assertEquals(10, data.size());
+		Assert.assertEquals(Integer.valueOf(0), data.getFront());
+	}
+}
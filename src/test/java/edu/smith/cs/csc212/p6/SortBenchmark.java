@@ -0,0 +1,80 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Not a unit test: run main() by hand to compare each list's own
+ * {@linkplain P6List#sort} against Collections.sort on an ArrayList.
+ *
+ * Every list gets the same random numbers, and the ArrayList baseline sorts a
+ * copy of them. Prints milliseconds per sort (the best of a few rounds) for
+ * both, so a native sort that loses badly to the baseline is easy to spot.
+ */
+public class SortBenchmark {
+	static final int CHUNK_SIZE = 64;
+	static final int ROUNDS = 5;
+
+	public static void main(String[] args) {
+		for (int n : new int[] {10000, 100000, 1000000}) {
+			report("growable", n, GrowableList::new);
+			report("fixed", n, () -> new FixedSizeList<>(n));
+			report("singly", n, SinglyLinkedList::new);
+			report("doubly", n, DoublyLinkedList::new);
+			report("chunky", n, () -> new ChunkyLinkedList<>(CHUNK_SIZE));
+		}
+	}
+
+	static void report(String name, int n, Supplier<P6List<Integer>> factory) {
+		Comparator<Integer> order = Comparator.naturalOrder();
+		Integer[] data = randomData(n);
+		long nativeBest = Long.MAX_VALUE;
+		long copyBest = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			P6List<Integer> list = fill(factory.get(), data);
+			long start = System.nanoTime();
+			list.sort(order);
+			nativeBest = Math.min(nativeBest, System.nanoTime() - start);
+
+			List<Integer> copy = new ArrayList<>(Arrays.asList(data));
+			start = System.nanoTime();
+			Collections.sort(copy, order);
+			copyBest = Math.min(copyBest, System.nanoTime() - start);
+		}
+		System.out.printf("%-9s n=%8d  sort %8.2f ms   ArrayList Collections.sort %8.2f ms%n", name, n,
+				nativeBest / 1e6, copyBest / 1e6);
+	}
+
+	/**
+	 * The same numbers for every list of size n.
+	 */
+	static Integer[] randomData(int n) {
+		Random rand = new Random(n);
+		Integer[] data = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			data[i] = rand.nextInt();
+		}
+		return data;
+	}
+
+	/**
+	 * SinglyLinkedList has no tail, so it is filled from the front instead.
+	 */
+	static P6List<Integer> fill(P6List<Integer> list, Integer[] data) {
+		if (list instanceof SinglyLinkedList) {
+			for (int i = data.length - 1; i >= 0; i--) {
+				list.addFront(data[i]);
+			}
+		} else {
+			for (Integer x : data) {
+				list.addBack(x);
+			}
+		}
+		return list;
+	}
+}
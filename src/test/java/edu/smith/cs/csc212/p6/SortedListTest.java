@@ -0,0 +1,227 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.OutOfOrderError;
+
+public class SortedListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new SortedList<String>(Comparator.naturalOrder()).removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		P6List<String> data = new SortedList<String>(Comparator.naturalOrder());
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=OutOfOrderError.class)
+	public void testAddBackOutOfOrder() {
+		P6List<String> data = new SortedList<String>(Comparator.naturalOrder());
+		data.addBack("b");
+		data.addBack("a");
+	}
+
+	@Test(expected=OutOfOrderError.class)
+	public void testAddIndexOutOfOrder() {
+		P6List<String> data = new SortedList<String>(Comparator.naturalOrder());
+		data.addBack("a");
+		data.addBack("c");
+		data.addIndex("d", 1);
+	}
+
+	@Test
+	public void testPositionalAddsInOrder() {
+		P6List<String> data = new SortedList<String>(Comparator.naturalOrder());
+		data.addBack("b");
+		data.addFront("a");
+		data.addBack("d");
+		data.addIndex("c", 2);
+		data.addIndex("c", 3);
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getIndex(2));
+		Assert.assertEquals("c", data.getIndex(3));
+		Assert.assertEquals("d", data.getBack());
+	}
+
+	@Test
+	public void testBounds() {
+		SortedList<Integer> data = new SortedList<>(Comparator.naturalOrder());
+		for (int x : new int[] { 5, 1, 3, 3, 3, 9, 7 }) {
+			data.insertSorted(x);
+		}
+		// 1 3 3 3 5 7 9
+		Assert.assertEquals(1, data.lowerBound(3));
+		Assert.assertEquals(4, data.upperBound(3));
+		Assert.assertEquals(1, data.binarySearch(3));
+		Assert.assertEquals(-1, data.binarySearch(0));
+		Assert.assertEquals(-5, data.binarySearch(4));
+		Assert.assertEquals(-8, data.binarySearch(10));
+		Assert.assertEquals(0, data.lowerBound(-5));
+		Assert.assertEquals(7, data.upperBound(9));
+		Assert.assertEquals(1, data.indexOf(3));
+		Assert.assertEquals(3, data.lastIndexOf(3));
+		Assert.assertEquals(-1, data.indexOf(4));
+		Assert.assertFalse(data.contains(8));
+
+		SortedList<Integer> middle = data.range(3, 7);
+		Assert.assertEquals(4, middle.size());
+		Assert.assertEquals(Integer.valueOf(3), middle.getFront());
+		Assert.assertEquals(Integer.valueOf(5), middle.getBack());
+		Assert.assertEquals(0, data.range(6, 7).size());
+		Assert.assertEquals(0, data.range(7, 3).size());
+		Assert.assertEquals(7, data.range(0, 100).size());
+	}
+
+	@Test
+	public void testInsertSortedIsStable() {
+		// compare by length only, so "b" and "a" are equal.
+		SortedList<String> data = new SortedList<>(Comparator.comparingInt(String::length));
+		Assert.assertEquals(0, data.insertSorted("b"));
+		Assert.assertEquals(1, data.insertSorted("xx"));
+		Assert.assertEquals(1, data.insertSorted("a"));
+		Assert.assertEquals(0, data.insertSorted(""));
+		Assert.assertEquals("b", data.getIndex(1));
+		Assert.assertEquals("a", data.getIndex(2));
+		Assert.assertEquals(2, data.indexOf("a"));
+		Assert.assertEquals(-1, data.indexOf("c"));
+	}
+
+	@Test
+	public void testMatchesSortedArrayList() {
+		SortedList<Integer> data = new SortedList<>(Comparator.naturalOrder());
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(212);
+		for (int i = 0; i < 3000; i++) {
+			int roll = rand.nextInt(10);
+			Integer value = rand.nextInt(100);
+			if (roll < 6) {
+				int at = data.insertSorted(value);
+				Assert.assertEquals(value, data.getIndex(at));
+				expected.add(value);
+				Collections.sort(expected);
+			} else if (roll < 8 && !expected.isEmpty()) {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			} else {
+				Assert.assertEquals(expected.indexOf(value), data.indexOf(value));
+				Assert.assertEquals(expected.lastIndexOf(value), data.lastIndexOf(value));
+				int lower = 0;
+				while (lower < expected.size() && expected.get(lower) < value) {
+					lower++;
+				}
+				Assert.assertEquals(lower, data.lowerBound(value));
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		int i = 0;
+		for (Integer x : data) {
+			Assert.assertEquals(expected.get(i++), x);
+		}
+		Assert.assertEquals(expected.size(), i);
+	}
+	
+	@Test
+	public void testSortOnlyChecksOrder() {
+		P6List<String> data = new SortedList<String>(Comparator.naturalOrder());
+		for (String s : new String[] {"d", "a", "c", "b", "e", "a"}) {
+			((SortedList<String>) data).insertSorted(s);
+		}
+		data.sort(Comparator.naturalOrder());
+		Assert.assertEquals(6, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getBack());
+		try {
+			data.sort(Comparator.reverseOrder());
+			Assert.fail("sorted lists can't be put in another order");
+		} catch (OutOfOrderError expected) {
+			// and nothing moved:
+			Assert.assertEquals("a", data.getFront());
+			Assert.assertEquals(6, data.size());
+		}
+	}
+	
+	@Test
+	public void testAddAllChecksOrder() {
+		SortedList<String> data = new SortedList<String>(Comparator.naturalOrder());
+		for (String s : new String[] {"a", "c", "e", "g"}) {
+			data.insertSorted(s);
+		}
+		P6List<String> more = new GrowableList<>();
+		more.addBack("d");
+		more.addBack("d");
+		more.addBack("e");
+		data.addAll(2, more);
+		Assert.assertEquals(7, data.size());
+		Assert.assertEquals("c", data.getIndex(1));
+		Assert.assertEquals("d", data.getIndex(2));
+		Assert.assertEquals("e", data.getIndex(4));
+		Assert.assertEquals("e", data.getIndex(5));
+		
+		// "b" is fine after "a" but "e" isn't before "c": nothing is added.
+		P6List<String> wrong = new GrowableList<>();
+		wrong.addBack("b");
+		wrong.addBack("e");
+		try {
+			data.addAll(1, wrong);
+			Assert.fail("e doesn't go before c");
+		} catch (OutOfOrderError expected) {
+			Assert.assertEquals(7, data.size());
+		}
+		
+		// a list is always in order with itself, but not at the back.
+		try {
+			data.addAllBack(data);
+			Assert.fail("a doesn't go after g");
+		} catch (OutOfOrderError expected) {
+			Assert.assertEquals(7, data.size());
+		}
+		P6List<String> tail = new GrowableList<>();
+		tail.addBack("g");
+		tail.addBack("h");
+		data.addAllBack(tail);
+		Assert.assertEquals("h", data.getBack());
+		Assert.assertEquals(9, data.size());
+	}
+	
+	@Test
+	public void testBulkRemovesKeepOrder() {
+		SortedList<Integer> data = new SortedList<Integer>(Comparator.naturalOrder());
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(50);
+		for (int i = 0; i < 100; i++) {
+			int x = rand.nextInt(1000);
+			data.insertSorted(x);
+			expected.add(x);
+		}
+		Collections.sort(expected);
+		data.removeRange(10, 30);
+		expected.subList(10, 30).clear();
+		data.removeIf(x -> x % 2 == 0);
+		expected.removeIf(x -> x % 2 == 0);
+		data.removeIndices(new int[] { 0, 5 });
+		expected.remove(5);
+		expected.remove(0);
+		data.insertSorted(501);
+		expected.add(501);
+		Collections.sort(expected);
+		
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Comparator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class StampedLockListTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		new StampedLockList<String>(new GrowableList<String>()).getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		P6List<String> data = new StampedLockList<String>(new FixedSizeList<String>(4));
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testFixedSizeStillFills() {
+		P6List<String> data = new StampedLockList<String>(new FixedSizeList<String>(1));
+		data.addBack("a");
+		data.addBack("b");
+	}
+
+	@Test
+	public void testDelegates() {
+		P6List<String> data = new StampedLockList<String>(new GrowableList<String>());
+		Assert.assertTrue(data.isEmpty());
+		data.addBack("b");
+		data.addFront("a");
+		data.addIndex("c", 2);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("b", data.getIndex(1));
+		Assert.assertEquals("c", data.getBack());
+		Assert.assertEquals("b", data.removeIndex(1));
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("c", data.removeBack());
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testReadersDuringWrites() throws InterruptedException {
+		final P6List<Integer> data = new StampedLockList<Integer>(new GrowableList<Integer>());
+		for (int i = 0; i < 16; i++) {
+			data.addBack(i);
+		}
+		Thread writer = new Thread(() -> {
+			for (int i = 0; i < 20000; i++) {
+				data.addBack(i);
+				data.removeBack();
+			}
+		});
+		writer.start();
+		for (int i = 0; i < 20000; i++) {
+			Assert.assertEquals(Integer.valueOf(i % 16), data.getIndex(i % 16));
+			Assert.assertEquals(Integer.valueOf(0), data.getFront());
+		}
+		writer.join();
+		Assert.assertEquals(16, data.size());
+	}
+	
+	@Test
+	public void testAddAllToItself() {
+		P6List<String> data = new StampedLockList<String>(new GrowableList<String>());
+		data.addBack("a");
+		data.addBack("b");
+		// the write lock isn't reentrant, so this would hang if it read through the wrapper.
+		data.addAll(1, data);
+		data.addAllBack(data);
+		Assert.assertEquals(8, data.size());
+		Assert.assertEquals("a", data.getIndex(1));
+		Assert.assertEquals("b", data.getIndex(2));
+		Assert.assertEquals("b", data.getBack());
+	}
+	
+	@Test
+	public void testBulkRemoves() {
+		StampedLockList<Integer> data = new StampedLockList<>(new GrowableList<>());
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		data.removeRange(2, 5);
+		Assert.assertEquals(3, data.removeIf(x -> x % 3 == 0));
+		data.removeIndices(new int[] { 0, 2 });
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals(5, (int) data.getFront());
+		Assert.assertEquals(8, (int) data.getBack());
+	}
+
+	@Test
+	public void testSortSortsWrappedList() {
+		FixedSizeList<Integer> inner = new FixedSizeList<>(8);
+		StampedLockList<Integer> data = new StampedLockList<>(inner);
+		for (int x : new int[] {5, 1, 4, 2, 3}) {
+			data.addBack(x);
+		}
+		data.sort(Comparator.reverseOrder());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals(5 - i, (int) data.getIndex(i));
+			Assert.assertEquals(5 - i, (int) inner.getIndex(i));
+		}
+		// the write lock was given back: another write doesn't hang.
+		data.addBack(0);
+		Assert.assertEquals(0, (int) data.getBack());
+	}
+}
@@ -0,0 +1,89 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StripedLRUCacheTest {
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testTooSmallCrash() {
+		new StripedLRUCache<String, Integer>(3, 4);
+	}
+
+	@Test
+	public void testStripeCountRoundsUp() {
+		Assert.assertEquals(1, new StripedLRUCache<String, Integer>(10, 1).stripeCount());
+		Assert.assertEquals(4, new StripedLRUCache<String, Integer>(10, 3).stripeCount());
+		Assert.assertEquals(8, new StripedLRUCache<String, Integer>(10, 8).stripeCount());
+	}
+
+	@Test
+	public void testGetPutRemove() {
+		StripedLRUCache<Integer, String> cache = new StripedLRUCache<>(100, 4);
+		for (int i = 0; i < 50; i++) {
+			cache.put(i, "v" + i);
+		}
+		Assert.assertEquals(50, cache.size());
+		Assert.assertEquals("v7", cache.get(7));
+		Assert.assertNull(cache.get(500));
+		Assert.assertEquals("v7", cache.remove(7));
+		Assert.assertFalse(cache.containsKey(7));
+		Assert.assertEquals(1, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void testNeverOverCapacity() {
+		StripedLRUCache<Integer, Integer> cache = new StripedLRUCache<>(64, 4);
+		AtomicLong evicted = new AtomicLong();
+		cache.setEvictionListener((k, v) -> evicted.incrementAndGet());
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		Assert.assertTrue(cache.size() <= 64);
+		Assert.assertEquals(1000 - cache.size(), cache.getEvictions());
+		Assert.assertEquals(cache.getEvictions(), evicted.get());
+	}
+
+	@Test
+	public void testConcurrent() throws InterruptedException {
+		final StripedLRUCache<Integer, Integer> cache = new StripedLRUCache<>(256, 8);
+		final int perThread = 20000;
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int seed = t;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					int key = (i * 31 + seed) % 512;
+					if (cache.get(key) == null) {
+						cache.put(key, key);
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		Assert.assertEquals(threads.length * perThread, cache.getHits() + cache.getMisses());
+		Assert.assertTrue(cache.size() <= 256);
+		for (int key = 0; key < 512; key++) {
+			Integer value = cache.get(key);
+			Assert.assertTrue(value == null || value == key);
+		}
+	}
+
+	@Test
+	public void testUsesEveryStripe() {
+		// one entry per stripe: if only 16 hash bits picked the stripe, at most
+		// 65536 of them could ever hold anything.
+		int stripes = 1 << 17;
+		StripedLRUCache<Integer, Integer> cache = new StripedLRUCache<>(stripes, stripes);
+		for (int i = 0; i < stripes; i++) {
+			cache.put(i, i);
+		}
+		Assert.assertTrue(cache.size() > (1 << 16));
+	}
+}
@@ -0,0 +1,61 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Not a unit test: run main() by hand to compare {@linkplain TieredVector}
+ * against {@linkplain GrowableList} and {@linkplain ChunkyLinkedList}.
+ * 
+ * For each size we time random getIndex calls, and random middle edits (a
+ * removeIndex followed by an addIndex at the same place, so the size stays
+ * put). Prints nanoseconds per operation.
+ */
+public class TieredVectorBenchmark {
+	static final int CHUNK_SIZE = 64;
+	static final int OPS = 20000;
+
+	public static void main(String[] args) {
+		for (int n : new int[] {1000, 10000, 100000}) {
+			report("growable", n, GrowableList::new);
+			report("chunky", n, () -> new ChunkyLinkedList<>(CHUNK_SIZE));
+			report("tiered", n, TieredVector::new);
+		}
+	}
+
+	static void report(String name, int n, Supplier<P6List<Integer>> factory) {
+		P6List<Integer> list = factory.get();
+		for (int i = 0; i < n; i++) {
+			list.addBack(i);
+		}
+		Random rand = new Random(n);
+		long sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < OPS; i++) {
+			sink += list.getIndex(rand.nextInt(n));
+		}
+		long getNanos = (System.nanoTime() - start) / OPS;
+
+		start = System.nanoTime();
+		for (int i = 0; i < OPS; i++) {
+			int at = middleIndex(rand, n);
+			Integer x = list.removeIndex(at);
+			list.addIndex(x, at);
+		}
+		long editNanos = (System.nanoTime() - start) / OPS;
+		System.out.printf("%-9s n=%7d getIndex %8d ns/op   remove+add %10d ns/op%s%n", name, n, getNanos, editNanos,
+				sink == 42 ? " " : "");
+	}
+
+	/**
+	 * ChunkyLinkedList.addIndex can't split a full chunk, so never pick the
+	 * last slot of a chunk: the add then lands in the chunk we just removed from.
+	 */
+	static int middleIndex(Random rand, int n) {
+		int at = rand.nextInt(n - 1);
+		if (at % CHUNK_SIZE == CHUNK_SIZE - 1) {
+			at--;
+		}
+		return at;
+	}
+}
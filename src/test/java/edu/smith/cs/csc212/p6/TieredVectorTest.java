@@ -0,0 +1,120 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class TieredVectorTest {
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new TieredVector<String>().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		TieredVector<String> data = new TieredVector<>();
+		data.addBack("a");
+		data.getIndex(-1);
+	}
+
+	@Test
+	public void testBlocksGrowAndShrink() {
+		TieredVector<Integer> data = new TieredVector<>();
+		for (int i = 0; i < 5000; i++) {
+			data.addBack(i);
+		}
+		Assert.assertTrue(data.blockSize() >= 64);
+		Assert.assertTrue(data.blockSize() <= 128);
+		for (int i = 0; i < 5000; i++) {
+			Assert.assertEquals(Integer.valueOf(i), data.getIndex(i));
+		}
+		for (int i = 0; i < 4990; i++) {
+			Assert.assertEquals(Integer.valueOf(i), data.removeFront());
+		}
+		Assert.assertTrue(data.blockSize() <= 8);
+		Assert.assertEquals(Integer.valueOf(4990), data.getFront());
+		Assert.assertEquals(Integer.valueOf(4999), data.getBack());
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		TieredVector<Integer> data = new TieredVector<>();
+		for (int step = 0; step < 20000; step++) {
+			if (rand.nextInt(10) < 6 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				data.addIndex(step, at);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		while (!expected.isEmpty()) {
+			Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testIndexOf() {
+		ListChecks.checkIndexOf(new TieredVector<>());
+	}
+
+	@Test
+	public void testIndexOfInTurnedRings() {
+		// adding at the front turns every block's ring, so heads are not 0.
+		TieredVector<Integer> data = new TieredVector<>();
+		for (int i = 0; i < 100; i++) {
+			data.addFront(i % 10);
+		}
+		Assert.assertEquals(9, data.indexOf(0));
+		Assert.assertEquals(90, data.lastIndexOf(9));
+		Assert.assertEquals(-1, data.indexOf(10));
+	}
+
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new TieredVector<>());
+	}
+
+	@Test
+	public void testBulkEdits() {
+		ListChecks.checkBulkEdits(new TieredVector<>());
+	}
+
+	@Test
+	public void testBulkEditsResizeBlocks() {
+		TieredVector<Integer> data = new TieredVector<>();
+		P6List<Integer> batch = new GrowableList<>();
+		for (int i = 0; i < 5000; i++) {
+			batch.addBack(i);
+		}
+		data.addAllBack(batch);
+		Assert.assertEquals(128, data.blockSize());
+		data.removeRange(10, 5000);
+		Assert.assertEquals(4, data.blockSize());
+		Assert.assertEquals(10, data.size());
+		Assert.assertEquals(Integer.valueOf(9), data.getBack());
+		data.addAll(5, batch);
+		Assert.assertEquals(5010, data.size());
+		Assert.assertEquals(Integer.valueOf(4), data.getIndex(4));
+		Assert.assertEquals(Integer.valueOf(0), data.getIndex(5));
+		Assert.assertEquals(Integer.valueOf(5), data.getIndex(5005));
+		Assert.assertEquals(4990, data.removeIf(x -> x >= 10));
+		Assert.assertEquals(20, data.size());
+		Assert.assertEquals(8, data.blockSize());
+	}
+}
@@ -0,0 +1,161 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.TracingList.Op;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class TracingListTest {
+
+	private static Trace decode(ByteArrayOutputStream bytes) throws IOException {
+		return Trace.read(new ByteArrayInputStream(bytes.toByteArray()));
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TracingList<String> data = new TracingList<>(new GrowableList<>(), bytes);
+		data.addBack("a");
+		data.addFront("b");
+		data.addIndex("c", 1);
+		Assert.assertEquals("c", data.getIndex(1));
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("b", data.removeFront());
+		Assert.assertEquals("a", data.removeIndex(1));
+		data.close();
+
+		Trace trace = decode(bytes);
+		Assert.assertEquals(7, trace.length());
+		Assert.assertEquals(7, data.getRecordedCount());
+		Op[] ops = { Op.ADD_BACK, Op.ADD_FRONT, Op.ADD_INDEX, Op.GET_INDEX, Op.SIZE, Op.REMOVE_FRONT, Op.REMOVE_INDEX };
+		int[] sizes = { 0, 1, 2, 3, 3, 3, 2 };
+		for (int i = 0; i < ops.length; i++) {
+			Assert.assertEquals(ops[i], trace.op(i));
+			Assert.assertEquals(sizes[i], trace.sizeBefore(i));
+		}
+		Assert.assertEquals(1, trace.index(2));
+		Assert.assertEquals(1, trace.index(6));
+		Assert.assertEquals(4, trace.maxSize());
+	}
+
+	@Test
+	public void testFailuresNotRecorded() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TracingList<String> data = new TracingList<>(new GrowableList<>(), bytes);
+		try {
+			data.removeBack();
+			Assert.fail("expected EmptyListError");
+		} catch (EmptyListError expected) {
+			// good.
+		}
+		data.addBack("a");
+		data.close();
+		Trace trace = decode(bytes);
+		Assert.assertEquals(1, trace.length());
+		Assert.assertEquals(Op.ADD_BACK, trace.op(0));
+	}
+
+	@Test
+	public void testBigIndexesAndStartingSize() throws IOException {
+		GrowableList<Integer> inner = new GrowableList<>();
+		for (int i = 0; i < 300000; i++) {
+			inner.addBack(i);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TracingList<Integer> data = new TracingList<>(inner, bytes);
+		Assert.assertEquals(Integer.valueOf(299999), data.getIndex(299999));
+		data.close();
+		Trace trace = decode(bytes);
+		Assert.assertEquals(299999, trace.index(0));
+		Assert.assertEquals(300000, trace.initialSize());
+	}
+
+	@Test(expected=IOException.class)
+	public void testNotATrace() throws IOException {
+		Trace.read(new ByteArrayInputStream("hello world".getBytes()));
+	}
+
+	@Test
+	public void testReplayMatches() throws IOException {
+		Trace trace = TraceReplay.demoTrace();
+		for (TraceReplay.Candidate candidate : TraceReplay.candidates(trace.maxSize())) {
+			if (candidate.name.startsWith("ChunkyLinkedList")) {
+				// its addIndex can't split a full chunk.
+				continue;
+			}
+			P6List<Object> list = TraceReplay.prepare(trace, candidate);
+			Assert.assertEquals(candidate.name, 0, TraceReplay.replay(trace, list));
+		}
+	}
+	
+	@Test
+	public void testAddAllRecordsEachItem() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TracingList<String> data = new TracingList<>(new GrowableList<>(), bytes);
+		data.addBack("a");
+		data.addAll(0, data);
+		data.addAllBack(data);
+		data.close();
+		
+		Trace trace = decode(bytes);
+		Op[] ops = { Op.ADD_BACK, Op.ADD_INDEX, Op.ADD_BACK, Op.ADD_BACK };
+		int[] sizes = { 0, 1, 2, 3 };
+		Assert.assertEquals(ops.length, trace.length());
+		for (int i = 0; i < ops.length; i++) {
+			Assert.assertEquals(ops[i], trace.op(i));
+			Assert.assertEquals(sizes[i], trace.sizeBefore(i));
+		}
+		Assert.assertEquals(0, trace.index(1));
+	}
+	
+	@Test
+	public void testBulkRemovesRecordEachItem() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TracingList<String> data = new TracingList<>(new GrowableList<>(), bytes);
+		for (String s : new String[] {"a", "b", "c", "d", "e"}) {
+			data.addBack(s);
+		}
+		data.removeRange(1, 3);
+		Assert.assertEquals(1, data.removeIf(s -> s.equals("e")));
+		data.removeIndices(new int[] { 0, 1 });
+		data.close();
+		
+		Trace trace = decode(bytes);
+		Assert.assertEquals(10, trace.length());
+		int[] indices = { 1, 1, 2, 0, 0 };
+		for (int i = 0; i < indices.length; i++) {
+			Assert.assertEquals(Op.REMOVE_INDEX, trace.op(5 + i));
+			Assert.assertEquals(indices[i], trace.index(5 + i));
+			Assert.assertEquals(5 - i, trace.sizeBefore(5 + i));
+		}
+	}
+
+	@Test
+	public void testWorkCounts() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TracingList<String> data = new TracingList<>(new GrowableList<>(), bytes);
+		for (int i = 0; i < 4; i++) {
+			data.addBack("a");
+		}
+		data.addFront("b");
+		data.addIndex("c", 1);
+		data.getIndex(3);
+		data.size();
+		data.removeFront();
+		data.removeBack();
+		data.close();
+
+		TraceReplay.Work work = TraceReplay.Work.of(decode(bytes));
+		// addFront moves 4, addIndex(1) of 5 moves 4, removeFront of 6 moves 5.
+		Assert.assertEquals(13, work.arrayMoves);
+		// addBack walks 0+1+2+3, addIndex 1, getIndex 3, removeBack of 5 walks 4.
+		Assert.assertEquals(14, work.frontSteps);
+		// only addIndex(1) and getIndex(3) of 6 are away from both ends.
+		Assert.assertEquals(3, work.nearerEndSteps);
+	}
+}
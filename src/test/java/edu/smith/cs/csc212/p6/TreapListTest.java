@@ -0,0 +1,128 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class TreapListTest {
+
+	public static void assertSame(List<Integer> expected, TreapList<Integer> data) {
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		int i = 0;
+		for (Integer x : data) {
+			Assert.assertEquals(expected.get(i++), x);
+		}
+		Assert.assertEquals(expected.size(), i);
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new TreapList<String>().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexCrash() {
+		new TreapList<String>().addIndex("a", 1);
+	}
+
+	@Test
+	public void testEnds() {
+		TreapList<String> data = new TreapList<>(1);
+		data.addBack("b");
+		data.addFront("a");
+		data.addBack("c");
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("c", data.removeBack());
+		Assert.assertEquals("b", data.removeIndex(0));
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random rand = new Random(212);
+		List<Integer> expected = new ArrayList<>();
+		TreapList<Integer> data = new TreapList<>(42);
+		for (int step = 0; step < 20000; step++) {
+			if (rand.nextInt(10) < 6 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size() + 1);
+				expected.add(at, step);
+				data.addIndex(step, at);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			}
+		}
+		assertSame(expected, data);
+	}
+
+	@Test
+	public void testSplitAndConcat() {
+		Random rand = new Random(7);
+		TreapList<Integer> data = new TreapList<>(3);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		for (int round = 0; round < 100; round++) {
+			int cut = rand.nextInt(data.size() + 1);
+			TreapList<Integer> back = data.split(cut);
+			Assert.assertEquals(cut, data.size());
+			back.concat(data);
+			Assert.assertTrue(data.isEmpty());
+			data = back;
+			List<Integer> rotated = new ArrayList<>(expected.subList(cut, expected.size()));
+			rotated.addAll(expected.subList(0, cut));
+			expected = rotated;
+		}
+		assertSame(expected, data);
+	}
+
+	@Test
+	public void testIndexOf() {
+		ListChecks.checkIndexOf(new TreapList<>(1));
+	}
+
+	@Test
+	public void testAddAll() {
+		ListChecks.checkAddAll(new TreapList<>(2));
+	}
+
+	@Test
+	public void testBulkEdits() {
+		ListChecks.checkBulkEdits(new TreapList<>(3));
+	}
+
+	@Test
+	public void testBulkEditsAcrossLeaves() {
+		TreapList<Integer> data = new TreapList<>(4);
+		List<Integer> expected = new ArrayList<>();
+		P6List<Integer> batch = new GrowableList<>();
+		for (int i = 0; i < 1000; i++) {
+			batch.addBack(i);
+			expected.add(i);
+		}
+		data.addAllBack(batch);
+		// cut inside leaves at both ends of the range.
+		data.removeRange(TreapList.LEAF_SIZE / 2, 1000 - TreapList.LEAF_SIZE / 2);
+		expected.subList(TreapList.LEAF_SIZE / 2, 1000 - TreapList.LEAF_SIZE / 2).clear();
+		assertSame(expected, data);
+		data.addAll(TreapList.LEAF_SIZE / 3, data);
+		expected.addAll(TreapList.LEAF_SIZE / 3, new ArrayList<>(expected));
+		assertSame(expected, data);
+		Assert.assertEquals(expected.size() / 2, data.removeIf(x -> x % 2 == 0));
+		expected.removeIf(x -> x % 2 == 0);
+		assertSame(expected, data);
+	}
+}
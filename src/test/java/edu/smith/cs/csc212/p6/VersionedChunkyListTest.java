@@ -0,0 +1,235 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.ReadOnlyError;
+
+public class VersionedChunkyListTest {
+
+	public static int num = 4;
+
+	public VersionedChunkyList<Integer> makeList(int n) {
+		VersionedChunkyList<Integer> data = new VersionedChunkyList<>(num);
+		for (int i = 0; i < n; i++) {
+			data.addBack(i);
+		}
+		return data;
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new VersionedChunkyList<String>(num).removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexCrash() {
+		makeList(3).getIndex(3);
+	}
+
+	@Test
+	public void testListOperations() {
+		VersionedChunkyList<Integer> data = makeList(10);
+		data.addFront(-1);
+		data.addIndex(100, 5);
+		data.addIndex(200, 1);
+		Assert.assertEquals(13, data.size());
+		Assert.assertEquals(Integer.valueOf(-1), data.getFront());
+		Assert.assertEquals(Integer.valueOf(200), data.getIndex(1));
+		Assert.assertEquals(Integer.valueOf(100), data.getIndex(6));
+		Assert.assertEquals(Integer.valueOf(9), data.getBack());
+		Assert.assertEquals(Integer.valueOf(100), data.removeIndex(6));
+		Assert.assertEquals(Integer.valueOf(-1), data.removeFront());
+		Assert.assertEquals(Integer.valueOf(9), data.removeBack());
+		Assert.assertEquals(Integer.valueOf(200), data.removeFront());
+		for (int i = 0; i < 9; i++) {
+			Assert.assertEquals(Integer.valueOf(i), data.removeFront());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testSnapshotIsPinned() {
+		VersionedChunkyList<Integer> data = makeList(6);
+		VersionedChunkyList.Snapshot<Integer> snap = data.snapshot();
+		data.addBack(6);
+		data.removeFront();
+		data.addIndex(-5, 2);
+		Assert.assertEquals(6, snap.size());
+		for (int i = 0; i < 6; i++) {
+			Assert.assertEquals(Integer.valueOf(i), snap.getIndex(i));
+		}
+		Assert.assertEquals(Integer.valueOf(1), data.getFront());
+		Assert.assertEquals(Integer.valueOf(-5), data.getIndex(2));
+		Assert.assertEquals(Integer.valueOf(6), data.getBack());
+		Assert.assertTrue(data.getChunkCopies() > 0);
+		snap.release();
+		Assert.assertEquals(0, data.liveSnapshotCount());
+	}
+
+	@Test
+	public void testCopiesOnlySharedChunks() {
+		VersionedChunkyList<Integer> data = makeList(8);
+		VersionedChunkyList.Snapshot<Integer> snap = data.snapshot();
+		// both chunks are full, so appending needs a fresh chunk and copies nothing.
+		for (int i = 8; i < 16; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(0, data.getChunkCopies());
+		data.removeFront();
+		data.removeFront();
+		Assert.assertEquals(1, data.getChunkCopies());
+		snap.release();
+		data.removeFront();
+		Assert.assertEquals(1, data.getChunkCopies());
+		Assert.assertEquals(8, snap.size());
+	}
+
+	@Test(expected=ReadOnlyError.class)
+	public void testSnapshotReadOnly() {
+		makeList(3).snapshot().addBack(4);
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void testReleasedSnapshot() {
+		VersionedChunkyList<Integer> data = makeList(3);
+		try (VersionedChunkyList.Snapshot<Integer> snap = data.snapshot()) {
+			snap.release();
+			snap.getIndex(0);
+		}
+	}
+
+	@Test
+	public void testReaderDuringAppends() throws InterruptedException {
+		final VersionedChunkyList<Integer> data = makeList(100);
+		Thread writer = new Thread(() -> {
+			for (int i = 100; i < 5000; i++) {
+				data.addBack(i);
+			}
+		});
+		writer.start();
+		for (int round = 0; round < 50; round++) {
+			try (VersionedChunkyList.Snapshot<Integer> snap = data.snapshot()) {
+				for (int i = 0; i < snap.size(); i++) {
+					Assert.assertEquals(Integer.valueOf(i), snap.getIndex(i));
+				}
+			}
+		}
+		writer.join();
+		Assert.assertEquals(5000, data.size());
+	}
+	
+	@Test
+	public void testAddAllLeavesSnapshot() {
+		VersionedChunkyList<Integer> data = makeList(6);
+		VersionedChunkyList.Snapshot<Integer> snap = data.snapshot();
+		P6List<Integer> more = new GrowableList<>();
+		for (int i = 0; i < 9; i++) {
+			more.addBack(100 + i);
+		}
+		data.addAll(3, more);
+		data.addAll(0, snap);
+		data.addAllBack(data);
+		Assert.assertEquals(2 * (6 + 9 + 6), data.size());
+		Assert.assertEquals(6, snap.size());
+		for (int i = 0; i < 6; i++) {
+			Assert.assertEquals(i, (int) snap.getIndex(i));
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+		Assert.assertEquals(2, (int) data.getIndex(8));
+		Assert.assertEquals(100, (int) data.getIndex(9));
+		Assert.assertEquals(108, (int) data.getIndex(17));
+		Assert.assertEquals(3, (int) data.getIndex(18));
+		Assert.assertEquals(5, (int) data.getBack());
+		snap.release();
+	}
+	
+	@Test
+	public void testBulkRemovesLeaveSnapshot() {
+		VersionedChunkyList<Integer> data = makeList(30);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			expected.add(i);
+		}
+		VersionedChunkyList.Snapshot<Integer> snap = data.snapshot();
+		data.removeRange(2, 13);
+		expected.subList(2, 13).clear();
+		Assert.assertEquals(6, data.removeIf(x -> x % 3 == 0));
+		expected.removeIf(x -> x % 3 == 0);
+		data.removeIndices(new int[] { 0, 3, 4, 11 });
+		for (int index : new int[] { 11, 4, 3, 0 }) {
+			expected.remove(index);
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(30, snap.size());
+		for (int i = 0; i < 30; i++) {
+			Assert.assertEquals(i, (int) snap.getIndex(i));
+		}
+		try {
+			snap.removeRange(0, 1);
+			Assert.fail("snapshots are read-only");
+		} catch (ReadOnlyError expectedError) {
+			// good
+		}
+		snap.release();
+		
+		data.removeRange(0, data.size());
+		Assert.assertTrue(data.isEmpty());
+		data.addBack(1);
+		Assert.assertEquals(1, (int) data.getFront());
+	}
+
+	@Test
+	public void testSortLeavesSnapshot() {
+		VersionedChunkyList<Integer> data = makeList(10);
+		VersionedChunkyList.Snapshot<Integer> snap = data.snapshot();
+		data.sort(Comparator.reverseOrder());
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(9 - i, (int) data.getIndex(i));
+			Assert.assertEquals(i, (int) snap.getIndex(i));
+		}
+		// sort makes new chunks; the ones the snapshot holds are never copied.
+		Assert.assertEquals(0, data.getChunkCopies());
+		snap.release();
+	}
+
+	@Test
+	public void testSortWithPartlyFullChunksLeavesSnapshot() {
+		VersionedChunkyList<Integer> data = new VersionedChunkyList<>(num);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			data.addIndex(i, i / 2);
+			expected.add(i / 2, i);
+		}
+		data.removeIndex(3);
+		expected.remove(3);
+		VersionedChunkyList.Snapshot<Integer> snap = data.snapshot();
+		data.sort(Comparator.naturalOrder());
+		// writes after the sort go to the new chunks and stay out of the snapshot.
+		data.addBack(100);
+		data.removeFront();
+		Assert.assertEquals(0, data.getChunkCopies());
+		Assert.assertEquals(expected.size(), snap.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), snap.getIndex(i));
+		}
+		List<Integer> sorted = new ArrayList<>(expected);
+		sorted.sort(Comparator.naturalOrder());
+		sorted.remove(0);
+		sorted.add(100);
+		Assert.assertEquals(sorted.size(), data.size());
+		for (int i = 0; i < sorted.size(); i++) {
+			Assert.assertEquals(sorted.get(i), data.getIndex(i));
+		}
+		snap.release();
+	}
+}